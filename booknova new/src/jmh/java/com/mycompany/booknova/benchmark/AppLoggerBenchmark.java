@@ -0,0 +1,64 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.infra.logging.AppLogger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many log entries per second the application threads can hand
+ * to {@link AppLogger}, with one and with four logging threads. The log goes
+ * to a temporary directory, never to the project's app.log.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AppLoggerBenchmark {
+    
+    private Path logDirectory;
+    private AppLogger logger;
+    
+    @Setup
+    public void setUp() throws IOException {
+        logDirectory = Files.createTempDirectory("libronova-log-bench");
+        System.setProperty("log.file.path", logDirectory.resolve("app.log").toString());
+        System.setProperty("log.rotation.compress", "false");
+        logger = AppLogger.getInstance();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        logger.shutdown();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public void logInfo() {
+        logger.logInfo("BENCHMARK", "Loan created for member MEM-000123 and book 978-0-000456-7");
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public void logInfoContended() {
+        logger.logInfo("BENCHMARK", "Loan created for member MEM-000123 and book 978-0-000456-7");
+    }
+}
@@ -0,0 +1,43 @@
+package com.mycompany.booknova.benchmark;
+
+/**
+ * Embedded H2 database (MariaDB mode) for benchmarks of the JDBC
+ * repositories. Selects the {@code db.backend=h2} backend of
+ * {@code ConnectionDB} through system properties, so it must be started
+ * before the first repository is created in the benchmark JVM; the database
+ * is created and filled when the first connection is requested.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+final class BenchmarkDatabase {
+    
+    private static final String URL =
+        "jdbc:h2:mem:libronova_bench;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    
+    private static boolean started;
+    
+    private BenchmarkDatabase() {
+    }
+    
+    /**
+     * Redirects the application's connection settings to a generated
+     * database of the given size, once per JVM.
+     * 
+     * @param books the number of books to generate
+     * @param members the number of members to generate
+     * @param loans the number of loans to generate
+     */
+    static synchronized void start(int books, int members, int loans) {
+        if (started) {
+            return;
+        }
+        System.setProperty("db.backend", "h2");
+        System.setProperty("db.h2.url", URL);
+        System.setProperty("db.h2.seed.books", String.valueOf(books));
+        System.setProperty("db.h2.seed.members", String.valueOf(members));
+        System.setProperty("db.h2.seed.loans", String.valueOf(loans));
+        System.setProperty("db.migrations.enabled", "false");
+        started = true;
+    }
+}
@@ -0,0 +1,89 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.ui.SearchText;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Filters a book catalog the way the books view does on each keystroke:
+ * with the precomputed {@link SearchText} keys, and with per-field
+ * lower-casing as a baseline. One operation is one book checked.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BookSearchBenchmark {
+    
+    private static final int BOOKS = 10_000;
+    private static final String[] CATEGORIES = {"Fiction", "Science", "Technology", "History", "Biography", "Children"};
+    
+    @Param({"isaacson", "978-0-0012", "zzz"})
+    public String query;
+    
+    private String[][] fields;
+    private String[] keys;
+    private String normalizedQuery;
+    
+    @Setup
+    public void setUp() {
+        fields = new String[BOOKS][];
+        keys = new String[BOOKS];
+        for (int i = 0; i < BOOKS; i++) {
+            String[] book = {
+                "Book Title Number " + i,
+                i % 97 == 0 ? "Walter Isaacson" : "Author " + (i % 500),
+                String.format("978-0-%06d-%d", i, i % 10),
+                CATEGORIES[i % CATEGORIES.length]
+            };
+            fields[i] = book;
+            keys[i] = SearchText.key(book);
+        }
+        normalizedQuery = SearchText.normalize(query);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public int searchKeys() {
+        int matches = 0;
+        for (String key : keys) {
+            if (SearchText.matches(key, normalizedQuery)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public int lowerCaseEachField() {
+        String lowerQuery = query.toLowerCase(Locale.ROOT);
+        int matches = 0;
+        for (String[] book : fields) {
+            for (String field : book) {
+                if (field.toLowerCase(Locale.ROOT).contains(lowerQuery)) {
+                    matches++;
+                    break;
+                }
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,176 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.LoanReportRow;
+import com.mycompany.booknova.service.reports.CsvEncoder;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the CSV encoder with the previous escape-and-concatenate export
+ * code on an overdue-loans report. One operation is one row; run with
+ * {@code -prof gc} (the profile default) to see allocated bytes per row in
+ * {@code gc.alloc.rate.norm}.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvEncoderBenchmark {
+    
+    private static final int ROWS = 10_000;
+    private static final String CSV_SEPARATOR = ",";
+    private static final String CSV_QUOTE = "\"";
+    
+    private static final String[] FIRST_NAMES = {"Juan", "María", "Carlos", "Ana", "José", "Lucía"};
+    private static final String[] LAST_NAMES = {"Pérez", "González", "Rodríguez", "López", "Martínez"};
+    private static final String[] TITLES = {
+        "Clean Code", "The Pragmatic Programmer", "JavaScript: The Good Parts",
+        "Domain-Driven Design, Tackling Complexity", "Cien años de soledad", "El \"Quijote\""
+    };
+    
+    private List<LoanReportRow> rows;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.of(2024, 6, 1);
+        rows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate loanDate = today.minusDays(20 + random.nextInt(60));
+            rows.add(new LoanReportRow(i + 1,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                    String.format("M%05d", random.nextInt(50000)),
+                    TITLES[random.nextInt(TITLES.length)],
+                    "978-0-" + (100 + random.nextInt(900)) + "-" + (10000 + random.nextInt(90000)) + "-" + random.nextInt(10),
+                    loanDate, loanDate.plusDays(14), LoanStatus.ACTIVE,
+                    random.nextInt(45), BigDecimal.valueOf(random.nextInt(5000), 2)));
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long csvEncoder() throws IOException {
+        DiscardingChannel channel = new DiscardingChannel();
+        try (CsvEncoder csv = new CsvEncoder(channel, CsvEncoder.DEFAULT_BUFFER_SIZE)) {
+            for (LoanReportRow row : rows) {
+                csv.field(row.getLoanId());
+                csv.field(row.getMemberName());
+                csv.field(row.getMemberNumber());
+                csv.field(row.getBookTitle());
+                csv.field(row.getIsbn());
+                csv.field(row.getLoanDate());
+                csv.field(row.getExpectedReturnDate());
+                csv.field(row.getDaysOverdue());
+                csv.field(row.getPenalty());
+                csv.endRow();
+            }
+        }
+        return channel.bytes;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long escapeAndConcatenate() throws IOException {
+        CountingOutputStream output = new CountingOutputStream();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024)) {
+            for (LoanReportRow row : rows) {
+                writer.append(String.valueOf(row.getLoanId())).append(CSV_SEPARATOR);
+                writer.append(escapeCsvField(row.getMemberName())).append(CSV_SEPARATOR);
+                writer.append(escapeCsvField(row.getMemberNumber())).append(CSV_SEPARATOR);
+                writer.append(escapeCsvField(row.getBookTitle())).append(CSV_SEPARATOR);
+                writer.append(escapeCsvField(row.getIsbn())).append(CSV_SEPARATOR);
+                writer.append(row.getLoanDate().toString()).append(CSV_SEPARATOR);
+                writer.append(row.getExpectedReturnDate().toString()).append(CSV_SEPARATOR);
+                writer.append(String.valueOf(row.getDaysOverdue())).append(CSV_SEPARATOR);
+                writer.append(row.getPenalty() != null ? row.getPenalty().toString() : "0.00");
+                writer.append("\n");
+            }
+        }
+        return output.bytes;
+    }
+    
+    /**
+     * The field escaping the report services used before the encoder.
+     */
+    private static String escapeCsvField(String field) {
+        if (field == null) {
+            return "";
+        }
+        if (field.contains(CSV_SEPARATOR) || field.contains(CSV_QUOTE) || field.contains("\n") || field.contains("\r")) {
+            return CSV_QUOTE + field.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
+        }
+        return field;
+    }
+    
+    /**
+     * Channel that counts and drops everything written to it.
+     */
+    private static final class DiscardingChannel implements WritableByteChannel {
+        private long bytes;
+        private boolean open = true;
+        
+        @Override
+        public int write(ByteBuffer src) {
+            int written = src.remaining();
+            src.position(src.limit());
+            bytes += written;
+            return written;
+        }
+        
+        @Override
+        public boolean isOpen() {
+            return open;
+        }
+        
+        @Override
+        public void close() {
+            open = false;
+        }
+    }
+    
+    /**
+     * Stream that counts and drops everything written to it.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private long bytes;
+        
+        @Override
+        public void write(int b) {
+            bytes++;
+        }
+        
+        @Override
+        public void write(byte[] b, int off, int len) {
+            bytes += len;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Runs the overdue and penalty rules of {@link Loan} over a large batch of
+ * loans, as the overdue report and the nightly penalty update do.
+ * One operation is one loan.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanPenaltyBenchmark {
+    
+    private static final int LOANS = 100_000;
+    private static final BigDecimal PENALTY_PER_DAY = new BigDecimal("1.50");
+    
+    private Loan[] loans;
+    
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.now();
+        loans = new Loan[LOANS];
+        for (int i = 0; i < LOANS; i++) {
+            Loan loan = new Loan();
+            LocalDate loanDate = today.minusDays(random.nextInt(60));
+            loan.setLoanDate(loanDate);
+            loan.setExpectedReturnDate(loanDate.plusDays(15));
+            if (random.nextInt(3) == 0) {
+                loan.setActualReturnDate(loanDate.plusDays(random.nextInt(30)));
+                loan.setStatus(LoanStatus.RETURNED);
+            } else {
+                loan.setStatus(LoanStatus.ACTIVE);
+            }
+            loans[i] = loan;
+        }
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public BigDecimal calculatePenalty() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (Loan loan : loans) {
+            total = total.add(loan.calculatePenalty(PENALTY_PER_DAY));
+        }
+        return total;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public int isOverdue() {
+        int overdue = 0;
+        for (Loan loan : loans) {
+            if (loan.isOverdue()) {
+                overdue++;
+            }
+        }
+        return overdue;
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public long getOverdueDays() {
+        long days = 0;
+        for (Loan loan : loans) {
+            days += loan.getOverdueDays();
+        }
+        return days;
+    }
+}
@@ -0,0 +1,104 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.Member.MembershipType;
+import com.mycompany.booknova.exceptions.LibroNovaException;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.service.LoanService;
+import com.mycompany.booknova.service.impl.LoanServiceImpl;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks books out and back in through {@link LoanServiceImpl} on the
+ * in-memory repositories, with one and with four threads. This is the
+ * service-level baseline without database round trips; one operation is a
+ * loan created and returned.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanServiceBenchmark {
+    
+    private static final int BOOKS = 1_000;
+    private static final int MEMBERS = 1_000;
+    private static final long USER_ID = 1L;
+    
+    private LoanService loanService;
+    private long firstBookId;
+    private long firstMemberId;
+    
+    @Setup
+    public void setUp() throws IOException, LibroNovaException {
+        System.setProperty("repository.type", "memory");
+        System.setProperty("log.file.path",
+                Files.createTempDirectory("libronova-loan-bench").resolve("app.log").toString());
+        System.setProperty("log.rotation.compress", "false");
+        
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        for (int i = 1; i <= BOOKS; i++) {
+            Book book = repositories.bookRepository().save(new Book(null, String.format("978-0-%06d-%d", i, i % 10),
+                    "Book title number " + i, "Author " + (i % 500), "Publisher", 2000, "Fiction", 1_000, 1_000));
+            if (i == 1) {
+                firstBookId = book.getId();
+            }
+        }
+        for (int i = 1; i <= MEMBERS; i++) {
+            Member member = repositories.memberRepository().save(new Member(null, String.format("MEM-%06d", i),
+                    "First" + i, "Last" + i, String.valueOf(1_000_000_000L + i), "member" + i + "@email.com",
+                    null, null, LocalDate.now(), true, MembershipType.VIP));
+            if (i == 1) {
+                firstMemberId = member.getId();
+            }
+        }
+        loanService = new LoanServiceImpl();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        AppLogger.getInstance().shutdown();
+    }
+    
+    @Benchmark
+    @Threads(1)
+    public Loan checkoutAndReturn() throws LibroNovaException {
+        return checkoutAndReturnRandomBook();
+    }
+    
+    @Benchmark
+    @Threads(4)
+    public Loan checkoutAndReturnContended() throws LibroNovaException {
+        return checkoutAndReturnRandomBook();
+    }
+    
+    private Loan checkoutAndReturnRandomBook() throws LibroNovaException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Loan loan = loanService.createLoan(firstMemberId + random.nextInt(MEMBERS),
+                firstBookId + random.nextInt(BOOKS), USER_ID);
+        return loanService.returnBook(loan.getId());
+    }
+}
@@ -0,0 +1,86 @@
+package com.mycompany.booknova.benchmark;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.MemberRepositoryJdbc;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reads whole tables through the JDBC repositories from an embedded H2
+ * database, measuring query plus result-set mapping. One operation is one
+ * mapped row.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RepositoryMappingBenchmark {
+    
+    private static final int BOOKS = 2_000;
+    private static final int MEMBERS = 1_000;
+    private static final int LOANS = 5_000;
+    
+    private BookRepositoryJdbc bookRepository;
+    private MemberRepositoryJdbc memberRepository;
+    private LoanRepositoryJdbc loanRepository;
+    
+    @Setup
+    public void setUp() {
+        BenchmarkDatabase.start(BOOKS, MEMBERS, LOANS);
+        bookRepository = new BookRepositoryJdbc();
+        memberRepository = new MemberRepositoryJdbc();
+        loanRepository = new LoanRepositoryJdbc();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public List<Book> findAllBooks() throws DatabaseException {
+        return bookRepository.findAll();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(BOOKS)
+    public long streamAllBooks(Blackhole blackhole) throws DatabaseException {
+        return bookRepository.streamAll(blackhole::consume);
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(MEMBERS)
+    public List<Member> findAllMembers() throws DatabaseException {
+        return memberRepository.findAll();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public List<Loan> findAllLoans() throws DatabaseException {
+        return loanRepository.findAll();
+    }
+    
+    @Benchmark
+    @OperationsPerInvocation(LOANS)
+    public long streamAllLoans(Blackhole blackhole) throws DatabaseException {
+        return loanRepository.streamAll(blackhole::consume);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mycompany.booknova.domain;
+
+/**
+ * Snapshot of the library figures shown on the dashboard.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class DashboardStatistics {
+    private final long totalBooks;
+    private final long totalCopies;
+    private final long availableCopies;
+    private final long activeMembers;
+    private final long activeLoans;
+    private final long overdueLoans;
+    
+    public DashboardStatistics(long totalBooks, long totalCopies, long availableCopies,
+                               long activeMembers, long activeLoans, long overdueLoans) {
+        this.totalBooks = totalBooks;
+        this.totalCopies = totalCopies;
+        this.availableCopies = availableCopies;
+        this.activeMembers = activeMembers;
+        this.activeLoans = activeLoans;
+        this.overdueLoans = overdueLoans;
+    }
+    
+    public long getTotalBooks() { return totalBooks; }
+    
+    public long getTotalCopies() { return totalCopies; }
+    
+    public long getAvailableCopies() { return availableCopies; }
+    
+    public long getActiveMembers() { return activeMembers; }
+    
+    public long getActiveLoans() { return activeLoans; }
+    
+    public long getOverdueLoans() { return overdueLoans; }
+    
+    @Override
+    public String toString() {
+        return "DashboardStatistics{" +
+                "totalBooks=" + totalBooks +
+                ", totalCopies=" + totalCopies +
+                ", availableCopies=" + availableCopies +
+                ", activeMembers=" + activeMembers +
+                ", activeLoans=" + activeLoans +
+                ", overdueLoans=" + overdueLoans +
+                '}';
+    }
+}
@@ -0,0 +1,66 @@
+package com.mycompany.booknova.domain;
+
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Flat view of a loan with just the columns the loan reports print.
+ * Read straight from a report query, without building the member, book and
+ * user entities of a full {@link Loan}.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class LoanReportRow {
+    private final long loanId;
+    private final String memberName;
+    private final String memberNumber;
+    private final String bookTitle;
+    private final String isbn;
+    private final LocalDate loanDate;
+    private final LocalDate expectedReturnDate;
+    private final LoanStatus status;
+    private final long daysOverdue;
+    private final BigDecimal penalty;
+    
+    public LoanReportRow(long loanId, String memberName, String memberNumber,
+                         String bookTitle, String isbn, LocalDate loanDate,
+                         LocalDate expectedReturnDate, LoanStatus status,
+                         long daysOverdue, BigDecimal penalty) {
+        this.loanId = loanId;
+        this.memberName = memberName;
+        this.memberNumber = memberNumber;
+        this.bookTitle = bookTitle;
+        this.isbn = isbn;
+        this.loanDate = loanDate;
+        this.expectedReturnDate = expectedReturnDate;
+        this.status = status;
+        this.daysOverdue = daysOverdue;
+        this.penalty = penalty;
+    }
+    
+    public long getLoanId() { return loanId; }
+    
+    public String getMemberName() { return memberName; }
+    
+    public String getMemberNumber() { return memberNumber; }
+    
+    public String getBookTitle() { return bookTitle; }
+    
+    public String getIsbn() { return isbn; }
+    
+    public LocalDate getLoanDate() { return loanDate; }
+    
+    public LocalDate getExpectedReturnDate() { return expectedReturnDate; }
+    
+    public LoanStatus getStatus() { return status; }
+    
+    /**
+     * Days past the expected return date as computed by the database:
+     * positive when overdue, zero on the due date, negative before it.
+     */
+    public long getDaysOverdue() { return daysOverdue; }
+    
+    public BigDecimal getPenalty() { return penalty; }
+}
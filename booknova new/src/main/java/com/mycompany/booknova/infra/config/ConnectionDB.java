@@ -1,10 +1,13 @@
 package com.mycompany.booknova.infra.config;
 
 import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.infra.migration.EmbeddedDatabase;
+import com.mycompany.booknova.infra.monitoring.QueryTracker;
+import com.mycompany.booknova.infra.monitoring.SlowQueryLog;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
 import java.io.IOException;
 import java.io.InputStream;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Properties;
 import java.util.logging.Level;
@@ -13,6 +16,9 @@ import java.util.logging.Logger;
 /**
  * Singleton class for managing database connections.
  * Provides a centralized connection pool management for the LibroNova application.
+ * Connections are borrowed from a bounded {@link ConnectionPool} sized from config.properties.
+ * With {@code db.backend=h2} the pool connects to an embedded H2 database in
+ * MariaDB compatibility mode instead, created by {@link EmbeddedDatabase}.
  * 
  * @author LibroNova Development Team
  * @version 1.0
@@ -31,6 +37,29 @@ public class ConnectionDB {
     private String user;
     private String password;
     private String driver;
+    private boolean embedded;
+    
+    // Embedded database seed sizes
+    private int seedBooks;
+    private int seedMembers;
+    private int seedLoans;
+    
+    // Connection pool parameters
+    private int poolMinSize;
+    private int poolMaxSize;
+    private long poolConnectionTimeoutMs;
+    private int poolValidationTimeoutSeconds;
+    private long poolIdleTimeoutMs;
+    private long poolMaxLifetimeMs;
+    private long poolLeakDetectionThresholdMs;
+    private int poolStatementCacheSize;
+    
+    // Query parameters
+    private int streamFetchSize;
+    private int batchSize;
+    private int slowQuerySummarySize;
+    
+    private ConnectionPool pool;
     
     /**
      * Private constructor to prevent external instantiation.
@@ -38,6 +67,15 @@ public class ConnectionDB {
      */
     private ConnectionDB() {
         loadConfiguration();
+        if (embedded) {
+            initializeEmbeddedDatabase();
+        }
+        this.pool = new ConnectionPool(url, user, password,
+                poolMinSize, poolMaxSize, poolConnectionTimeoutMs,
+                poolValidationTimeoutSeconds, poolIdleTimeoutMs,
+                poolMaxLifetimeMs, poolLeakDetectionThresholdMs,
+                poolStatementCacheSize);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "libronova-pool-shutdown"));
     }
     
     /**
@@ -71,24 +109,81 @@ public class ConnectionDB {
             }
             
             properties.load(input);
+            applySystemOverrides(properties);
             
             this.driver = properties.getProperty("db.driver", "org.mariadb.jdbc.Driver");
             this.url = properties.getProperty("db.url", 
-                "jdbc:mariadb://localhost:3306/libronova?useSSL=false&serverTimezone=UTC");
+                "jdbc:mariadb://localhost:3306/libronova?useSSL=false&serverTimezone=UTC&useBulkStmts=true&useBulkStmtsForInserts=true&useServerPrepStmts=true");
             this.user = properties.getProperty("db.user", "root");
             this.password = properties.getProperty("db.password", "Qwe.123*");
+            loadBackendConfiguration(properties);
+            
+            loadPoolConfiguration(properties);
+            loadQueryConfiguration(properties);
             
             // Load JDBC driver
             Class.forName(this.driver);
             
             LOGGER.log(Level.INFO, "Database configuration loaded successfully.");
             appLogger.logInfo("CONNECTION_DB", "Database configuration loaded successfully");
-            
+        
         } catch (IOException e) {
             LOGGER.log(Level.SEVERE, "Error loading config.properties file.", e);
             loadDefaultConfiguration();
         } catch (ClassNotFoundException e) {
-            LOGGER.log(Level.SEVERE, "MariaDB JDBC Driver not found.", e);
+            LOGGER.log(Level.SEVERE, "JDBC Driver not found: " + this.driver, e);
+        }
+    }
+    
+    /**
+     * Switches the connection settings to the embedded H2 database when
+     * {@code db.backend} is {@code h2}. Any other value keeps MariaDB.
+     * 
+     * @param properties the application properties
+     */
+    private void loadBackendConfiguration(Properties properties) {
+        String backend = properties.getProperty("db.backend", "mariadb").trim();
+        this.embedded = "h2".equalsIgnoreCase(backend);
+        if (!embedded) {
+            return;
+        }
+        this.driver = "org.h2.Driver";
+        this.url = properties.getProperty("db.h2.url", EmbeddedDatabase.DEFAULT_URL);
+        this.user = properties.getProperty("db.h2.user", "sa");
+        this.password = properties.getProperty("db.h2.password", "");
+        this.seedBooks = parseInt(properties, "db.h2.seed.books", 0);
+        this.seedMembers = parseInt(properties, "db.h2.seed.members", 0);
+        this.seedLoans = parseInt(properties, "db.h2.seed.loans", 0);
+    }
+    
+    /**
+     * Creates the schema and data of the embedded database if it is new.
+     * A failure is logged; the pool then reports it on the first connection.
+     */
+    private void initializeEmbeddedDatabase() {
+        try {
+            long start = System.currentTimeMillis();
+            if (EmbeddedDatabase.initialize(url, user, password, seedBooks, seedMembers, seedLoans)) {
+                appLogger.logInfo("CONNECTION_DB", "Embedded H2 database created in "
+                        + (System.currentTimeMillis() - start) + " ms");
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.SEVERE, "Error creating the embedded H2 database.", e);
+            appLogger.logError("CONNECTION_DB", "Error creating the embedded H2 database: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Lets {@code -Ddb.*} system properties override config.properties, e.g.
+     * to point benchmarks or integration tests at another database.
+     * 
+     * @param properties the application properties
+     */
+    private void applySystemOverrides(Properties properties) {
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("db.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
         }
     }
     
@@ -98,10 +193,13 @@ public class ConnectionDB {
      */
     private void loadDefaultConfiguration() {
         this.driver = "org.mariadb.jdbc.Driver";
-        this.url = "jdbc:mariadb://localhost:3306/libronova?useSSL=false&serverTimezone=UTC";
+        this.url = "jdbc:mariadb://localhost:3306/libronova?useSSL=false&serverTimezone=UTC&useBulkStmts=true&useBulkStmtsForInserts=true&useServerPrepStmts=true";
         this.user = "root";
         this.password = "1234";
         
+        loadPoolConfiguration(new Properties());
+        loadQueryConfiguration(new Properties());
+        
         try {
             Class.forName(this.driver);
             LOGGER.log(Level.INFO, "Default database configuration loaded.");
@@ -111,18 +209,77 @@ public class ConnectionDB {
     }
     
     /**
-     * Establishes and returns a new database connection.
-     * This method should be used with try-with-resources to ensure proper closure.
+     * Loads connection pool sizing and timeouts.
+     * Missing or invalid values fall back to the defaults.
+     * 
+     * @param properties the application properties
+     */
+    private void loadPoolConfiguration(Properties properties) {
+        this.poolMinSize = parseInt(properties, "db.pool.minSize", 2);
+        this.poolMaxSize = parseInt(properties, "db.pool.maxSize", 10);
+        this.poolConnectionTimeoutMs = parseLong(properties, "db.pool.connectionTimeoutMs", 30000L);
+        this.poolValidationTimeoutSeconds = parseInt(properties, "db.pool.validationTimeoutSeconds", 5);
+        this.poolIdleTimeoutMs = parseLong(properties, "db.pool.idleTimeoutMs", 600000L);
+        this.poolMaxLifetimeMs = parseLong(properties, "db.pool.maxLifetimeMs", 1800000L);
+        this.poolLeakDetectionThresholdMs = parseLong(properties, "db.pool.leakDetectionThresholdMs", 60000L);
+        this.poolStatementCacheSize = parseInt(properties, "db.pool.statementCacheSize", 50);
+    }
+    
+    /**
+     * Loads query tuning settings.
+     * 
+     * @param properties the application properties
+     */
+    private void loadQueryConfiguration(Properties properties) {
+        this.streamFetchSize = parseInt(properties, "db.stream.fetchSize", 500);
+        this.batchSize = parseInt(properties, "db.batch.size", 500);
+        QueryTracker.getInstance().setEnabled(
+                Boolean.parseBoolean(properties.getProperty("db.instrumentation.enabled", "false").trim()));
+        if (Boolean.parseBoolean(properties.getProperty("db.slowQuery.enabled", "false").trim())) {
+            this.slowQuerySummarySize = parseInt(properties, "db.slowQuery.summarySize", 20);
+            QueryTracker.getInstance().setSlowQueryLog(new SlowQueryLog(
+                    parseLong(properties, "db.slowQuery.thresholdMs", 200L),
+                    parseInt(properties, "db.slowQuery.sampleRate", 1000)));
+        }
+    }
+    
+    private int parseInt(Properties properties, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid value for {0}, using {1}", new Object[] { key, defaultValue });
+            return defaultValue;
+        }
+    }
+    
+    private long parseLong(Properties properties, String key, long defaultValue) {
+        try {
+            return Long.parseLong(properties.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            LOGGER.log(Level.WARNING, "Invalid value for {0}, using {1}", new Object[] { key, defaultValue });
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Borrows a connection from the connection pool.
+     * This method should be used with try-with-resources: closing the
+     * connection returns it to the pool instead of closing the socket.
+     * If a transaction is active on the current thread, its connection is
+     * returned instead so that all repository calls join the transaction.
+     * The connection is instrumented when {@link QueryTracker} tracks the thread.
      * 
-     * @return a new Connection object
-     * @throws SQLException if a database access error occurs
+     * @return a pooled Connection object
+     * @throws SQLException if a database access error occurs or the pool is exhausted
      */
     public Connection getConnection() throws SQLException {
+        Connection transactional = TransactionManager.getInstance().getCurrentConnection();
+        if (transactional != null) {
+            return transactional;
+        }
+        
         try {
-            Connection connection = DriverManager.getConnection(url, user, password);
-            LOGGER.log(Level.FINE, "Database connection established successfully.");
-            appLogger.logDatabaseConnection(true);
-            return connection;
+            return QueryTracker.getInstance().track(pool.getConnection());
         } catch (SQLException e) {
             LOGGER.log(Level.SEVERE, "Error establishing database connection.", e);
             appLogger.logDatabaseConnection(false);
@@ -152,6 +309,48 @@ public class ConnectionDB {
         }
     }
     
+    /**
+     * Closes all pooled connections.
+     * Should be called once when the application exits.
+     */
+    public void shutdown() {
+        pool.shutdown();
+        LOGGER.log(Level.INFO, "Connection pool shut down. Statement cache hit rate: {0}%",
+                Math.round(pool.getStatementCacheHitRate() * 100));
+        SlowQueryLog slowQueryLog = QueryTracker.getInstance().getSlowQueryLog();
+        if (slowQueryLog != null) {
+            slowQueryLog.logSummary(slowQuerySummarySize);
+        }
+    }
+    
+    /**
+     * Gets the connection pool backing this instance.
+     * Useful for monitoring pool usage.
+     * 
+     * @return the connection pool
+     */
+    public ConnectionPool getPool() {
+        return pool;
+    }
+    
+    /**
+     * Gets the number of rows streaming queries fetch per round trip.
+     * 
+     * @return the streaming fetch size
+     */
+    public int getStreamFetchSize() {
+        return streamFetchSize;
+    }
+    
+    /**
+     * Gets the number of rows sent per JDBC batch by bulk writes.
+     * 
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
     /**
      * Gets the database URL.
      * 
@@ -161,6 +360,15 @@ public class ConnectionDB {
         return url;
     }
     
+    /**
+     * Checks whether the embedded H2 database is in use.
+     * 
+     * @return true if {@code db.backend} is {@code h2}
+     */
+    public boolean isEmbedded() {
+        return embedded;
+    }
+    
     /**
      * Gets the database user.
      * 
@@ -0,0 +1,472 @@
+package com.mycompany.booknova.infra.config;
+
+import com.mycompany.booknova.infra.logging.AppLogger;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded JDBC connection pool used by {@link ConnectionDB}.
+ * Physical connections are reused across repository calls; the objects handed
+ * out are proxies whose {@code close()} returns the connection to the pool.
+ * Supports min/max size, validation on borrow, idle eviction, max lifetime
+ * and leak detection. Each physical connection keeps a
+ * {@link PreparedStatementCache}, so repeated SQL is prepared once per connection.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class ConnectionPool {
+    
+    private static final Logger LOGGER = Logger.getLogger(ConnectionPool.class.getName());
+    
+    // Connections returned less than this long ago are handed out without a ping
+    private static final long VALIDATION_BYPASS_MS = 500;
+    private static final long HOUSEKEEPING_INTERVAL_MS = 30_000;
+    
+    private final AppLogger appLogger = AppLogger.getInstance();
+    
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long connectionTimeoutMs;
+    private final int validationTimeoutSeconds;
+    private final long idleTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long leakDetectionThresholdMs;
+    private final int statementCacheSize;
+    
+    private final LinkedBlockingDeque<PoolEntry> idleConnections = new LinkedBlockingDeque<>();
+    private final Set<PoolEntry> allConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicLong createdConnections = new AtomicLong();
+    private final AtomicLong statementCacheHits = new AtomicLong();
+    private final AtomicLong statementCacheMisses = new AtomicLong();
+    private final ScheduledExecutorService housekeeper;
+    private volatile boolean shutdown;
+    
+    public ConnectionPool(String url, String user, String password,
+                          int minSize, int maxSize, long connectionTimeoutMs,
+                          int validationTimeoutSeconds, long idleTimeoutMs,
+                          long maxLifetimeMs, long leakDetectionThresholdMs,
+                          int statementCacheSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool max size must be at least 1");
+        }
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.minSize = Math.max(0, Math.min(minSize, maxSize));
+        this.connectionTimeoutMs = connectionTimeoutMs;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.idleTimeoutMs = idleTimeoutMs;
+        this.maxLifetimeMs = maxLifetimeMs;
+        this.leakDetectionThresholdMs = leakDetectionThresholdMs;
+        this.statementCacheSize = Math.max(0, statementCacheSize);
+        
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "libronova-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.housekeeper.scheduleWithFixedDelay(this::housekeep,
+                HOUSEKEEPING_INTERVAL_MS, HOUSEKEEPING_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Borrows a connection from the pool, creating a new physical connection
+     * if none is idle and the pool has not reached its maximum size.
+     * 
+     * @return a pooled connection; closing it returns it to the pool
+     * @throws SQLException if no connection becomes available within the timeout
+     */
+    public Connection getConnection() throws SQLException {
+        if (shutdown) {
+            throw new SQLException("Connection pool has been shut down");
+        }
+        
+        long deadline = System.currentTimeMillis() + connectionTimeoutMs;
+        
+        while (true) {
+            PoolEntry entry = idleConnections.pollFirst();
+            
+            if (entry == null) {
+                entry = tryCreateEntry();
+                if (entry != null) {
+                    // Freshly created, no validation needed
+                    return lend(entry);
+                }
+                
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new SQLException("Timed out after " + connectionTimeoutMs +
+                            " ms waiting for a database connection (pool size " + maxSize + ")");
+                }
+                try {
+                    entry = idleConnections.pollFirst(remaining, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a database connection", e);
+                }
+                if (entry == null) {
+                    continue;
+                }
+            }
+            
+            if (isExpired(entry) || !isValid(entry)) {
+                destroy(entry);
+                continue;
+            }
+            
+            return lend(entry);
+        }
+    }
+    
+    /**
+     * Closes all idle connections and stops the housekeeping thread.
+     * Connections currently in use are closed when they are returned.
+     */
+    public void shutdown() {
+        shutdown = true;
+        housekeeper.shutdownNow();
+        
+        PoolEntry entry;
+        while ((entry = idleConnections.pollFirst()) != null) {
+            destroy(entry);
+        }
+    }
+    
+    public int getTotalConnections() {
+        return totalConnections.get();
+    }
+    
+    public int getIdleConnections() {
+        return idleConnections.size();
+    }
+    
+    public int getActiveConnections() {
+        return Math.max(0, totalConnections.get() - idleConnections.size());
+    }
+    
+    public long getCreatedConnections() {
+        return createdConnections.get();
+    }
+    
+    public int getMaxSize() {
+        return maxSize;
+    }
+    
+    public long getStatementCacheHits() {
+        return statementCacheHits.get();
+    }
+    
+    public long getStatementCacheMisses() {
+        return statementCacheMisses.get();
+    }
+    
+    /**
+     * Gets the fraction of prepareStatement calls served from the statement caches.
+     * 
+     * @return the hit rate between 0 and 1
+     */
+    public double getStatementCacheHitRate() {
+        long hits = statementCacheHits.get();
+        long total = hits + statementCacheMisses.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+    
+    /**
+     * Creates a new physical connection if the pool still has capacity.
+     * 
+     * @return the new entry, or null if the pool is full
+     * @throws SQLException if the connection cannot be established
+     */
+    private PoolEntry tryCreateEntry() throws SQLException {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= maxSize) {
+                return null;
+            }
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        
+        try {
+            Connection physical = DriverManager.getConnection(url, user, password);
+            PreparedStatementCache statementCache = statementCacheSize > 0
+                    ? new PreparedStatementCache(statementCacheSize, statementCacheHits, statementCacheMisses)
+                    : null;
+            PoolEntry entry;
+            try {
+                entry = new PoolEntry(physical, statementCache);
+            } catch (SQLException e) {
+                physical.close();
+                throw e;
+            }
+            allConnections.add(entry);
+            createdConnections.incrementAndGet();
+            appLogger.logDatabaseConnection(true);
+            return entry;
+        } catch (SQLException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
+    
+    private Connection lend(PoolEntry entry) {
+        PooledConnectionHandler handler = new PooledConnectionHandler(entry);
+        
+        if (leakDetectionThresholdMs > 0) {
+            Exception borrowSite = new Exception("Connection borrowed by thread '" +
+                    Thread.currentThread().getName() + "'");
+            entry.leakTask = housekeeper.schedule(() -> {
+                String message = "Possible connection leak: connection not returned after " +
+                        leakDetectionThresholdMs + " ms";
+                LOGGER.log(Level.WARNING, message, borrowSite);
+                appLogger.logError("CONNECTION_POOL", message, borrowSite);
+            }, leakDetectionThresholdMs, TimeUnit.MILLISECONDS);
+        }
+        
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                handler);
+    }
+    
+    /**
+     * Returns a connection to the pool after resetting its session state:
+     * open work is rolled back, and auto-commit, read-only, isolation level
+     * and catalog are restored to the values the connection was created with.
+     */
+    private void release(PoolEntry entry) {
+        ScheduledFuture<?> leakTask = entry.leakTask;
+        if (leakTask != null) {
+            leakTask.cancel(false);
+            entry.leakTask = null;
+        }
+        
+        if (shutdown || entry.broken || isExpired(entry)) {
+            destroy(entry);
+            return;
+        }
+        
+        try {
+            Connection physical = entry.physical;
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly() != entry.defaultReadOnly) {
+                physical.setReadOnly(entry.defaultReadOnly);
+            }
+            if (physical.getTransactionIsolation() != entry.defaultIsolation) {
+                physical.setTransactionIsolation(entry.defaultIsolation);
+            }
+            if (entry.defaultCatalog != null && !entry.defaultCatalog.equals(physical.getCatalog())) {
+                physical.setCatalog(entry.defaultCatalog);
+            }
+            physical.clearWarnings();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, "Discarding connection that could not be reset.", e);
+            destroy(entry);
+            return;
+        }
+        
+        entry.lastReturnedAt = System.currentTimeMillis();
+        idleConnections.offerFirst(entry);
+    }
+    
+    private void destroy(PoolEntry entry) {
+        if (allConnections.remove(entry)) {
+            totalConnections.decrementAndGet();
+        }
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing physical connection.", e);
+        }
+        if (entry.statementCache != null) {
+            entry.statementCache.clear();
+        }
+    }
+    
+    private boolean isExpired(PoolEntry entry) {
+        return maxLifetimeMs > 0 && System.currentTimeMillis() - entry.createdAt > maxLifetimeMs;
+    }
+    
+    private boolean isValid(PoolEntry entry) {
+        if (System.currentTimeMillis() - entry.lastReturnedAt < VALIDATION_BYPASS_MS) {
+            return true;
+        }
+        try {
+            return entry.physical.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Evicts idle and expired connections and tops the pool back up to its minimum size.
+     */
+    private void housekeep() {
+        long now = System.currentTimeMillis();
+        
+        for (PoolEntry entry : idleConnections) {
+            boolean idleTooLong = idleTimeoutMs > 0 && now - entry.lastReturnedAt > idleTimeoutMs
+                    && totalConnections.get() > minSize;
+            if ((idleTooLong || isExpired(entry)) && idleConnections.remove(entry)) {
+                destroy(entry);
+            }
+        }
+        
+        try {
+            while (!shutdown && totalConnections.get() < minSize) {
+                PoolEntry entry = tryCreateEntry();
+                if (entry == null) {
+                    break;
+                }
+                idleConnections.offerLast(entry);
+            }
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Could not top up connection pool to minimum size.", e);
+        }
+    }
+    
+    /**
+     * Bookkeeping for one physical connection.
+     */
+    private static final class PoolEntry {
+        private final Connection physical;
+        private final PreparedStatementCache statementCache;
+        private final long createdAt;
+        // Session state restored on every return to the pool
+        private final boolean defaultReadOnly;
+        private final int defaultIsolation;
+        private final String defaultCatalog;
+        private volatile long lastReturnedAt;
+        private volatile boolean broken;
+        private volatile ScheduledFuture<?> leakTask;
+        
+        private PoolEntry(Connection physical, PreparedStatementCache statementCache) throws SQLException {
+            this.physical = physical;
+            this.statementCache = statementCache;
+            this.defaultReadOnly = physical.isReadOnly();
+            this.defaultIsolation = physical.getTransactionIsolation();
+            this.defaultCatalog = physical.getCatalog();
+            this.createdAt = System.currentTimeMillis();
+            this.lastReturnedAt = createdAt;
+        }
+    }
+    
+    /**
+     * Proxy handler that returns the physical connection to the pool on close.
+     */
+    private final class PooledConnectionHandler implements InvocationHandler {
+        private final PoolEntry entry;
+        private boolean closed;
+        
+        private PooledConnectionHandler(PoolEntry entry) {
+            this.entry = entry;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(entry);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || entry.physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + entry.physical + "]";
+                default:
+                    break;
+            }
+            
+            if (closed) {
+                throw new SQLException("Connection is closed");
+            }
+            
+            if (entry.statementCache != null && "prepareStatement".equals(method.getName())) {
+                String key = statementKey(args);
+                if (key != null) {
+                    return entry.statementCache.get(key, (Connection) proxy,
+                            () -> (PreparedStatement) invokePhysical(method, args));
+                }
+            }
+            
+            return invokePhysical(method, args);
+        }
+        
+        /**
+         * Builds the cache key for the prepareStatement overloads that take
+         * only an SQL string and int options.
+         * 
+         * @return the key, or null if this overload is not cached
+         */
+        private String statementKey(Object[] args) {
+            switch (args.length) {
+                case 1:
+                    return (String) args[0];
+                case 2:
+                    return args[1] instanceof Integer ? args[1] + "|" + args[0] : null;
+                case 3:
+                    return args[1] + "," + args[2] + "|" + args[0];
+                default:
+                    return null;
+            }
+        }
+        
+        private Object invokePhysical(Method method, Object[] args) throws SQLException {
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (IllegalAccessException e) {
+                throw new SQLException("Cannot invoke " + method.getName(), e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof SQLException) {
+                    String state = ((SQLException) cause).getSQLState();
+                    if (state != null && state.startsWith("08")) {
+                        // Connection exception class: never hand this connection out again
+                        entry.broken = true;
+                    }
+                    throw (SQLException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new SQLException(cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.mycompany.booknova.infra.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * LRU cache of prepared statements for one pooled connection.
+ * Statements are keyed by SQL text and prepare options. The statement handed
+ * out is a proxy: closing it resets its parameters and returns it to the cache,
+ * so the next call with the same SQL reuses the already prepared statement.
+ * Statements evicted while in use are closed when their user closes them.
+ * Statements that cannot be cached are handed out through the same proxy, so
+ * they also report the pooled connection as their own, and are closed on close.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class PreparedStatementCache {
+    
+    private static final Logger LOGGER = Logger.getLogger(PreparedStatementCache.class.getName());
+    
+    /**
+     * Prepares a statement on the physical connection.
+     */
+    @FunctionalInterface
+    public interface StatementFactory {
+        PreparedStatement prepare() throws SQLException;
+    }
+    
+    private final int maxSize;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final Map<String, CachedStatement> statements;
+    
+    /**
+     * Creates a cache.
+     * 
+     * @param maxSize the maximum number of statements kept open
+     * @param hits counter incremented when a cached statement is reused
+     * @param misses counter incremented when a statement has to be prepared
+     */
+    public PreparedStatementCache(int maxSize, AtomicLong hits, AtomicLong misses) {
+        this.maxSize = maxSize;
+        this.hits = hits;
+        this.misses = misses;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() > PreparedStatementCache.this.maxSize) {
+                    evict(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Returns a cached statement for the key, preparing and caching one if needed.
+     * If the cached statement is already in use (the same SQL prepared twice
+     * before the first was closed), an uncached statement is returned instead;
+     * its {@code close()} closes it.
+     * 
+     * @param key the SQL text plus prepare options
+     * @param owner the connection the statement should report as its own
+     * @param factory prepares the statement on a miss
+     * @return a statement whose {@code close()} returns it to the cache
+     * @throws SQLException if the statement cannot be prepared
+     */
+    public PreparedStatement get(String key, Connection owner, StatementFactory factory) throws SQLException {
+        synchronized (this) {
+            CachedStatement cached = statements.get(key);
+            if (cached != null && !cached.inUse) {
+                cached.inUse = true;
+                hits.incrementAndGet();
+                return cached.lease(owner);
+            }
+        }
+        
+        misses.incrementAndGet();
+        PreparedStatement physical = factory.prepare();
+        
+        synchronized (this) {
+            CachedStatement cached = new CachedStatement(physical);
+            cached.inUse = true;
+            if (statements.containsKey(key)) {
+                // Not cached: closed on give-back like an evicted statement
+                cached.evicted = true;
+                return cached.lease(owner);
+            }
+            statements.put(key, cached);
+            return cached.lease(owner);
+        }
+    }
+    
+    /**
+     * Forgets all statements. Used when the physical connection is closed,
+     * which closes its statements too.
+     */
+    public synchronized void clear() {
+        statements.clear();
+    }
+    
+    public synchronized int size() {
+        return statements.size();
+    }
+    
+    private void evict(CachedStatement cached) {
+        cached.evicted = true;
+        if (!cached.inUse) {
+            closeQuietly(cached.physical);
+        }
+    }
+    
+    /**
+     * Resets a statement after use and makes it available again.
+     */
+    private void giveBack(CachedStatement cached) {
+        boolean reusable = true;
+        try {
+            PreparedStatement physical = cached.physical;
+            physical.clearParameters();
+            physical.clearBatch();
+            physical.clearWarnings();
+            if (physical.getFetchSize() != 0) {
+                physical.setFetchSize(0);
+            }
+        } catch (SQLException e) {
+            reusable = false;
+        }
+        
+        synchronized (this) {
+            cached.inUse = false;
+            if (!reusable && !cached.evicted) {
+                statements.values().remove(cached);
+                cached.evicted = true;
+            }
+            if (cached.evicted) {
+                closeQuietly(cached.physical);
+            }
+        }
+    }
+    
+    private static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.FINE, "Error closing cached statement.", e);
+        }
+    }
+    
+    /**
+     * One cached physical statement.
+     */
+    private final class CachedStatement {
+        private final PreparedStatement physical;
+        private boolean inUse;
+        private boolean evicted;
+        
+        private CachedStatement(PreparedStatement physical) {
+            this.physical = physical;
+        }
+        
+        private PreparedStatement lease(Connection owner) {
+            return (PreparedStatement) Proxy.newProxyInstance(
+                    PreparedStatement.class.getClassLoader(),
+                    new Class<?>[] { PreparedStatement.class },
+                    new LeaseHandler(this, owner));
+        }
+    }
+    
+    /**
+     * Proxy handler for one use of a cached statement.
+     */
+    private final class LeaseHandler implements InvocationHandler {
+        private final CachedStatement cached;
+        private final Connection owner;
+        private boolean closed;
+        
+        private LeaseHandler(CachedStatement cached, Connection owner) {
+            this.cached = cached;
+            this.owner = owner;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        giveBack(cached);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || cached.physical.isClosed();
+                case "getConnection":
+                    return owner;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "CachedStatement[" + cached.physical + "]";
+                default:
+                    break;
+            }
+            
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            
+            try {
+                return method.invoke(cached.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
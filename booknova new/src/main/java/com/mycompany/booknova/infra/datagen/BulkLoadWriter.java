@@ -0,0 +1,121 @@
+package com.mycompany.booknova.infra.datagen;
+
+import com.mycompany.booknova.service.reports.CsvEncoder;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes generated data as CSV files plus a MariaDB script that bulk-loads
+ * them with {@code LOAD DATA LOCAL INFILE}, which is far faster than row by
+ * row inserts at millions of rows. The files carry explicit IDs, so the
+ * tables must be empty:
+ * <pre>
+ * mariadb --local-infile=1 -u root -p libronova &lt; target/data/load-data.sql
+ * </pre>
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class BulkLoadWriter {
+    
+    public static final String BOOKS_FILE = "books.csv";
+    public static final String MEMBERS_FILE = "members.csv";
+    public static final String LOANS_FILE = "loans.csv";
+    public static final String SCRIPT_FILE = "load-data.sql";
+    
+    private static final String BOOK_COLUMNS =
+        "id,isbn,title,author,publisher,publication_year,category,available_stock,total_stock";
+    private static final String MEMBER_COLUMNS =
+        "id,member_number,first_name,last_name,document_id,email,phone,address,registration_date,active,membership_type";
+    private static final String LOAN_COLUMNS =
+        "id,member_id,book_id,user_id,loan_date,expected_return_date,actual_return_date,status,penalty";
+    
+    /**
+     * Writes the three CSV files and the load script into a directory,
+     * replacing earlier files.
+     * 
+     * @param generator the data to write
+     * @param directory the target directory; created if missing
+     * @return the number of rows written
+     * @throws IOException if a file cannot be written
+     */
+    public long write(TestDataGenerator generator, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        long rows = writeBooks(generator, directory.resolve(BOOKS_FILE))
+                + writeMembers(generator, directory.resolve(MEMBERS_FILE))
+                + writeLoans(generator, directory.resolve(LOANS_FILE));
+        writeScript(directory);
+        return rows;
+    }
+    
+    private long writeBooks(TestDataGenerator generator, Path file) throws IOException {
+        try (CsvEncoder csv = CsvEncoder.open(file)) {
+            csv.raw(BOOK_COLUMNS + "\n");
+            long[] id = {0};
+            return generator.generateBooks(book -> {
+                csv.field(++id[0]).field(book.getIsbn()).field(book.getTitle()).field(book.getAuthor())
+                   .field(book.getPublisher()).field(book.getPublicationYear()).field(book.getCategory())
+                   .field(book.getAvailableStock()).field(book.getTotalStock()).endRow();
+            });
+        }
+    }
+    
+    private long writeMembers(TestDataGenerator generator, Path file) throws IOException {
+        try (CsvEncoder csv = CsvEncoder.open(file)) {
+            csv.raw(MEMBER_COLUMNS + "\n");
+            long[] id = {0};
+            return generator.generateMembers(member -> {
+                csv.field(++id[0]).field(member.getMemberNumber()).field(member.getFirstName())
+                   .field(member.getLastName()).field(member.getDocumentId()).field(member.getEmail())
+                   .field(member.getPhone()).field(member.getAddress()).field(member.getRegistrationDate())
+                   .field(member.getActive() ? 1 : 0).field(member.getMembershipType().name()).endRow();
+            });
+        }
+    }
+    
+    private long writeLoans(TestDataGenerator generator, Path file) throws IOException {
+        try (CsvEncoder csv = CsvEncoder.open(file)) {
+            csv.raw(LOAN_COLUMNS + "\n");
+            long[] id = {0};
+            return generator.generateLoans(loan -> {
+                csv.field(++id[0]).field(loan.getMember().getId()).field(loan.getBook().getId())
+                   .field(loan.getUser().getId()).field(loan.getLoanDate()).field(loan.getExpectedReturnDate())
+                   .field(loan.getActualReturnDate()).field(loan.getStatus().name()).field(loan.getPenalty())
+                   .endRow();
+            });
+        }
+    }
+    
+    /**
+     * Writes the load script. Key checks are off during the load because
+     * the files are consistent by construction.
+     */
+    private void writeScript(Path directory) throws IOException {
+        try (Writer script = Files.newBufferedWriter(directory.resolve(SCRIPT_FILE), StandardCharsets.UTF_8)) {
+            script.write("-- Generated by TestDataGenerator; load into empty tables\n");
+            script.write("SET foreign_key_checks = 0;\n");
+            script.write("SET unique_checks = 0;\n\n");
+            script.write(loadStatement(directory.resolve(BOOKS_FILE), "books", BOOK_COLUMNS, ""));
+            script.write(loadStatement(directory.resolve(MEMBERS_FILE), "members", MEMBER_COLUMNS, ""));
+            // An empty return date is NULL, not the zero date
+            script.write(loadStatement(directory.resolve(LOANS_FILE), "loans",
+                    LOAN_COLUMNS.replace("actual_return_date", "@actual_return_date"),
+                    "\nSET actual_return_date = NULLIF(@actual_return_date, '')"));
+            script.write("SET unique_checks = 1;\n");
+            script.write("SET foreign_key_checks = 1;\n");
+        }
+    }
+    
+    private static String loadStatement(Path file, String table, String columns, String set) {
+        String path = file.toAbsolutePath().toString().replace('\\', '/');
+        return "LOAD DATA LOCAL INFILE '" + path.replace("'", "\\'") + "'\n"
+                + "INTO TABLE " + table + " CHARACTER SET utf8mb4\n"
+                + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY ''\n"
+                + "LINES TERMINATED BY '\\n'\n"
+                + "IGNORE 1 LINES\n"
+                + "(" + columns.replace(",", ", ") + ")" + set + ";\n\n";
+    }
+}
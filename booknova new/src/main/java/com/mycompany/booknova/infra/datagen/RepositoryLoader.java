@@ -0,0 +1,156 @@
+package com.mycompany.booknova.infra.datagen;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.repository.RowCallback;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Inserts generated data through the configured repositories with their
+ * batched {@code saveAll}, so it works for both the JDBC and the in-memory
+ * repositories and the tables need not be empty. The IDs the repositories
+ * assign are remembered (8 bytes per book and member) and loans are pointed
+ * at them. Rows a repository rejects, e.g. an ISBN that already exists, are
+ * counted and logged; loans of rejected books or members are skipped.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class RepositoryLoader {
+    
+    private final AppLogger appLogger = AppLogger.getInstance();
+    private final RepositoryFactory repositories;
+    private final int batchSize;
+    private long rejected;
+    
+    /**
+     * Creates a loader that writes {@code db.batch.size} rows per call.
+     * 
+     * @param repositories the repositories to write to
+     */
+    public RepositoryLoader(RepositoryFactory repositories) {
+        this(repositories, repositories.isInMemory() ? 1000 : ConnectionDB.getInstance().getBatchSize());
+    }
+    
+    /**
+     * Creates a loader.
+     * 
+     * @param repositories the repositories to write to
+     * @param batchSize the number of rows per {@code saveAll} call
+     */
+    public RepositoryLoader(RepositoryFactory repositories, int batchSize) {
+        this.repositories = repositories;
+        this.batchSize = Math.max(1, batchSize);
+    }
+    
+    /**
+     * Inserts the books, the members and then the loans.
+     * 
+     * @param generator the data to insert
+     * @return the number of rows inserted
+     * @throws DatabaseException if a batch cannot be written
+     */
+    public long load(TestDataGenerator generator) throws DatabaseException {
+        long[] userIds = existingUserIds();
+        long[] bookIds = new long[generator.getBookCount()];
+        long[] memberIds = new long[generator.getMemberCount()];
+        long[] skipped = {0};
+        
+        long books = insert(generator::generateBooks, repositories.bookRepository()::saveAll, bookIds, Book::getId);
+        long members = insert(generator::generateMembers, repositories.memberRepository()::saveAll,
+                memberIds, Member::getId);
+        long loans = insert(callback -> generator.generateLoans(loan -> {
+            long bookId = bookIds[(int) (loan.getBook().getId() - 1)];
+            long memberId = memberIds[(int) (loan.getMember().getId() - 1)];
+            if (bookId == 0 || memberId == 0) {
+                skipped[0]++;
+                return;
+            }
+            loan.getBook().setId(bookId);
+            loan.getMember().setId(memberId);
+            loan.getUser().setId(userIds[(int) ((loan.getUser().getId() - 1) % userIds.length)]);
+            callback.accept(loan);
+        }), repositories.loanRepository()::saveAll, null, null);
+        
+        appLogger.logInfo("DATA_GENERATOR", String.format(
+                "Loaded %d books, %d members and %d loans (seed %d); %d rows rejected, %d loans skipped",
+                books, members, loans, generator.getSeed(), rejected, skipped[0]));
+        return books + members + loans;
+    }
+    
+    /**
+     * Gets the IDs of the users that record loans, in ID order.
+     */
+    private long[] existingUserIds() throws DatabaseException {
+        long[] ids = repositories.userRepository().findAll().stream()
+                .map(User::getId)
+                .sorted(Comparator.naturalOrder())
+                .mapToLong(Long::longValue)
+                .toArray();
+        if (ids.length == 0) {
+            throw new DatabaseException("Cannot generate loans: there are no users");
+        }
+        return ids;
+    }
+    
+    /**
+     * Inserts a generated table in chunks. If ids is given, the ID assigned
+     * to each row is stored at the row's position, or 0 if it was rejected.
+     */
+    private <T> long insert(Generation<T> generation, BatchWrite<T> write, long[] ids, Function<T, Long> idGetter)
+            throws DatabaseException {
+        List<T> chunk = new ArrayList<>(batchSize);
+        long[] written = {0};
+        int[] position = {0};
+        generation.generate(row -> {
+            chunk.add(row);
+            if (chunk.size() == batchSize) {
+                written[0] += flush(chunk, write, ids, idGetter, position);
+            }
+        });
+        written[0] += flush(chunk, write, ids, idGetter, position);
+        return written[0];
+    }
+    
+    private <T> long flush(List<T> chunk, BatchWrite<T> write, long[] ids, Function<T, Long> idGetter,
+                           int[] position) throws DatabaseException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        BatchResult<T> result = write.saveAll(new ArrayList<>(chunk));
+        if (result.hasErrors()) {
+            rejected += result.getErrors().size();
+            appLogger.logWarning("DATA_GENERATOR", result.getErrors().size() + " rows rejected, first: "
+                    + result.getErrors().get(0));
+        }
+        if (ids != null) {
+            for (int i = 0; i < chunk.size(); i++) {
+                if (!result.isRejected(i)) {
+                    ids[position[0] + i] = idGetter.apply(chunk.get(i));
+                }
+            }
+        }
+        position[0] += chunk.size();
+        chunk.clear();
+        return result.getSuccessCount();
+    }
+    
+    @FunctionalInterface
+    private interface Generation<T> {
+        long generate(RowCallback<T, DatabaseException> callback) throws DatabaseException;
+    }
+    
+    @FunctionalInterface
+    private interface BatchWrite<T> {
+        BatchResult<T> saveAll(List<T> rows) throws DatabaseException;
+    }
+}
@@ -0,0 +1,83 @@
+package com.mycompany.booknova.infra.datagen;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+
+/**
+ * Spanish word lists for generated people, addresses and titles. Many names
+ * carry accents and eñes, so generated data exercises UTF-8 handling,
+ * accent-insensitive search and collation the way real member data does.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+final class SpanishNames {
+    
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}");
+    
+    static final String[] FIRST_NAMES = {
+        "José", "María", "Juan", "Lucía", "Andrés", "Sofía", "Martín", "Valentina", "Sebastián", "Camila",
+        "Nicolás", "Isabel", "Tomás", "Mariana", "Joaquín", "Inés", "Ramón", "Begoña", "Íñigo", "Ángela",
+        "Raúl", "Verónica", "Óscar", "Mónica", "Jesús", "Beatriz", "Rubén", "Noelia", "Adrián", "Lourdes",
+        "Álvaro", "Pilar", "Germán", "Débora", "Héctor", "Rocío", "Víctor", "Nuria", "Julián", "Ainhoa",
+        "Carlos", "Laura", "Diego", "Carmen", "Pedro", "Elena", "Miguel", "Paula", "Javier", "Daniela"
+    };
+    
+    static final String[] SURNAMES = {
+        "García", "Rodríguez", "Martínez", "López", "González", "Pérez", "Sánchez", "Ramírez", "Hernández", "Díaz",
+        "Muñoz", "Jiménez", "Gómez", "Fernández", "Álvarez", "Ruiz", "Gutiérrez", "Núñez", "Ordóñez", "Ibáñez",
+        "Peña", "Castaño", "Cañas", "Montaño", "Saldaña", "Avendaño", "Beltrán", "Durán", "Galán", "Rincón",
+        "Guzmán", "Aragón", "Calderón", "Morales", "Vargas", "Castro", "Ortiz", "Suárez", "Rojas", "Vásquez",
+        "Mejía", "Restrepo", "Zuñiga", "Quiñones", "Echeverría", "Londoño", "Ospina", "Marín", "Patiño", "Ríos"
+    };
+    
+    static final String[] STREET_TYPES = {"Calle", "Carrera", "Avenida", "Transversal", "Diagonal"};
+    
+    static final String[] PUBLISHERS = {
+        "Planeta", "Anagrama", "Alfaguara", "Tusquets", "Seix Barral", "Siruela", "Salamandra", "Destino",
+        "Cátedra", "Akal", "Norma", "Penguin Random House", "Ediciones Era", "Fondo de Cultura Económica"
+    };
+    
+    static final String[] TITLE_SUBJECTS = {
+        "La sombra", "El jardín", "La memoria", "El último verano", "La casa", "El silencio", "La niña",
+        "El viaje", "La ciudad", "El guardián", "La canción", "El invierno", "La isla", "El secreto",
+        "La travesía", "El corazón", "La montaña", "El laberinto", "La señal", "El río"
+    };
+    
+    static final String[] TITLE_COMPLEMENTS = {
+        "del viento", "de los espíritus", "de la tarde", "del olvido", "de Macondo", "de las mariposas",
+        "del norte", "de los sueños", "de cristal", "del faro", "de la luna", "de papel", "sin nombre",
+        "de las palabras", "del desierto", "de otoño", "de los Andes", "en la niebla", "de la mañana", "del tiempo"
+    };
+    
+    static final String[] EMAIL_DOMAINS = {"correo.com", "email.com", "mail.co", "libronova.com"};
+    
+    /** The first names and surnames without accents, for email addresses. */
+    static final String[] FIRST_NAMES_ASCII = toAscii(FIRST_NAMES);
+    static final String[] SURNAMES_ASCII = toAscii(SURNAMES);
+    
+    private SpanishNames() {
+    }
+    
+    /**
+     * Picks a word from a list.
+     * 
+     * @param random the source of randomness
+     * @param words the list
+     * @return the index of the picked word
+     */
+    static int pick(SplittableRandom random, String[] words) {
+        return random.nextInt(words.length);
+    }
+    
+    private static String[] toAscii(String[] words) {
+        String[] ascii = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            String decomposed = Normalizer.normalize(words[i], Normalizer.Form.NFD);
+            ascii[i] = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+        }
+        return ascii;
+    }
+}
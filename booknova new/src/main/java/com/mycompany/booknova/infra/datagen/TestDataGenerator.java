@@ -0,0 +1,465 @@
+package com.mycompany.booknova.infra.datagen;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.Member.MembershipType;
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.repository.RowCallback;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Generates a reproducible library of any size with the skew of real data:
+ * <ul>
+ *   <li>Book popularity follows a Zipf distribution, so a few titles are
+ *       always out and most of the catalog is rarely borrowed</li>
+ *   <li>Borrowing activity is skewed across members too, more mildly</li>
+ *   <li>Membership mix of 70% BASIC, 22% PREMIUM and 8% VIP; 7% of members
+ *       are inactive</li>
+ *   <li>Two years of loans in ID order: loans of the last loan period are
+ *       mostly still out, a small share of older ones was never returned
+ *       (overdue) and 18% of the returned ones came back late with a
+ *       penalty</li>
+ *   <li>Spanish names with accents for members and authors</li>
+ * </ul>
+ * The data is consistent: a book's available stock is its total stock minus
+ * its active loans, and no member has more active loans than the membership
+ * allows or any active loan while inactive.
+ * 
+ * Every row is derived from the seed and its own index, so the same seed
+ * always gives the same rows, in any order and at any scale, and rows are
+ * streamed to a callback instead of held in memory. Loans refer to books,
+ * members and users by position: the n-th generated book, member and user
+ * have ID n when the tables are loaded empty. The loan statuses are planned
+ * once up front (a few bytes per book and member and one bit per loan).
+ * 
+ * The generator is not thread-safe.
+ * 
+ * <pre>
+ * mvn exec:java -Dexec.mainClass=com.mycompany.booknova.infra.datagen.TestDataGenerator \
+ *     -Dexec.args="--books=1000000 --members=200000 --loans=20000000 --output=target/data"
+ * </pre>
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class TestDataGenerator {
+    
+    public static final long DEFAULT_SEED = 42L;
+    
+    /** Skew of book popularity; 1 is the classic Zipf law. */
+    static final double BOOK_POPULARITY_EXPONENT = 1.0;
+    
+    /** Skew of member activity, milder than book popularity. */
+    static final double MEMBER_ACTIVITY_EXPONENT = 0.6;
+    
+    /** Number of users that record loans, as created by database.sql. */
+    static final int USERS = 4;
+    
+    private static final int LOAN_DAYS = 15;
+    private static final long LATE_FEE_CENTS = 150;
+    private static final int HISTORY_DAYS = 730;
+    private static final double RECENT_LOAN_ACTIVE_RATE = 0.75;
+    private static final double OLD_LOAN_UNRETURNED_RATE = 0.005;
+    private static final double LATE_RETURN_RATE = 0.18;
+    private static final double INACTIVE_MEMBER_RATE = 0.07;
+    private static final int MAX_LATE_DAYS = 45;
+    
+    private static final String[] CATEGORIES = {
+        "Fiction", "Non-Fiction", "Children", "History", "Science", "Technology", "Biography"
+    };
+    private static final double[] CATEGORY_WEIGHTS = {0.35, 0.15, 0.15, 0.10, 0.10, 0.08, 0.07};
+    
+    // Streams of the seed, so books, members and loans use independent randomness
+    private static final long BOOK_STREAM = 0x426F6F6BL;
+    private static final long MEMBER_STREAM = 0x4D656D62L;
+    private static final long LOAN_STREAM = 0x4C6F616EL;
+    private static final long AUTHOR_STREAM = 0x41757468L;
+    private static final long LAYOUT_STREAM = 0x4C61796FL;
+    
+    private final long seed;
+    private final int books;
+    private final int members;
+    private final int loans;
+    private final LocalDate today;
+    
+    private ZipfianDistribution bookPopularity;
+    private ZipfianDistribution memberActivity;
+    private int[] booksByPopularity;
+    private int[] membersByActivity;
+    private int[] totalStock;
+    private int[] activeLoansByBook;
+    private BitSet activeLoans;
+    
+    /**
+     * Creates a generator.
+     * 
+     * @param seed the seed; the same seed always generates the same data
+     * @param books the number of books, at most 10 million
+     * @param members the number of members
+     * @param loans the number of loans
+     * @param today the date the data is generated for; loan dates end on it
+     */
+    public TestDataGenerator(long seed, int books, int members, int loans, LocalDate today) {
+        if (books < 0 || members < 0 || loans < 0) {
+            throw new IllegalArgumentException("Sizes must not be negative");
+        }
+        if (books > 10_000_000) {
+            throw new IllegalArgumentException("At most 10 million books are supported");
+        }
+        if (loans > 0 && (books == 0 || members == 0)) {
+            throw new IllegalArgumentException("Loans need at least one book and one member");
+        }
+        this.seed = seed;
+        this.books = books;
+        this.members = members;
+        this.loans = loans;
+        this.today = today;
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public int getBookCount() {
+        return books;
+    }
+    
+    public int getMemberCount() {
+        return members;
+    }
+    
+    public int getLoanCount() {
+        return loans;
+    }
+    
+    /**
+     * Generates the books in ID order.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each book, without an ID
+     * @return the number of books generated
+     * @throws E if the callback fails
+     */
+    public <E extends Exception> long generateBooks(RowCallback<Book, E> callback) throws E {
+        plan();
+        for (int i = 0; i < books; i++) {
+            callback.accept(book(i));
+        }
+        return books;
+    }
+    
+    /**
+     * Generates the members in ID order.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each member, without an ID
+     * @return the number of members generated
+     * @throws E if the callback fails
+     */
+    public <E extends Exception> long generateMembers(RowCallback<Member, E> callback) throws E {
+        for (int i = 0; i < members; i++) {
+            callback.accept(member(i));
+        }
+        return members;
+    }
+    
+    /**
+     * Generates the loans in ID order, which is also loan date order. The
+     * member, book and user of each loan only carry the position-based ID.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each loan, without an ID
+     * @return the number of loans generated
+     * @throws E if the callback fails
+     */
+    public <E extends Exception> long generateLoans(RowCallback<Loan, E> callback) throws E {
+        plan();
+        for (int i = 0; i < loans; i++) {
+            callback.accept(loan(i));
+        }
+        return loans;
+    }
+    
+    /**
+     * Builds book i. The draws only depend on the seed and i.
+     */
+    private Book book(int index) {
+        SplittableRandom random = random(BOOK_STREAM, index);
+        int number = index + 1;
+        String title = SpanishNames.TITLE_SUBJECTS[SpanishNames.pick(random, SpanishNames.TITLE_SUBJECTS)] + " "
+                + SpanishNames.TITLE_COMPLEMENTS[SpanishNames.pick(random, SpanishNames.TITLE_COMPLEMENTS)];
+        if (random.nextInt(4) == 0) {
+            title += " " + (2 + random.nextInt(5));
+        }
+        String author = author(random.nextInt(Math.max(1, books / 6)));
+        String publisher = SpanishNames.PUBLISHERS[SpanishNames.pick(random, SpanishNames.PUBLISHERS)];
+        // Skewed towards recent years
+        int year = today.getYear() - (int) (Math.pow(random.nextDouble(), 3) * 150);
+        String category = CATEGORIES[weightedPick(random, CATEGORY_WEIGHTS)];
+        int total = totalStock[index];
+        return new Book(null, isbn(number), title, author, publisher, year, category,
+                total - activeLoansByBook[index], total);
+    }
+    
+    /**
+     * Builds member i. The membership type and active flag come first, so
+     * the loan plan can read them without building the whole member.
+     */
+    private Member member(int index) {
+        SplittableRandom random = random(MEMBER_STREAM, index);
+        MembershipType membershipType = membershipType(random);
+        boolean active = random.nextDouble() >= INACTIVE_MEMBER_RATE;
+        int number = index + 1;
+        
+        int first = SpanishNames.pick(random, SpanishNames.FIRST_NAMES);
+        int surname = SpanishNames.pick(random, SpanishNames.SURNAMES);
+        int secondSurname = SpanishNames.pick(random, SpanishNames.SURNAMES);
+        String email = SpanishNames.FIRST_NAMES_ASCII[first] + "." + SpanishNames.SURNAMES_ASCII[surname] + number
+                + "@" + SpanishNames.EMAIL_DOMAINS[SpanishNames.pick(random, SpanishNames.EMAIL_DOMAINS)];
+        String phone = "3" + (100_000_000 + random.nextInt(900_000_000));
+        String address = SpanishNames.STREET_TYPES[SpanishNames.pick(random, SpanishNames.STREET_TYPES)] + " "
+                + (1 + random.nextInt(150)) + " #" + (1 + random.nextInt(99)) + "-" + (1 + random.nextInt(99));
+        // Registered before the loan history starts
+        LocalDate registrationDate = today.minusDays(HISTORY_DAYS + random.nextInt(1825));
+        
+        return new Member(null, String.format("MEM-%08d", number), SpanishNames.FIRST_NAMES[first],
+                SpanishNames.SURNAMES[surname] + " " + SpanishNames.SURNAMES[secondSurname],
+                String.valueOf(1_000_000_000L + number), email, phone, address, registrationDate, active,
+                membershipType);
+    }
+    
+    /**
+     * Builds loan i from its draws and the planned status.
+     */
+    private Loan loan(int index) {
+        SplittableRandom random = random(LOAN_STREAM, index);
+        int book = booksByPopularity[bookPopularity().sample(random)];
+        int member = membersByActivity[memberActivity().sample(random)];
+        long user = 1 + random.nextInt(USERS);
+        boolean late = random.nextDouble() < LATE_RETURN_RATE;
+        int returnDays = late ? LOAN_DAYS + 1 + random.nextInt(MAX_LATE_DAYS) : 1 + random.nextInt(LOAN_DAYS);
+        
+        LocalDate loanDate = loanDate(index);
+        LocalDate expected = loanDate.plusDays(LOAN_DAYS);
+        Loan loan = new Loan(null, reference(new Member(), member), reference(new Book(), book),
+                reference(new User(), user), loanDate, expected, null, LoanStatus.ACTIVE, BigDecimal.ZERO, null);
+        if (activeLoans.get(index)) {
+            return loan;
+        }
+        
+        LocalDate returned = loanDate.plusDays(returnDays);
+        if (returned.isAfter(today)) {
+            returned = today;
+        }
+        loan.setActualReturnDate(returned);
+        long daysLate = returned.toEpochDay() - expected.toEpochDay();
+        if (daysLate > 0) {
+            // Returned late: recorded as OVERDUE with its penalty, like LoanServiceImpl
+            loan.setStatus(LoanStatus.OVERDUE);
+            loan.setPenalty(BigDecimal.valueOf(daysLate * LATE_FEE_CENTS, 2));
+        } else {
+            loan.setStatus(LoanStatus.RETURNED);
+        }
+        return loan;
+    }
+    
+    /**
+     * Decides which loans are still out, replaying the loan draws once.
+     * A loan that would be out stays returned if its book has no copy left,
+     * or its member is inactive or at the membership's loan limit.
+     */
+    private void plan() {
+        if (activeLoans != null) {
+            return;
+        }
+        booksByPopularity = permutation(books, 0);
+        membersByActivity = permutation(members, 1);
+        totalStock = new int[books];
+        activeLoansByBook = new int[books];
+        activeLoans = new BitSet(loans);
+        
+        for (int rank = 0; rank < books; rank++) {
+            SplittableRandom random = random(LAYOUT_STREAM, rank);
+            // The most borrowed 1% of the catalog gets extra copies
+            totalStock[booksByPopularity[rank]] = 1 + random.nextInt(4) + (rank < books / 100 ? 4 : 0);
+        }
+        
+        byte[] loanLimit = new byte[members];
+        byte[] activeByMember = new byte[members];
+        for (int i = 0; i < members; i++) {
+            SplittableRandom random = random(MEMBER_STREAM, i);
+            MembershipType type = membershipType(random);
+            boolean active = random.nextDouble() >= INACTIVE_MEMBER_RATE;
+            loanLimit[i] = (byte) (active ? type.getMaxLoans() : 0);
+        }
+        
+        for (int i = 0; i < loans; i++) {
+            SplittableRandom random = random(LOAN_STREAM, i);
+            int book = booksByPopularity[bookPopularity().sample(random)];
+            int member = membersByActivity[memberActivity().sample(random)];
+            long age = today.toEpochDay() - loanDate(i).toEpochDay();
+            double outRate = age < LOAN_DAYS ? RECENT_LOAN_ACTIVE_RATE : OLD_LOAN_UNRETURNED_RATE;
+            boolean out = random.nextDouble() < outRate;
+            if (out && activeLoansByBook[book] < totalStock[book] && activeByMember[member] < loanLimit[member]) {
+                activeLoansByBook[book]++;
+                activeByMember[member]++;
+                activeLoans.set(i);
+            }
+        }
+    }
+    
+    /**
+     * Spreads the loans evenly over the history, so loan IDs follow loan dates.
+     */
+    private LocalDate loanDate(int index) {
+        long offset = loans > 1 ? (long) index * HISTORY_DAYS / (loans - 1) : HISTORY_DAYS;
+        return today.minusDays(HISTORY_DAYS - offset);
+    }
+    
+    private ZipfianDistribution bookPopularity() {
+        if (bookPopularity == null) {
+            bookPopularity = new ZipfianDistribution(books, BOOK_POPULARITY_EXPONENT);
+        }
+        return bookPopularity;
+    }
+    
+    private ZipfianDistribution memberActivity() {
+        if (memberActivity == null) {
+            memberActivity = new ZipfianDistribution(members, MEMBER_ACTIVITY_EXPONENT);
+        }
+        return memberActivity;
+    }
+    
+    /**
+     * Shuffles the indexes 0 to size-1, so popularity rank and ID are unrelated.
+     */
+    private int[] permutation(int size, long stream) {
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        SplittableRandom random = random(LAYOUT_STREAM ^ (stream + 1), -1);
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        return order;
+    }
+    
+    private String author(int index) {
+        SplittableRandom random = random(AUTHOR_STREAM, index);
+        return SpanishNames.FIRST_NAMES[SpanishNames.pick(random, SpanishNames.FIRST_NAMES)] + " "
+                + SpanishNames.SURNAMES[SpanishNames.pick(random, SpanishNames.SURNAMES)];
+    }
+    
+    private static MembershipType membershipType(SplittableRandom random) {
+        double roll = random.nextDouble();
+        if (roll < 0.70) {
+            return MembershipType.BASIC;
+        }
+        return roll < 0.92 ? MembershipType.PREMIUM : MembershipType.VIP;
+    }
+    
+    private static int weightedPick(SplittableRandom random, double[] weights) {
+        double roll = random.nextDouble();
+        for (int i = 0; i < weights.length - 1; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+    
+    /**
+     * Builds a valid ISBN-13 in the Spanish range, 978-84-nnnnnnn-c.
+     */
+    static String isbn(int number) {
+        String digits = String.format("97884%07d", number);
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (i % 2 == 0 ? 1 : 3);
+        }
+        int check = (10 - sum % 10) % 10;
+        return digits.substring(0, 3) + "-" + digits.substring(3, 5) + "-" + digits.substring(5) + "-" + check;
+    }
+    
+    private static Member reference(Member member, int index) {
+        member.setId(index + 1L);
+        return member;
+    }
+    
+    private static Book reference(Book book, int index) {
+        book.setId(index + 1L);
+        return book;
+    }
+    
+    private static User reference(User user, long id) {
+        user.setId(id);
+        return user;
+    }
+    
+    /**
+     * Gives row i of a stream its own generator, independent of every other row.
+     */
+    private SplittableRandom random(long stream, long index) {
+        return new SplittableRandom(mix(mix(seed ^ stream) + index));
+    }
+    
+    /**
+     * SplitMix64 finalizer: spreads nearby inputs over the whole long range.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+    
+    /**
+     * Command line tool. Arguments, all optional:
+     * {@code --books=N --members=N --loans=N --seed=N --today=yyyy-MM-dd}
+     * and either {@code --output=DIR} to write bulk-load files or
+     * {@code --repositories} to insert through the configured repositories.
+     * 
+     * @param args the arguments
+     * @throws Exception if the data cannot be written
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String option = arg.startsWith("--") ? arg.substring(2) : arg;
+            int equals = option.indexOf('=');
+            options.put(equals >= 0 ? option.substring(0, equals) : option,
+                    equals >= 0 ? option.substring(equals + 1) : "true");
+        }
+        
+        TestDataGenerator generator = new TestDataGenerator(
+                Long.parseLong(options.getOrDefault("seed", String.valueOf(DEFAULT_SEED))),
+                Integer.parseInt(options.getOrDefault("books", "100000")),
+                Integer.parseInt(options.getOrDefault("members", "20000")),
+                Integer.parseInt(options.getOrDefault("loans", "1000000")),
+                options.containsKey("today") ? LocalDate.parse(options.get("today")) : LocalDate.now());
+        
+        long start = System.currentTimeMillis();
+        long rows;
+        if (options.containsKey("repositories")) {
+            rows = new RepositoryLoader(RepositoryFactory.getInstance()).load(generator);
+        } else {
+            rows = new BulkLoadWriter().write(generator, Path.of(options.getOrDefault("output", "target/data")));
+        }
+        System.out.println("Generated " + rows + " rows in " + (System.currentTimeMillis() - start) + " ms");
+        AppLogger.getInstance().shutdown();
+    }
+}
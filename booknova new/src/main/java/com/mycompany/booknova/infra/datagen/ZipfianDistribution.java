@@ -0,0 +1,75 @@
+package com.mycompany.booknova.infra.datagen;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over the ranks 0 to n-1: rank k is drawn with a
+ * probability proportional to 1 / (k + 1)^exponent. With an exponent of 1 a
+ * handful of ranks take most of the draws and a long tail is drawn rarely,
+ * the way loans spread over a catalog.
+ * The cumulative weights are computed once (8 bytes per rank), so a draw is
+ * a binary search.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public final class ZipfianDistribution {
+    
+    private final double[] cumulative;
+    
+    /**
+     * Creates the distribution.
+     * 
+     * @param size the number of ranks
+     * @param exponent the skew; 0 is uniform, larger values are more skewed
+     */
+    public ZipfianDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Size must be at least 1");
+        }
+        if (exponent < 0) {
+            throw new IllegalArgumentException("Exponent must not be negative");
+        }
+        this.cumulative = new double[size];
+        double sum = 0;
+        for (int k = 0; k < size; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+    }
+    
+    /**
+     * Draws a rank.
+     * 
+     * @param random the source of randomness
+     * @return a rank from 0 (most frequent) to size - 1
+     */
+    public int sample(SplittableRandom random) {
+        double target = random.nextDouble() * cumulative[cumulative.length - 1];
+        int index = Arrays.binarySearch(cumulative, target);
+        // Not found (the usual case) gives -(insertion point) - 1
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+    
+    /**
+     * Gets the probability of a rank.
+     * 
+     * @param rank the rank
+     * @return the probability of drawing it
+     */
+    public double probability(int rank) {
+        double previous = rank > 0 ? cumulative[rank - 1] : 0;
+        return (cumulative[rank] - previous) / cumulative[cumulative.length - 1];
+    }
+    
+    /**
+     * Gets the number of ranks.
+     * 
+     * @return the size
+     */
+    public int size() {
+        return cumulative.length;
+    }
+}
@@ -1,36 +1,120 @@
 package com.mycompany.booknova.infra.logging;
 
+import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Custom application logger that writes to app.log file.
  * Handles activity logging and error logging with different levels.
  * 
+ * Log calls only enqueue an event into a lock-free ring buffer; a single
+ * background writer keeps the file open, formats events and flushes them in
+ * batches. What happens when the buffer is full is controlled by the
+ * {@code log.async.*} keys in config.properties.
+ * 
+ * The file location ({@code log.file.path}) and its size/daily rotation,
+ * retention and compression ({@code log.rotation.*}) are configurable too;
+ * see {@link RollingLogFile}.
+ * 
  * @author LibroNova Team
  * @version 1.0
  */
 public class AppLogger {
     
-    private static final String LOG_FILE = "app.log";
+    private static final String DEFAULT_LOG_FILE = "app.log";
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long WRITER_IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final long PRODUCER_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
     private static AppLogger instance;
     
+    /**
+     * What a log call does when the ring buffer is full.
+     * ERROR events always block regardless of the policy. A blocked call
+     * waits at most {@code log.async.blockTimeoutMs}; then an ERROR event is
+     * written directly and any other event is dropped.
+     */
+    public enum OverflowPolicy {
+        /** Wait until the writer frees a slot. */
+        BLOCK,
+        /** Discard the event. */
+        DROP,
+        /** Keep one of every {@code sampleRate} overflowing events, discard the rest. */
+        SAMPLE
+    }
+    
+    private final BoundedRingBuffer<LogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final int sampleRate;
+    private final int batchSize;
+    private final long blockTimeoutNanos;
+    private final String logFilePath;
+    private final long maxFileSizeBytes;
+    private final boolean dailyRotation;
+    private final int maxArchives;
+    private final boolean compressArchives;
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final AtomicLong overflowCounter = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+    
     private AppLogger() {
+        Properties properties = loadProperties();
+        this.buffer = new BoundedRingBuffer<>(parseInt(properties, "log.async.bufferSize", 8192));
+        this.batchSize = Math.max(1, parseInt(properties, "log.async.batchSize", 256));
+        this.sampleRate = Math.max(1, parseInt(properties, "log.async.sampleRate", 10));
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(
+                Math.max(0, parseInt(properties, "log.async.blockTimeoutMs", 5000)));
+        this.overflowPolicy = parsePolicy(properties.getProperty("log.async.overflowPolicy", "BLOCK"));
+        this.logFilePath = properties.getProperty("log.file.path", DEFAULT_LOG_FILE).trim();
+        this.maxFileSizeBytes = parseInt(properties, "log.rotation.maxFileSizeMb", 10) * 1024L * 1024L;
+        this.dailyRotation = Boolean.parseBoolean(properties.getProperty("log.rotation.daily", "true").trim());
+        this.maxArchives = parseInt(properties, "log.rotation.maxArchives", 7);
+        this.compressArchives = Boolean.parseBoolean(properties.getProperty("log.rotation.compress", "true").trim());
+        
+        boolean created = false;
+        
         // Initialize log file if it doesn't exist
         try {
-            File file = new File(LOG_FILE);
+            File file = new File(logFilePath);
             if (!file.exists()) {
-                file.createNewFile();
-                logInfo("APPLICATION", "Log file initialized: " + file.getAbsolutePath());
+                File parent = file.getAbsoluteFile().getParentFile();
+                if (parent != null) {
+                    parent.mkdirs();
+                }
+                created = file.createNewFile();
             }
         } catch (IOException e) {
             System.err.println("Failed to initialize log file: " + e.getMessage());
         }
+        
+        this.writerThread = new Thread(this::runWriter, "libronova-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "libronova-log-shutdown"));
+        
+        if (created) {
+            logInfo("APPLICATION", "Log file initialized: " + new File(logFilePath).getAbsolutePath());
+        }
     }
     
     /**
@@ -107,31 +191,217 @@ public class AppLogger {
     }
     
     /**
-     * Writes the log entry to the file.
+     * Queues the log entry for the background writer.
+     * Falls back to a direct file write once the writer has been shut down.
      * 
      * @param level the log level
      * @param component the component generating the log
      * @param message the message to log
      * @param throwable optional exception details
      */
-    private synchronized void writeLog(String level, String component, String message, Throwable throwable) {
-        try (FileWriter fw = new FileWriter(LOG_FILE, true);
-             PrintWriter pw = new PrintWriter(fw)) {
-            
-            String timestamp = LocalDateTime.now().format(FORMATTER);
-            String logEntry = String.format("[%s] [%s] [%s] %s", 
-                                           timestamp, level, component, message);
-            
-            pw.println(logEntry);
+    private void writeLog(String level, String component, String message, Throwable throwable) {
+        LogEvent event = new LogEvent(System.currentTimeMillis(), level, component, message, throwable);
+        
+        if (!running) {
+            writeDirect(event);
+            return;
+        }
+        
+        if (buffer.offer(event)) {
+            published();
+            return;
+        }
+        
+        OverflowPolicy policy = "ERROR".equals(level) ? OverflowPolicy.BLOCK : overflowPolicy;
+        
+        switch (policy) {
+            case DROP:
+                droppedEvents.incrementAndGet();
+                return;
+            case SAMPLE:
+                if (overflowCounter.incrementAndGet() % sampleRate != 0) {
+                    droppedEvents.incrementAndGet();
+                    return;
+                }
+                break;
+            default:
+                break;
+        }
+        
+        // Block until the writer frees a slot, or give up if it has stalled
+        long deadline = System.nanoTime() + blockTimeoutNanos;
+        while (!buffer.offer(event)) {
+            if (!running) {
+                writeDirect(event);
+                return;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                if ("ERROR".equals(level)) {
+                    writeDirect(event);
+                } else {
+                    droppedEvents.incrementAndGet();
+                }
+                return;
+            }
+            wakeWriter();
+            LockSupport.parkNanos(PRODUCER_BACKOFF_NANOS);
+        }
+        published();
+    }
+    
+    /**
+     * Hands a queued event to the writer. If shutdown() started after the
+     * running check, the writer may already have left its loop, so the
+     * event is written here once the writer has stopped.
+     */
+    private void published() {
+        if (running) {
+            wakeWriter();
+        } else {
+            drainAfterShutdown();
+        }
+    }
+    
+    private void wakeWriter() {
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+    
+    /**
+     * Background writer loop: drains the buffer in batches into a file
+     * that stays open, flushing after every batch. Rotation is checked
+     * between batches so entries are never split across files.
+     * 
+     * If the writer stops for any reason, including a file it cannot open,
+     * it clears {@code running} on the way out so later log calls write
+     * directly instead of waiting for a consumer that is gone.
+     */
+    private void runWriter() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        StringBuilder line = new StringBuilder(256);
+        TimestampCache timestamps = new TimestampCache();
+        
+        try (RollingLogFile out = new RollingLogFile(logFilePath, maxFileSizeBytes,
+                dailyRotation, maxArchives, compressArchives)) {
+            PrintWriter printer = new PrintWriter(out);
             
-            if (throwable != null) {
-                pw.println("Exception details:");
-                throwable.printStackTrace(pw);
-                pw.println("--- End of exception ---");
+            while (running || !buffer.isEmpty()) {
+                batch.clear();
+                if (buffer.drainTo(batch, batchSize) == 0) {
+                    writerParked = true;
+                    if (buffer.isEmpty() && running) {
+                        LockSupport.parkNanos(this, WRITER_IDLE_PARK_NANOS);
+                    }
+                    writerParked = false;
+                    continue;
+                }
+                
+                try {
+                    out.rollIfNeeded(System.currentTimeMillis());
+                } catch (IOException e) {
+                    System.err.println("Failed to rotate log file: " + e.getMessage());
+                }
+                
+                long dropped = droppedEvents.getAndSet(0);
+                if (dropped > 0) {
+                    LogEvent notice = new LogEvent(System.currentTimeMillis(), "WARN", "LOGGER",
+                            dropped + " log events dropped because the buffer was full", null);
+                    writeEvent(printer, line, timestamps, notice);
+                }
+                
+                for (LogEvent event : batch) {
+                    writeEvent(printer, line, timestamps, event);
+                }
+                printer.flush();
             }
             
+            printer.flush();
         } catch (IOException e) {
             System.err.println("Failed to write to log file: " + e.getMessage());
+        } catch (RuntimeException | Error e) {
+            System.err.println("Log writer stopped: " + e);
+            throw e;
+        } finally {
+            running = false;
+            writeQueuedDirect();
+        }
+    }
+    
+    private Writer openWriter() throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new FileOutputStream(logFilePath, true), StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Formats one event as {@code [timestamp] [level] [component] message}.
+     */
+    private void writeEvent(PrintWriter printer, StringBuilder line, TimestampCache timestamps, LogEvent event) {
+        line.setLength(0);
+        line.append('[').append(timestamps.format(event.timestamp)).append("] [")
+            .append(event.level).append("] [")
+            .append(event.component).append("] ")
+            .append(event.message);
+        printer.println(line);
+        
+        if (event.throwable != null) {
+            printer.println("Exception details:");
+            event.throwable.printStackTrace(printer);
+            printer.println("--- End of exception ---");
+        }
+    }
+    
+    /**
+     * Writes an event synchronously, without rotation. Used only after shutdown.
+     */
+    private synchronized void writeDirect(LogEvent event) {
+        try (Writer out = openWriter();
+             PrintWriter printer = new PrintWriter(out)) {
+            writeEvent(printer, new StringBuilder(256), new TimestampCache(), event);
+        } catch (IOException e) {
+            System.err.println("Failed to write to log file: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Stops accepting queued events, drains everything already queued and
+     * closes the log file. Later log calls are written synchronously.
+     */
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        
+        drainAfterShutdown();
+    }
+    
+    /**
+     * Waits for the writer to stop, then writes the events queued after its
+     * last drain.
+     */
+    private void drainAfterShutdown() {
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (writerThread.isAlive()) {
+            return;
+        }
+        writeQueuedDirect();
+    }
+    
+    /**
+     * Writes whatever is left in the buffer synchronously. Only called once
+     * the writer has stopped; the lock makes the caller the only consumer.
+     */
+    private synchronized void writeQueuedDirect() {
+        LogEvent event;
+        while ((event = buffer.poll()) != null) {
+            writeDirect(event);
         }
     }
     
@@ -145,10 +415,11 @@ public class AppLogger {
     }
     
     /**
-     * Logs application shutdown.
+     * Logs application shutdown and drains pending log entries to disk.
      */
     public void logApplicationShutdown() {
         writeLog("INFO", "APPLICATION", "BookNova application shutdown", null);
+        shutdown();
     }
     
     /**
@@ -171,8 +442,88 @@ public class AppLogger {
      */
     public void logCrudOperation(String entity, String operation, boolean success) {
         String level = success ? "SUCCESS" : "ERROR";
-        String message = String.format("%s operation on %s: %s", 
-                                      operation, entity, success ? "SUCCESS" : "FAILED");
+        String message = operation + " operation on " + entity + ": " + (success ? "SUCCESS" : "FAILED");
         writeLog(level, "REPOSITORY", message, null);
     }
-}
\ No newline at end of file
+    
+    /**
+     * Gets the number of events discarded since the last report because the buffer was full.
+     * 
+     * @return the pending dropped-event count
+     */
+    public long getDroppedEventCount() {
+        return droppedEvents.get();
+    }
+    
+    private Properties loadProperties() {
+        Properties properties = new Properties();
+        try (InputStream input = getClass().getClassLoader()
+                .getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load logging configuration: " + e.getMessage());
+        }
+        // -Dlog.* system properties override the file, e.g. to log elsewhere in benchmarks
+        for (String key : System.getProperties().stringPropertyNames()) {
+            if (key.startsWith("log.")) {
+                properties.setProperty(key, System.getProperty(key));
+            }
+        }
+        return properties;
+    }
+    
+    private int parseInt(Properties properties, String key, int defaultValue) {
+        try {
+            return Integer.parseInt(properties.getProperty(key, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    private OverflowPolicy parsePolicy(String value) {
+        try {
+            return OverflowPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return OverflowPolicy.BLOCK;
+        }
+    }
+    
+    /**
+     * Immutable log entry captured on the calling thread.
+     */
+    private static final class LogEvent {
+        private final long timestamp;
+        private final String level;
+        private final String component;
+        private final String message;
+        private final Throwable throwable;
+        
+        private LogEvent(long timestamp, String level, String component, String message, Throwable throwable) {
+            this.timestamp = timestamp;
+            this.level = level;
+            this.component = component;
+            this.message = message;
+            this.throwable = throwable;
+        }
+    }
+    
+    /**
+     * Reuses the formatted timestamp while events fall within the same second.
+     */
+    private static final class TimestampCache {
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedText;
+        
+        private String format(long epochMillis) {
+            long second = Math.floorDiv(epochMillis, 1000L);
+            if (second != cachedSecond) {
+                cachedSecond = second;
+                cachedText = LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis),
+                        ZoneId.systemDefault()).format(FORMATTER);
+            }
+            return cachedText;
+        }
+    }
+}
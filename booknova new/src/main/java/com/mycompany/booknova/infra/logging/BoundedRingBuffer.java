@@ -0,0 +1,121 @@
+package com.mycompany.booknova.infra.logging;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock-free bounded queue for many producers and a single consumer.
+ * Each slot carries a sequence number that tells producers whether the slot
+ * is free and tells the consumer whether it has been published, so neither
+ * side ever takes a lock.
+ * 
+ * @param <E> the element type
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class BoundedRingBuffer<E> {
+    
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    
+    /**
+     * Creates a ring buffer.
+     * 
+     * @param requestedCapacity the minimum capacity, rounded up to a power of two
+     */
+    public BoundedRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Ring buffer capacity must be at least 2");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+    
+    /**
+     * Adds an element if there is room. Safe to call from any thread.
+     * 
+     * @param element the element to add
+     * @return true if added, false if the buffer is full
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+    
+    /**
+     * Removes the oldest element. Must only be called from the consumer thread.
+     * 
+     * @return the oldest element, or null if the buffer is empty
+     */
+    public E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        
+        E element = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+    
+    /**
+     * Moves up to {@code maxElements} elements into the given list.
+     * Must only be called from the consumer thread.
+     * 
+     * @param batch the list receiving the elements
+     * @param maxElements the maximum number of elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(List<E> batch, int maxElements) {
+        int drained = 0;
+        E element;
+        while (drained < maxElements && (element = poll()) != null) {
+            batch.add(element);
+            drained++;
+        }
+        return drained;
+    }
+    
+    /**
+     * Checks whether the buffer is empty. Exact only from the consumer thread.
+     * 
+     * @return true if no published element is waiting
+     */
+    public boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+    
+    public int capacity() {
+        return mask + 1;
+    }
+}
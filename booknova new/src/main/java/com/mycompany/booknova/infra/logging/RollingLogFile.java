@@ -0,0 +1,278 @@
+package com.mycompany.booknova.infra.logging;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Log file writer that rolls the active file over by size and by day.
+ * Rolled segments are renamed to {@code <name>-<date>.<n>.log}, gzipped on a
+ * background thread and pruned so that at most {@code maxArchives} remain.
+ * 
+ * Not thread-safe: meant to be owned by the single log writer thread.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class RollingLogFile extends Writer {
+    
+    private static final DateTimeFormatter ARCHIVE_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final File file;
+    private final String baseName;
+    private final long maxFileSizeBytes;
+    private final boolean dailyRotation;
+    private final int maxArchives;
+    private final boolean compress;
+    private final ExecutorService compressor;
+    
+    private Writer out;
+    private long currentSize;
+    private LocalDate currentDate;
+    
+    /**
+     * Opens (or creates) the active log file in append mode.
+     * 
+     * @param path the active log file path
+     * @param maxFileSizeBytes size that triggers a rollover, 0 to disable
+     * @param dailyRotation whether to roll over when the date changes
+     * @param maxArchives number of rolled segments to keep, 0 to keep all
+     * @param compress whether to gzip rolled segments
+     * @throws IOException if the file cannot be opened
+     */
+    public RollingLogFile(String path, long maxFileSizeBytes, boolean dailyRotation,
+                          int maxArchives, boolean compress) throws IOException {
+        this.file = new File(path).getAbsoluteFile();
+        String name = file.getName();
+        int dot = name.lastIndexOf('.');
+        this.baseName = dot > 0 ? name.substring(0, dot) : name;
+        this.maxFileSizeBytes = maxFileSizeBytes;
+        this.dailyRotation = dailyRotation;
+        this.maxArchives = maxArchives;
+        this.compress = compress;
+        this.compressor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "libronova-log-compressor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new IOException("Cannot create log directory: " + parent);
+        }
+        open();
+    }
+    
+    /**
+     * Rolls the active file over if it is too large or was started on an
+     * earlier day. Call only between complete log entries. Pending text is
+     * flushed first so the size in bytes is exact.
+     * 
+     * @param nowMillis the current time in epoch milliseconds
+     * @throws IOException if the rollover fails
+     */
+    public void rollIfNeeded(long nowMillis) throws IOException {
+        out.flush();
+        LocalDate today = toDate(nowMillis);
+        boolean sizeExceeded = maxFileSizeBytes > 0 && currentSize >= maxFileSizeBytes;
+        boolean dayChanged = dailyRotation && !today.equals(currentDate);
+        
+        if (currentSize == 0) {
+            // Nothing to archive; just adopt the new date
+            currentDate = today;
+            return;
+        }
+        if (sizeExceeded || dayChanged) {
+            roll();
+            currentDate = today;
+        }
+    }
+    
+    public File getFile() {
+        return file;
+    }
+    
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        out.write(chars, offset, length);
+    }
+    
+    @Override
+    public void write(String text, int offset, int length) throws IOException {
+        out.write(text, offset, length);
+    }
+    
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+    
+    /**
+     * Closes the active file and waits briefly for pending compressions.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            compressor.shutdown();
+            try {
+                compressor.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void open() throws IOException {
+        currentSize = file.exists() ? file.length() : 0;
+        currentDate = file.exists() && currentSize > 0 ? toDate(file.lastModified()) : toDate(System.currentTimeMillis());
+        out = new BufferedWriter(new OutputStreamWriter(
+                new CountingOutputStream(new FileOutputStream(file, true)), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+    
+    private void roll() throws IOException {
+        File archive = nextArchiveFile(currentDate.format(ARCHIVE_DATE));
+        try {
+            out.close();
+            move(file, archive);
+        } finally {
+            // Keep logging to the active file even if it could not be moved
+            open();
+        }
+        
+        if (compress) {
+            compressor.execute(() -> {
+                gzip(archive);
+                pruneArchives();
+            });
+        } else {
+            compressor.execute(this::pruneArchives);
+        }
+    }
+    
+    /**
+     * Renames the active file, atomically where the file system supports it.
+     */
+    private static void move(File source, File target) throws IOException {
+        try {
+            Files.move(source.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source.toPath(), target.toPath());
+        }
+    }
+    
+    /**
+     * Picks the archive name after the highest index already used for the date,
+     * so names keep increasing even after older segments have been pruned.
+     */
+    private File nextArchiveFile(String date) {
+        String prefix = baseName + "-" + date + ".";
+        int highest = 0;
+        String[] names = file.getParentFile().list();
+        if (names != null) {
+            for (String name : names) {
+                if (!name.startsWith(prefix)) {
+                    continue;
+                }
+                int end = name.indexOf('.', prefix.length());
+                try {
+                    highest = Math.max(highest, Integer.parseInt(
+                            name.substring(prefix.length(), end > 0 ? end : name.length())));
+                } catch (NumberFormatException e) {
+                    // Not one of our archives
+                }
+            }
+        }
+        return new File(file.getParentFile(), prefix + (highest + 1) + ".log");
+    }
+    
+    private void gzip(File source) {
+        File target = new File(source.getPath() + ".gz");
+        try (InputStream input = new FileInputStream(source);
+             OutputStream output = new GZIPOutputStream(new FileOutputStream(target), BUFFER_SIZE)) {
+            input.transferTo(output);
+        } catch (IOException e) {
+            System.err.println("Failed to compress log archive " + source.getName() + ": " + e.getMessage());
+            target.delete();
+            return;
+        }
+        // Keep the segment's age so retention prunes in rollover order
+        target.setLastModified(source.lastModified());
+        if (!source.delete()) {
+            System.err.println("Failed to delete compressed log archive " + source.getName());
+        }
+    }
+    
+    /**
+     * Deletes the oldest rolled segments beyond the retention count.
+     */
+    private void pruneArchives() {
+        if (maxArchives <= 0) {
+            return;
+        }
+        String prefix = baseName + "-";
+        File[] archives = file.getParentFile().listFiles((dir, name) ->
+                name.startsWith(prefix) && (name.endsWith(".log") || name.endsWith(".log.gz")));
+        if (archives == null || archives.length <= maxArchives) {
+            return;
+        }
+        
+        Arrays.sort(archives, Comparator.comparingLong(File::lastModified));
+        for (int i = 0; i < archives.length - maxArchives; i++) {
+            if (!archives[i].delete()) {
+                System.err.println("Failed to delete old log archive " + archives[i].getName());
+            }
+        }
+    }
+    
+    /**
+     * Counts the encoded bytes that reach the file, so the size limit holds
+     * for multi-byte UTF-8 text and matches the file length after a restart.
+     * Written text is counted once flushed.
+     */
+    private final class CountingOutputStream extends FilterOutputStream {
+        
+        private CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+        
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            currentSize++;
+        }
+        
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            currentSize += length;
+        }
+    }
+    
+    private static LocalDate toDate(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault()).toLocalDate();
+    }
+}
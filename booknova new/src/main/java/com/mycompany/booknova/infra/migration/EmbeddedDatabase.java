@@ -0,0 +1,186 @@
+package com.mycompany.booknova.infra.migration;
+
+import com.mycompany.booknova.infra.datagen.TestDataGenerator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+/**
+ * Creates the LibroNova schema and data in an embedded H2 database running in
+ * MariaDB compatibility mode, for {@code db.backend=h2}.
+ * The schema in {@code db/h2/schema.sql} mirrors src/database.sql. The data is
+ * either the sample data of that script or, for load tests, a generated data
+ * set of the configured size. Nothing is done if the database already has the
+ * tables, so a file-based H2 database keeps its data between runs.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public final class EmbeddedDatabase {
+    
+    /** In-memory database that lives until the JVM exits. */
+    public static final String DEFAULT_URL =
+        "jdbc:h2:mem:libronova;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    
+    private static final String SCHEMA_SCRIPT = "db/h2/schema.sql";
+    private static final String SAMPLE_DATA_SCRIPT = "db/h2/sample-data.sql";
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private EmbeddedDatabase() {
+    }
+    
+    /**
+     * Creates the schema and data if the database has no tables yet.
+     * When all sizes are 0 the sample data is loaded; otherwise that many
+     * books, members and loans are generated by {@link TestDataGenerator}
+     * with its default seed, so every run sees the same data.
+     * 
+     * @param url the H2 JDBC URL
+     * @param user the database user
+     * @param password the database password
+     * @param books the number of books to generate
+     * @param members the number of members to generate
+     * @param loans the number of loans to generate
+     * @return true if the database was created, false if it already existed
+     * @throws SQLException if the schema or the data cannot be created
+     */
+    public static boolean initialize(String url, String user, String password,
+                                     int books, int members, int loans) throws SQLException {
+        try (Connection conn = DriverManager.getConnection(url, user, password)) {
+            if (hasSchema(conn)) {
+                return false;
+            }
+            
+            conn.setAutoCommit(false);
+            try {
+                runScript(conn, SCHEMA_SCRIPT);
+                if (books > 0 || members > 0 || loans > 0) {
+                    generate(conn, books, members, loans);
+                } else {
+                    runScript(conn, SAMPLE_DATA_SCRIPT);
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            }
+            return true;
+        }
+    }
+    
+    private static boolean hasSchema(Connection conn) throws SQLException {
+        String sql = "SELECT COUNT(*) FROM information_schema.tables WHERE LOWER(table_name) = 'books'";
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() && rs.getInt(1) > 0;
+        }
+    }
+    
+    private static void runScript(Connection conn, String resource) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : MigrationRunner.splitStatements(readResource(resource))) {
+                stmt.execute(sql);
+            }
+        }
+    }
+    
+    private static String readResource(String path) throws SQLException {
+        InputStream input = EmbeddedDatabase.class.getClassLoader().getResourceAsStream(path);
+        if (input == null) {
+            throw new SQLException("Embedded database script not found: " + path);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            StringBuilder content = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                content.append(line).append('\n');
+            }
+            return content.toString();
+        } catch (IOException e) {
+            throw new SQLException("Error reading embedded database script: " + path, e);
+        }
+    }
+    
+    /**
+     * Inserts the rows of {@link TestDataGenerator}. The tables are new, so
+     * the n-th row gets ID n, which is what the generated loans refer to.
+     */
+    private static void generate(Connection conn, int books, int members, int loans) throws SQLException {
+        TestDataGenerator generator = new TestDataGenerator(TestDataGenerator.DEFAULT_SEED,
+                Math.max(1, books), Math.max(1, members), loans, LocalDate.now());
+        
+        String bookSql = "INSERT INTO books (isbn, title, author, publisher, publication_year, category, " +
+                         "available_stock, total_stock) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(bookSql)) {
+            int[] row = {0};
+            generator.generateBooks(book -> {
+                stmt.setString(1, book.getIsbn());
+                stmt.setString(2, book.getTitle());
+                stmt.setString(3, book.getAuthor());
+                stmt.setString(4, book.getPublisher());
+                stmt.setInt(5, book.getPublicationYear());
+                stmt.setString(6, book.getCategory());
+                stmt.setInt(7, book.getAvailableStock());
+                stmt.setInt(8, book.getTotalStock());
+                addBatch(stmt, row[0]++);
+            });
+            stmt.executeBatch();
+        }
+        
+        String memberSql = "INSERT INTO members (member_number, first_name, last_name, document_id, email, " +
+                           "phone, address, registration_date, active, membership_type) " +
+                           "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(memberSql)) {
+            int[] row = {0};
+            generator.generateMembers(member -> {
+                stmt.setString(1, member.getMemberNumber());
+                stmt.setString(2, member.getFirstName());
+                stmt.setString(3, member.getLastName());
+                stmt.setString(4, member.getDocumentId());
+                stmt.setString(5, member.getEmail());
+                stmt.setString(6, member.getPhone());
+                stmt.setString(7, member.getAddress());
+                stmt.setObject(8, member.getRegistrationDate());
+                stmt.setBoolean(9, member.getActive());
+                stmt.setString(10, member.getMembershipType().name());
+                addBatch(stmt, row[0]++);
+            });
+            stmt.executeBatch();
+        }
+        
+        String loanSql = "INSERT INTO loans (member_id, book_id, user_id, loan_date, expected_return_date, " +
+                         "actual_return_date, status, penalty) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        try (PreparedStatement stmt = conn.prepareStatement(loanSql)) {
+            int[] row = {0};
+            generator.generateLoans(loan -> {
+                stmt.setLong(1, loan.getMember().getId());
+                stmt.setLong(2, loan.getBook().getId());
+                stmt.setLong(3, loan.getUser().getId());
+                stmt.setObject(4, loan.getLoanDate());
+                stmt.setObject(5, loan.getExpectedReturnDate());
+                stmt.setObject(6, loan.getActualReturnDate());
+                stmt.setString(7, loan.getStatus().name());
+                stmt.setBigDecimal(8, loan.getPenalty());
+                addBatch(stmt, row[0]++);
+            });
+            stmt.executeBatch();
+        }
+    }
+    
+    private static void addBatch(PreparedStatement stmt, int index) throws SQLException {
+        stmt.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            stmt.executeBatch();
+        }
+    }
+}
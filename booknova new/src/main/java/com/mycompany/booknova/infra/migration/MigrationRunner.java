@@ -0,0 +1,326 @@
+package com.mycompany.booknova.infra.migration;
+
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Applies versioned SQL scripts to the database at startup.
+ * Scripts live in {@code db/migration} on the classpath and are listed, in
+ * order, in {@code db/migration/index.txt}. Each script is named
+ * {@code V<version>__<description>.sql} and is applied once; applied versions
+ * are recorded in the {@code schema_version} table together with a checksum,
+ * so an edited script is reported instead of silently re-run.
+ * 
+ * Several desks may start at the same time against one server, so the run
+ * holds a named MariaDB lock ({@code GET_LOCK}) from reading the applied
+ * versions until the last script is recorded; a desk that waited finds the
+ * scripts already applied. The embedded H2 database has a single process and
+ * is only locked within the JVM.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class MigrationRunner {
+    
+    private static final String MIGRATION_PATH = "db/migration/";
+    private static final String INDEX_FILE = MIGRATION_PATH + "index.txt";
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(\\w+)\\.sql");
+    private static final String LOCK_NAME = "libronova_schema_migration";
+    private static final Object JVM_LOCK = new Object();
+    
+    private static final String CREATE_VERSION_TABLE =
+        "CREATE TABLE IF NOT EXISTS schema_version (" +
+        "version INT PRIMARY KEY, " +
+        "description VARCHAR(200) NOT NULL, " +
+        "script VARCHAR(200) NOT NULL, " +
+        "checksum BIGINT NOT NULL, " +
+        "execution_ms BIGINT NOT NULL, " +
+        "installed_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+    
+    private final ConnectionDB connectionDB;
+    private final AppLogger appLogger = AppLogger.getInstance();
+    private final int lockTimeoutSeconds;
+    
+    public MigrationRunner() {
+        this.connectionDB = ConnectionDB.getInstance();
+        this.lockTimeoutSeconds = parseInt(loadProperties().getProperty("db.migrations.lockTimeoutSeconds"), 60);
+    }
+    
+    /**
+     * Checks whether migrations should run, from {@code db.migrations.enabled}.
+     * 
+     * @return true unless migrations are disabled in config.properties
+     */
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(loadProperties().getProperty("db.migrations.enabled", "true").trim());
+    }
+    
+    private static Properties loadProperties() {
+        Properties properties = new Properties();
+        try (InputStream input = MigrationRunner.class.getClassLoader()
+                .getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            // Fall back to the defaults
+        }
+        return properties;
+    }
+    
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Applies every listed script that has not been applied yet, holding the
+     * migration lock. Blocks while another desk is migrating.
+     * 
+     * @return the number of scripts applied
+     * @throws DatabaseException if a script or the version table cannot be read or applied,
+     *         or the lock is not obtained within {@code db.migrations.lockTimeoutSeconds}
+     */
+    public int migrate() throws DatabaseException {
+        List<Migration> migrations = loadMigrations();
+        
+        synchronized (JVM_LOCK) {
+            try (Connection conn = connectionDB.getConnection()) {
+                boolean serverLock = !connectionDB.isEmbedded();
+                if (serverLock) {
+                    acquireLock(conn);
+                }
+                try {
+                    return migrate(conn, migrations);
+                } finally {
+                    if (serverLock) {
+                        releaseLock(conn);
+                    }
+                }
+            } catch (SQLException e) {
+                throw new DatabaseException("Error applying database migrations", e);
+            }
+        }
+    }
+    
+    private int migrate(Connection conn, List<Migration> migrations) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(CREATE_VERSION_TABLE);
+        }
+        
+        Map<Integer, Long> applied = findAppliedVersions(conn);
+        int count = 0;
+        
+        for (Migration migration : migrations) {
+            Long checksum = applied.get(migration.version);
+            if (checksum == null) {
+                apply(conn, migration);
+                count++;
+            } else if (checksum != migration.checksum) {
+                appLogger.logWarning("MIGRATION", "Script " + migration.script +
+                        " was changed after it was applied; the change is ignored");
+            }
+        }
+        
+        appLogger.logInfo("MIGRATION", count == 0
+                ? "Database schema is up to date"
+                : count + " migration(s) applied");
+        return count;
+    }
+    
+    /**
+     * Takes the named server lock on the session. GET_LOCK returns 1 when
+     * taken, 0 on timeout and NULL on error.
+     */
+    private void acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.setInt(2, lockTimeoutSeconds);
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out after " + lockTimeoutSeconds +
+                            " s waiting for another desk to finish migrating");
+                }
+            }
+        }
+    }
+    
+    private void releaseLock(Connection conn) {
+        try (PreparedStatement stmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            stmt.setString(1, LOCK_NAME);
+            stmt.executeQuery().close();
+        } catch (SQLException e) {
+            // The server frees the lock when the pooled session is closed
+            appLogger.logWarning("MIGRATION", "Could not release the migration lock: " + e.getMessage());
+        }
+    }
+    
+    private void apply(Connection conn, Migration migration) throws SQLException {
+        long start = System.currentTimeMillis();
+        
+        try (Statement stmt = conn.createStatement()) {
+            for (String sql : migration.statements) {
+                stmt.execute(sql);
+            }
+        } catch (SQLException e) {
+            appLogger.logError("MIGRATION", "Migration " + migration.script + " failed: " + e.getMessage(), e);
+            throw e;
+        }
+        
+        long elapsed = System.currentTimeMillis() - start;
+        String sql = "INSERT INTO schema_version (version, description, script, checksum, execution_ms) " +
+                     "VALUES (?, ?, ?, ?, ?)";
+        
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, migration.version);
+            stmt.setString(2, migration.description);
+            stmt.setString(3, migration.script);
+            stmt.setLong(4, migration.checksum);
+            stmt.setLong(5, elapsed);
+            stmt.executeUpdate();
+        }
+        
+        appLogger.logSuccess("MIGRATION", "Applied " + migration.script + " in " + elapsed + " ms");
+    }
+    
+    private Map<Integer, Long> findAppliedVersions(Connection conn) throws SQLException {
+        Map<Integer, Long> applied = new HashMap<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getLong("checksum"));
+            }
+        }
+        return applied;
+    }
+    
+    /**
+     * Reads the index file and every script it lists.
+     */
+    private List<Migration> loadMigrations() throws DatabaseException {
+        List<Migration> migrations = new ArrayList<>();
+        int lastVersion = 0;
+        
+        for (String line : readResource(INDEX_FILE).split("\\R")) {
+            String script = line.trim();
+            if (script.isEmpty() || script.startsWith("#")) {
+                continue;
+            }
+            
+            Matcher matcher = SCRIPT_NAME.matcher(script);
+            if (!matcher.matches()) {
+                throw new DatabaseException("Invalid migration script name: " + script);
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            if (version <= lastVersion) {
+                throw new DatabaseException("Migration versions must increase: " + script);
+            }
+            lastVersion = version;
+            
+            String content = readResource(MIGRATION_PATH + script);
+            CRC32 crc = new CRC32();
+            crc.update(content.getBytes(StandardCharsets.UTF_8));
+            
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '),
+                    script, crc.getValue(), splitStatements(content)));
+        }
+        
+        return migrations;
+    }
+    
+    private String readResource(String path) throws DatabaseException {
+        InputStream input = getClass().getClassLoader().getResourceAsStream(path);
+        if (input == null) {
+            throw new DatabaseException("Migration resource not found: " + path);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            StringBuilder content = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                content.append(line).append('\n');
+            }
+            return content.toString();
+        } catch (IOException e) {
+            throw new DatabaseException("Error reading migration resource: " + path, e);
+        }
+    }
+    
+    /**
+     * Splits a script into statements on semicolons outside string literals,
+     * dropping {@code --} comment lines.
+     */
+    static List<String> splitStatements(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean inString = false;
+        
+        for (String line : script.split("\n")) {
+            if (!inString && line.trim().startsWith("--")) {
+                continue;
+            }
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (c == '\'') {
+                    inString = !inString;
+                }
+                if (c == ';' && !inString) {
+                    addStatement(statements, current);
+                } else {
+                    current.append(c);
+                }
+            }
+            current.append('\n');
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+    
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String sql = current.toString().trim();
+        if (!sql.isEmpty()) {
+            statements.add(sql);
+        }
+        current.setLength(0);
+    }
+    
+    /**
+     * One parsed migration script.
+     */
+    private static final class Migration {
+        private final int version;
+        private final String description;
+        private final String script;
+        private final long checksum;
+        private final List<String> statements;
+        
+        private Migration(int version, String description, String script, long checksum, List<String> statements) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.checksum = checksum;
+            this.statements = statements;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.mycompany.booknova.infra.monitoring;
+
+import java.util.List;
+
+/**
+ * One statement execution seen by the {@link QueryTracker}: its SQL, how long
+ * the database took to execute it and how long reading its results took.
+ * Fetch time and row count of a query grow while its ResultSet is read; the
+ * record is complete once the ResultSet is exhausted or closed.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class QueryRecord {
+    
+    private final String sql;
+    private final long executeNanos;
+    private final int batchSize;
+    private final List<Object> parameters;
+    private long fetchNanos;
+    private long rowCount;
+    private boolean completed;
+    
+    QueryRecord(String sql, long executeNanos, int batchSize, long rowCount, List<Object> parameters) {
+        this.sql = sql;
+        this.executeNanos = executeNanos;
+        this.batchSize = batchSize;
+        this.rowCount = rowCount;
+        this.parameters = parameters;
+    }
+    
+    /**
+     * Adds the time of one ResultSet.next() call.
+     * 
+     * @param nanos the time spent
+     * @param hasRow whether the call moved to a row
+     */
+    void addFetch(long nanos, boolean hasRow) {
+        fetchNanos += nanos;
+        if (hasRow) {
+            rowCount++;
+        }
+    }
+    
+    /**
+     * Marks the record complete.
+     * 
+     * @return true the first time, false if it was already complete
+     */
+    boolean complete() {
+        if (completed) {
+            return false;
+        }
+        completed = true;
+        return true;
+    }
+    
+    public String getSql() {
+        return sql;
+    }
+    
+    public long getExecuteNanos() {
+        return executeNanos;
+    }
+    
+    public long getFetchNanos() {
+        return fetchNanos;
+    }
+    
+    /**
+     * Gets the execution and fetch time together.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return executeNanos + fetchNanos;
+    }
+    
+    /**
+     * Gets the parameters bound to a prepared statement when it was executed,
+     * in index order (unset indexes are null). All of them are masked for a
+     * statement that mentions a password column.
+     * 
+     * @return the parameters, empty for plain statements and batches
+     */
+    public List<Object> getParameters() {
+        return parameters;
+    }
+    
+    /**
+     * Gets the rows read for a query, or the rows changed by an update.
+     * 
+     * @return the row count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * Gets the number of parameter sets sent, for executeBatch.
+     * 
+     * @return the batch size, or 0 for a single execution
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s [execute %.3f ms, fetch %.3f ms, %d rows%s]", sql,
+                executeNanos / 1_000_000.0, fetchNanos / 1_000_000.0, rowCount,
+                batchSize > 0 ? ", batch of " + batchSize : "");
+    }
+}
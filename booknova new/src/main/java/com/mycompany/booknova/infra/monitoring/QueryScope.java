@@ -0,0 +1,125 @@
+package com.mycompany.booknova.infra.monitoring;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The statements one logical operation ran on the current thread, from
+ * {@link QueryTracker#begin(String)} until {@link #close()}. Scopes can be
+ * nested; a statement is recorded in every scope open on its thread.
+ * 
+ * <pre>
+ * try (QueryScope scope = QueryTracker.getInstance().begin("findAll loans")) {
+ *     loanRepository.findAll();
+ *     scope.assertAtMost(1);
+ * }
+ * </pre>
+ * 
+ * Only connections borrowed while the scope is open are tracked (unless
+ * {@code db.instrumentation.enabled} tracks every connection).
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class QueryScope implements AutoCloseable {
+    
+    private final String operation;
+    private final QueryTracker tracker;
+    private final List<QueryRecord> statements = new ArrayList<>();
+    private final long startNanos = System.nanoTime();
+    private long endNanos;
+    
+    QueryScope(String operation, QueryTracker tracker) {
+        this.operation = operation;
+        this.tracker = tracker;
+    }
+    
+    void add(QueryRecord record) {
+        statements.add(record);
+    }
+    
+    public String getOperation() {
+        return operation;
+    }
+    
+    /**
+     * Gets the statements executed so far, in order.
+     * 
+     * @return the statements
+     */
+    public List<QueryRecord> getStatements() {
+        return Collections.unmodifiableList(statements);
+    }
+    
+    /**
+     * Gets the number of statements executed so far. A batch counts once.
+     * 
+     * @return the statement count
+     */
+    public int getQueryCount() {
+        return statements.size();
+    }
+    
+    /**
+     * Gets the total execution time of the statements.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getExecuteNanos() {
+        long total = 0;
+        for (QueryRecord record : statements) {
+            total += record.getExecuteNanos();
+        }
+        return total;
+    }
+    
+    /**
+     * Gets the total time spent reading result rows.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getFetchNanos() {
+        long total = 0;
+        for (QueryRecord record : statements) {
+            total += record.getFetchNanos();
+        }
+        return total;
+    }
+    
+    /**
+     * Fails if the operation ran more statements than allowed, listing them.
+     * Meant for tests that guard against N+1 query patterns.
+     * 
+     * @param maxQueries the allowed number of statements
+     * @throws AssertionError if more statements were executed
+     */
+    public void assertAtMost(int maxQueries) {
+        if (statements.size() > maxQueries) {
+            throw new AssertionError("Expected at most " + maxQueries + " queries but " + this);
+        }
+    }
+    
+    /**
+     * Stops recording and removes the scope from its thread.
+     */
+    @Override
+    public void close() {
+        if (endNanos == 0) {
+            endNanos = System.nanoTime();
+            tracker.end(this);
+        }
+    }
+    
+    @Override
+    public String toString() {
+        long elapsed = (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+        StringBuilder summary = new StringBuilder(String.format(
+                "%s ran %d queries in %.3f ms (execute %.3f ms, fetch %.3f ms)", operation, statements.size(),
+                elapsed / 1_000_000.0, getExecuteNanos() / 1_000_000.0, getFetchNanos() / 1_000_000.0));
+        for (int i = 0; i < statements.size(); i++) {
+            summary.append("\n  ").append(i + 1).append(". ").append(statements.get(i));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,118 @@
+package com.mycompany.booknova.infra.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running count and latency percentiles of one SQL statement.
+ * Times are kept in a histogram with 8 buckets per power of two, so a
+ * percentile is within 12.5% of the exact value while the memory stays fixed
+ * (about 4 KB per statement) however often the statement runs.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class QueryStatistics {
+    
+    private static final int EXACT_BUCKETS = 16;
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int BUCKETS = EXACT_BUCKETS + (63 - 4) * SUB_BUCKETS;
+    
+    private final String sql;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+    
+    QueryStatistics(String sql) {
+        this.sql = sql;
+    }
+    
+    /**
+     * Adds one execution.
+     * 
+     * @param nanos the elapsed time of the execution
+     */
+    void add(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(bucket(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+    
+    public String getSql() {
+        return sql;
+    }
+    
+    public long getCount() {
+        return count.sum();
+    }
+    
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+    
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+    
+    /**
+     * Gets a latency percentile, e.g. 50 for the median or 99.
+     * 
+     * @param percentile the percentile, from 0 to 100
+     * @return the time in nanoseconds, or 0 if the statement never ran
+     */
+    public long getPercentileNanos(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(100, Math.max(0, percentile)) / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(midpoint(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+    
+    /**
+     * Maps a time to its bucket: exact below 16, then 8 buckets between each
+     * power of two and the next.
+     */
+    private static int bucket(long value) {
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) ((value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+        return EXACT_BUCKETS + (exponent - 4) * SUB_BUCKETS + subBucket;
+    }
+    
+    private static long midpoint(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int exponent = 4 + (bucket - EXACT_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - EXACT_BUCKETS) % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (SUB_BUCKETS + subBucket) * width + width / 2;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("count=%d, p50=%.3f ms, p99=%.3f ms, max=%.3f ms, total=%.3f ms",
+                getCount(), getPercentileNanos(50) / 1_000_000.0, getPercentileNanos(99) / 1_000_000.0,
+                getMaxNanos() / 1_000_000.0, getTotalNanos() / 1_000_000.0);
+    }
+}
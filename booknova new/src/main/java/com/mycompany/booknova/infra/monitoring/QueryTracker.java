@@ -0,0 +1,401 @@
+package com.mycompany.booknova.infra.monitoring;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Singleton that counts and times the SQL statements the application runs.
+ * {@link com.mycompany.booknova.infra.config.ConnectionDB} passes every
+ * borrowed connection through {@link #track(Connection)}, which wraps it in a
+ * proxy when tracking is on for the connection: always with
+ * {@code db.instrumentation.enabled=true} or a {@link SlowQueryLog},
+ * otherwise only while a {@link QueryScope} is open on the borrowing thread.
+ * Untracked connections are returned unwrapped, so there is no overhead
+ * outside a scope.
+ * 
+ * The proxies wrap the statements and result sets a connection hands out.
+ * For each execution they record the SQL text, the bound parameters, the
+ * execution time and the rows, and for a query the time spent in
+ * {@code ResultSet.next()}, which is where the driver fetches rows. The
+ * parameters of a statement that mentions a password column are masked
+ * when bound, so credentials never reach a record or the log. Completed
+ * records (updates at once, queries when their ResultSet is exhausted or
+ * closed) are passed to the slow query log.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class QueryTracker {
+    
+    private static final Logger LOGGER = Logger.getLogger(QueryTracker.class.getName());
+    private static final Pattern SENSITIVE_SQL = Pattern.compile("password", Pattern.CASE_INSENSITIVE);
+    private static final String MASKED = "***";
+    
+    private static QueryTracker instance;
+    
+    private final ThreadLocal<Deque<QueryScope>> scopes = ThreadLocal.withInitial(ArrayDeque::new);
+    private final LongAdder statementCount = new LongAdder();
+    private final LongAdder executeNanos = new LongAdder();
+    private final LongAdder fetchNanos = new LongAdder();
+    private volatile boolean enabled;
+    private volatile SlowQueryLog slowQueryLog;
+    
+    private QueryTracker() {
+    }
+    
+    /**
+     * Gets the singleton instance of QueryTracker.
+     * 
+     * @return the unique instance of QueryTracker
+     */
+    public static synchronized QueryTracker getInstance() {
+        if (instance == null) {
+            instance = new QueryTracker();
+        }
+        return instance;
+    }
+    
+    /**
+     * Turns tracking of every connection on or off. Scopes are tracked either way.
+     * 
+     * @param enabled true to track all connections
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Sets the log that receives every completed statement. While a log is
+     * set, every connection is tracked.
+     * 
+     * @param slowQueryLog the log, or null to remove it
+     */
+    public void setSlowQueryLog(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+    
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+    
+    /**
+     * Opens a scope that records the statements run on this thread until it
+     * is closed.
+     * 
+     * @param operation a name for the logical operation, used in messages
+     * @return the open scope
+     */
+    public QueryScope begin(String operation) {
+        QueryScope scope = new QueryScope(operation, this);
+        scopes.get().push(scope);
+        return scope;
+    }
+    
+    void end(QueryScope scope) {
+        Deque<QueryScope> open = scopes.get();
+        open.remove(scope);
+        if (open.isEmpty()) {
+            scopes.remove();
+        }
+        if (LOGGER.isLoggable(Level.FINE)) {
+            LOGGER.fine(scope.toString());
+        }
+    }
+    
+    /**
+     * Wraps a connection for tracking if tracking is on for this thread.
+     * 
+     * @param connection the connection to wrap
+     * @return the tracking proxy, or the connection itself
+     */
+    public Connection track(Connection connection) {
+        if (!enabled && slowQueryLog == null && scopes.get().isEmpty()) {
+            scopes.remove();
+            return connection;
+        }
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new ConnectionHandler(connection));
+    }
+    
+    /**
+     * Gets the number of statements recorded since startup.
+     * 
+     * @return the statement count
+     */
+    public long getStatementCount() {
+        return statementCount.sum();
+    }
+    
+    /**
+     * Gets the total execution time recorded since startup.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getExecuteNanos() {
+        return executeNanos.sum();
+    }
+    
+    /**
+     * Gets the total row fetch time recorded since startup.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getFetchNanos() {
+        return fetchNanos.sum();
+    }
+    
+    private void record(QueryRecord record) {
+        statementCount.increment();
+        executeNanos.add(record.getExecuteNanos());
+        for (QueryScope scope : scopes.get()) {
+            scope.add(record);
+        }
+    }
+    
+    private void complete(QueryRecord record) {
+        SlowQueryLog log = slowQueryLog;
+        if (record.complete() && log != null) {
+            log.record(record);
+        }
+    }
+    
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+    
+    /**
+     * Wraps the statements a connection creates. Prepared statements know
+     * their SQL from the start; plain statements get it at execution.
+     */
+    private final class ConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        
+        private ConnectionHandler(Connection physical) {
+            this.physical = physical;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TrackedConnection[" + physical + "]";
+                default:
+                    break;
+            }
+            
+            Object result = QueryTracker.invoke(physical, method, args);
+            if (result instanceof Statement) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+                return Proxy.newProxyInstance(
+                        Statement.class.getClassLoader(),
+                        new Class<?>[] { method.getReturnType() },
+                        new StatementHandler((Statement) result, (Connection) proxy, sql));
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Records each execution of a statement and wraps its result sets.
+     * Remembers the parameters bound by the set methods of a prepared statement.
+     */
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement physical;
+        private final Connection connection;
+        private final String preparedSql;
+        private final boolean sensitive;
+        private final List<Object> parameters = new ArrayList<>();
+        private String batchSql;
+        private int batchSize;
+        private QueryRecord last;
+        
+        private StatementHandler(Statement physical, Connection connection, String preparedSql) {
+            this.physical = physical;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+            this.sensitive = preparedSql != null && SENSITIVE_SQL.matcher(preparedSql).find();
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "getConnection":
+                    return connection;
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "TrackedStatement[" + physical + "]";
+                case "addBatch":
+                    batchSize++;
+                    if (args != null && args.length == 1 && batchSql == null) {
+                        batchSql = (String) args[0];
+                    }
+                    return QueryTracker.invoke(physical, method, args);
+                case "clearBatch":
+                    batchSize = 0;
+                    batchSql = null;
+                    return QueryTracker.invoke(physical, method, args);
+                case "clearParameters":
+                    parameters.clear();
+                    return QueryTracker.invoke(physical, method, args);
+                case "getResultSet":
+                    return wrap((ResultSet) QueryTracker.invoke(physical, method, args));
+                case "close":
+                    completeLast();
+                    return QueryTracker.invoke(physical, method, args);
+                default:
+                    break;
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bind((Integer) args[0], name.equals("setNull") ? null : args[1]);
+                return QueryTracker.invoke(physical, method, args);
+            }
+            if (!name.startsWith("execute")) {
+                return QueryTracker.invoke(physical, method, args);
+            }
+            
+            completeLast();
+            boolean batch = name.endsWith("Batch");
+            String sql = args != null && args.length > 0 && args[0] instanceof String ? (String) args[0]
+                    : batch && batchSql != null ? batchSql : preparedSql;
+            List<Object> bound = batch || parameters.isEmpty() ? Collections.emptyList()
+                    : Collections.unmodifiableList(Arrays.asList(parameters.toArray()));
+            long start = System.nanoTime();
+            Object result = null;
+            try {
+                result = QueryTracker.invoke(physical, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                last = new QueryRecord(sql, elapsed, batch ? batchSize : 0, updatedRows(result), bound);
+                record(last);
+                if (batch) {
+                    batchSize = 0;
+                    batchSql = null;
+                }
+            }
+            if (result instanceof ResultSet) {
+                return wrap((ResultSet) result);
+            }
+            // execute() returning true leaves a ResultSet to read with getResultSet()
+            if (!Boolean.TRUE.equals(result)) {
+                completeLast();
+            }
+            return result;
+        }
+        
+        private void bind(int index, Object value) {
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, sensitive ? MASKED : value);
+        }
+        
+        private void completeLast() {
+            if (last != null) {
+                complete(last);
+            }
+        }
+        
+        /**
+         * Reads the rows changed from the result of an update or a batch.
+         */
+        private long updatedRows(Object result) {
+            if (result instanceof Number) {
+                return Math.max(0, ((Number) result).longValue());
+            }
+            long rows = 0;
+            if (result instanceof int[]) {
+                for (int count : (int[]) result) {
+                    rows += Math.max(0, count);
+                }
+            } else if (result instanceof long[]) {
+                for (long count : (long[]) result) {
+                    rows += Math.max(0, count);
+                }
+            }
+            return rows;
+        }
+        
+        private ResultSet wrap(ResultSet resultSet) {
+            if (resultSet == null || last == null) {
+                return resultSet;
+            }
+            return (ResultSet) Proxy.newProxyInstance(
+                    ResultSet.class.getClassLoader(),
+                    new Class<?>[] { ResultSet.class },
+                    new ResultSetHandler(resultSet, last));
+        }
+    }
+    
+    /**
+     * Times the row fetches of a result set. The record is complete when the
+     * last row has been read or the result set is closed.
+     */
+    private final class ResultSetHandler implements InvocationHandler {
+        private final ResultSet physical;
+        private final QueryRecord record;
+        
+        private ResultSetHandler(ResultSet physical, QueryRecord record) {
+            this.physical = physical;
+            this.record = record;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "next": {
+                    long start = System.nanoTime();
+                    boolean hasRow = physical.next();
+                    long elapsed = System.nanoTime() - start;
+                    record.addFetch(elapsed, hasRow);
+                    fetchNanos.add(elapsed);
+                    if (!hasRow) {
+                        complete(record);
+                    }
+                    return hasRow;
+                }
+                case "close":
+                    complete(record);
+                    return QueryTracker.invoke(physical, method, args);
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                default:
+                    return QueryTracker.invoke(physical, method, args);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.mycompany.booknova.infra.monitoring;
+
+import com.mycompany.booknova.infra.logging.AppLogger;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes the statements slower than a threshold to the application log with
+ * their SQL, bound parameters, calling method, rows and elapsed time, and one
+ * of every {@code sampleRate} faster statements for comparison.
+ * Every statement also feeds the {@link QueryStatistics} of its SQL text, so
+ * a slow entry can be read against the usual p50/p99 of the same statement.
+ * 
+ * The log receives the records of {@link QueryTracker}, on the thread that
+ * ran the statement; the calling method is looked up on that thread's stack
+ * only for the statements that are written.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class SlowQueryLog {
+    
+    private static final String COMPONENT = "SLOW_QUERY";
+    private static final String APPLICATION_PACKAGE = "com.mycompany.booknova.";
+    private static final String INFRA_PACKAGE = APPLICATION_PACKAGE + "infra.";
+    private static final int MAX_PARAMETER_LENGTH = 64;
+    /** Distinct SQL texts kept; statements built with literals share one entry beyond it. */
+    private static final int MAX_STATEMENTS = 1000;
+    private static final String OTHER_STATEMENTS = "(other statements)";
+    
+    private final long thresholdNanos;
+    private final int sampleRate;
+    private final Map<String, QueryStatistics> statistics = new ConcurrentHashMap<>();
+    private final AtomicLong sampleCounter = new AtomicLong();
+    private final AtomicLong slowCount = new AtomicLong();
+    
+    /**
+     * Creates the log.
+     * 
+     * @param thresholdMs statements taking longer are always written
+     * @param sampleRate one in this many faster statements is written (0 writes none)
+     */
+    public SlowQueryLog(long thresholdMs, int sampleRate) {
+        if (thresholdMs < 0) {
+            throw new IllegalArgumentException("Threshold must not be negative");
+        }
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMs);
+        this.sampleRate = Math.max(0, sampleRate);
+    }
+    
+    /**
+     * Records a completed statement and writes it if it is slow or sampled.
+     * 
+     * @param record the completed statement
+     */
+    public void record(QueryRecord record) {
+        long elapsed = record.getElapsedNanos();
+        QueryStatistics stats = statisticsFor(record.getSql());
+        stats.add(elapsed);
+        
+        if (elapsed > thresholdNanos) {
+            slowCount.incrementAndGet();
+            write(true, describe(record, stats));
+        } else if (sampleRate > 0 && sampleCounter.incrementAndGet() % sampleRate == 0) {
+            write(false, describe(record, stats));
+        }
+    }
+    
+    /**
+     * Writes an entry. Slow statements are logged as warnings, samples as
+     * information.
+     * 
+     * @param slow whether the statement exceeded the threshold
+     * @param message the entry
+     */
+    protected void write(boolean slow, String message) {
+        if (slow) {
+            AppLogger.getInstance().logWarning(COMPONENT, message);
+        } else {
+            AppLogger.getInstance().logInfo(COMPONENT, "Sampled " + message);
+        }
+    }
+    
+    /**
+     * Gets the statistics of every statement seen, the most time consuming first.
+     * 
+     * @return the statistics
+     */
+    public List<QueryStatistics> getStatistics() {
+        List<QueryStatistics> all = new ArrayList<>(statistics.values());
+        all.sort(Comparator.comparingLong(QueryStatistics::getTotalNanos).reversed());
+        return all;
+    }
+    
+    /**
+     * Gets the number of statements that exceeded the threshold.
+     * 
+     * @return the slow statement count
+     */
+    public long getSlowCount() {
+        return slowCount.get();
+    }
+    
+    /**
+     * Writes the statistics of the most time consuming statements.
+     * 
+     * @param limit the number of statements to write
+     */
+    public void logSummary(int limit) {
+        List<QueryStatistics> all = getStatistics();
+        for (QueryStatistics stats : all.subList(0, Math.min(limit, all.size()))) {
+            AppLogger.getInstance().logInfo(COMPONENT, stats + " | " + stats.getSql());
+        }
+    }
+    
+    private QueryStatistics statisticsFor(String sql) {
+        String key = sql != null ? sql : OTHER_STATEMENTS;
+        QueryStatistics stats = statistics.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (statistics.size() >= MAX_STATEMENTS) {
+            key = OTHER_STATEMENTS;
+        }
+        return statistics.computeIfAbsent(key, QueryStatistics::new);
+    }
+    
+    private String describe(QueryRecord record, QueryStatistics stats) {
+        StringBuilder entry = new StringBuilder();
+        entry.append(String.format("%.3f ms (execute %.3f ms, fetch %.3f ms) in %s, %d rows",
+                record.getElapsedNanos() / 1_000_000.0, record.getExecuteNanos() / 1_000_000.0,
+                record.getFetchNanos() / 1_000_000.0, findCaller(), record.getRowCount()));
+        if (record.getBatchSize() > 0) {
+            entry.append(", batch of ").append(record.getBatchSize());
+        }
+        entry.append(" | ").append(record.getSql());
+        if (!record.getParameters().isEmpty()) {
+            entry.append(" | parameters ");
+            appendParameters(entry, record.getParameters());
+        }
+        entry.append(" | ").append(stats);
+        return entry.toString();
+    }
+    
+    private static void appendParameters(StringBuilder entry, List<Object> parameters) {
+        entry.append('[');
+        for (int i = 0; i < parameters.size(); i++) {
+            if (i > 0) {
+                entry.append(", ");
+            }
+            Object value = parameters.get(i);
+            if (value instanceof CharSequence) {
+                String text = value.toString();
+                entry.append('\'').append(text.length() > MAX_PARAMETER_LENGTH
+                        ? text.substring(0, MAX_PARAMETER_LENGTH) + "..." : text).append('\'');
+            } else if (value == null || value instanceof Number || value instanceof Boolean
+                    || value instanceof Temporal || value instanceof Date) {
+                entry.append(value);
+            } else {
+                // Streams, blobs and arrays: the type is enough
+                entry.append('<').append(value.getClass().getSimpleName()).append('>');
+            }
+        }
+        entry.append(']');
+    }
+    
+    /**
+     * Finds the first application method outside the infrastructure on the
+     * current stack, normally the repository method that ran the statement.
+     */
+    private static String findCaller() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().startsWith(INFRA_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown caller"));
+    }
+}
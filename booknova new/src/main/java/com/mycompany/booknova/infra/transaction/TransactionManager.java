@@ -0,0 +1,290 @@
+package com.mycompany.booknova.infra.transaction;
+
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Singleton that binds one database connection to the current thread for the
+ * duration of a unit of work.
+ * While a transaction is active, {@link ConnectionDB#getConnection()} returns the
+ * bound connection, so every repository call made by the service shares it and
+ * commits or rolls back together.
+ * 
+ * Usage mirrors a manual JDBC transaction:
+ * <pre>
+ * transactionManager.begin();
+ * try {
+ *     // repository calls
+ *     transactionManager.commit();
+ * } finally {
+ *     transactionManager.end();
+ * }
+ * </pre>
+ * Nested {@code begin()} calls join the outer transaction; only the outermost
+ * {@code commit()} and {@code end()} take effect. A nested unit that ends
+ * without committing marks the transaction rollback-only: its partial writes
+ * are on the shared connection, so the outermost {@code commit()} then fails
+ * even if the caller caught the nested failure. Work that must only happen
+ * once the changes are visible to other threads, such as cache invalidation,
+ * is registered with {@link #afterCommit(Runnable)}.
+ * 
+ * With {@code repository.type=memory} there is no database: transactions
+ * only track their nesting, and the in-memory repositories apply each write
+ * immediately. They register an undo for their stock changes with
+ * {@link #onRollback(Runnable)}, so a failed checkout gives its copy back.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class TransactionManager {
+    
+    private static TransactionManager instance;
+    
+    private final AppLogger appLogger = AppLogger.getInstance();
+    private final ThreadLocal<TransactionContext> currentTransaction = new ThreadLocal<>();
+    private final boolean connectionless;
+    
+    private TransactionManager() {
+        this.connectionless = RepositoryFactory.isInMemoryConfigured();
+    }
+    
+    /**
+     * Gets the singleton instance of TransactionManager.
+     * 
+     * @return the unique instance of TransactionManager
+     */
+    public static synchronized TransactionManager getInstance() {
+        if (instance == null) {
+            instance = new TransactionManager();
+        }
+        return instance;
+    }
+    
+    /**
+     * Starts a transaction on the current thread, or joins the active one.
+     * 
+     * @throws DatabaseException if a connection cannot be obtained
+     */
+    public void begin() throws DatabaseException {
+        TransactionContext context = currentTransaction.get();
+        if (context != null) {
+            context.depth++;
+            context.committedLevels.clear(context.depth);
+            return;
+        }
+        
+        if (connectionless) {
+            currentTransaction.set(new TransactionContext(null));
+            return;
+        }
+        
+        Connection connection = null;
+        try {
+            connection = ConnectionDB.getInstance().getConnection();
+            connection.setAutoCommit(false);
+            currentTransaction.set(new TransactionContext(connection));
+        } catch (SQLException e) {
+            if (connection != null) {
+                try {
+                    connection.close();
+                } catch (SQLException closeError) {
+                    e.addSuppressed(closeError);
+                }
+            }
+            throw new DatabaseException("Error starting transaction", e);
+        }
+    }
+    
+    /**
+     * Commits the current transaction.
+     * Inside a nested transaction this only marks the nested unit as complete.
+     * 
+     * @throws DatabaseException if no transaction is active, a nested unit
+     *         ended without committing, or the commit fails
+     */
+    public void commit() throws DatabaseException {
+        TransactionContext context = currentTransaction.get();
+        if (context == null) {
+            throw new DatabaseException("No active transaction to commit");
+        }
+        if (context.depth > 0) {
+            context.committedLevels.set(context.depth);
+            return;
+        }
+        if (context.rollbackOnly) {
+            throw new DatabaseException("Transaction is rollback-only: a nested unit of work did not commit");
+        }
+        if (context.connection == null) {
+            context.committed = true;
+            return;
+        }
+        
+        try {
+            context.connection.commit();
+            context.committed = true;
+        } catch (SQLException e) {
+            throw new DatabaseException("Error committing transaction", e);
+        }
+    }
+    
+    /**
+     * Ends the current transaction.
+     * Rolls back if it was not committed, then returns the connection to the pool.
+     * Always call from a finally block.
+     */
+    public void end() {
+        TransactionContext context = currentTransaction.get();
+        if (context == null) {
+            return;
+        }
+        if (context.depth > 0) {
+            if (!context.committedLevels.get(context.depth)) {
+                context.rollbackOnly = true;
+            }
+            context.depth--;
+            return;
+        }
+        
+        currentTransaction.remove();
+        if (context.connection != null) {
+            release(context);
+        }
+        if (context.committed) {
+            runAll(context.afterCommit);
+        } else {
+            Collections.reverse(context.onRollback);
+            runAll(context.onRollback);
+        }
+    }
+    
+    /**
+     * Runs an action once the current transaction has committed, or at once
+     * if no transaction is active. The action is dropped if the transaction
+     * rolls back.
+     * 
+     * @param action the action to run
+     */
+    public void afterCommit(Runnable action) {
+        TransactionContext context = currentTransaction.get();
+        if (context == null) {
+            action.run();
+        } else {
+            context.afterCommit.add(action);
+        }
+    }
+    
+    /**
+     * Registers an action that reverts a write the connection cannot roll
+     * back, such as a change to the in-memory repositories. The actions run in
+     * reverse order if the transaction ends without commit. Outside a
+     * transaction the write is final and the action is dropped.
+     * 
+     * @param undo the action that reverts the write
+     */
+    public void onRollback(Runnable undo) {
+        TransactionContext context = currentTransaction.get();
+        if (context != null) {
+            context.onRollback.add(undo);
+        }
+    }
+    
+    private void release(TransactionContext context) {
+        try {
+            if (!context.committed) {
+                context.connection.rollback();
+            }
+        } catch (SQLException e) {
+            appLogger.logError("TRANSACTION", "Error rolling back transaction: " + e.getMessage(), e);
+        } finally {
+            try {
+                context.connection.close();
+            } catch (SQLException e) {
+                appLogger.logError("TRANSACTION", "Error releasing transaction connection: " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    private void runAll(List<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                appLogger.logError("TRANSACTION", "Error in transaction callback: " + e.getMessage(), e);
+            }
+        }
+    }
+    
+    /**
+     * Checks whether a transaction is active on the current thread.
+     * 
+     * @return true if a transaction is active
+     */
+    public boolean isActive() {
+        return currentTransaction.get() != null;
+    }
+    
+    /**
+     * Gets the connection bound to the current thread's transaction.
+     * The returned connection ignores {@code close()}, so repositories can keep
+     * using try-with-resources.
+     * 
+     * @return the transactional connection, or null if no transaction is active
+     *         or the in-memory repositories are in use
+     */
+    public Connection getCurrentConnection() {
+        TransactionContext context = currentTransaction.get();
+        return context != null ? context.sharedView : null;
+    }
+    
+    /**
+     * State of the transaction bound to one thread.
+     */
+    private static final class TransactionContext {
+        private final Connection connection;
+        private final Connection sharedView;
+        private final List<Runnable> afterCommit = new ArrayList<>();
+        private final List<Runnable> onRollback = new ArrayList<>();
+        // Nesting levels above the outermost whose unit has committed
+        private final BitSet committedLevels = new BitSet();
+        private int depth;
+        private boolean committed;
+        private boolean rollbackOnly;
+        
+        private TransactionContext(Connection connection) {
+            this.connection = connection;
+            if (connection == null) {
+                this.sharedView = null;
+                return;
+            }
+            this.sharedView = (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[] { Connection.class },
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "close":
+                                return null;
+                            case "equals":
+                                return proxy == args[0];
+                            case "hashCode":
+                                return System.identityHashCode(proxy);
+                            default:
+                                try {
+                                    return method.invoke(connection, args);
+                                } catch (InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.mycompany.booknova.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of a batch write.
+ * Rows that were written and rows that were rejected are reported separately,
+ * so one bad row never hides the result of the rest of the batch.
+ * 
+ * @param <T> the entity type
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class BatchResult<T> {
+    
+    private final List<T> succeeded = new ArrayList<>();
+    private final List<RowError<T>> errors = new ArrayList<>();
+    private final boolean[] rejected;
+    
+    /**
+     * Creates an empty result for a batch of the given size.
+     * 
+     * @param size the number of rows in the batch
+     */
+    public BatchResult(int size) {
+        this.rejected = new boolean[size];
+    }
+    
+    /**
+     * Records a row that was written.
+     * 
+     * @param item the written entity
+     */
+    public void addSucceeded(T item) {
+        succeeded.add(item);
+    }
+    
+    /**
+     * Records a row that could not be written.
+     * 
+     * @param index the row's position in the input list
+     * @param item the rejected entity
+     * @param message why the row was rejected
+     */
+    public void addError(int index, T item, String message) {
+        if (!rejected[index]) {
+            rejected[index] = true;
+            errors.add(new RowError<>(index, item, message));
+        }
+    }
+    
+    /**
+     * Checks whether a row has already been rejected.
+     * 
+     * @param index the row's position in the input list
+     * @return true if the row was rejected
+     */
+    public boolean isRejected(int index) {
+        return rejected[index];
+    }
+    
+    public List<T> getSucceeded() {
+        return Collections.unmodifiableList(succeeded);
+    }
+    
+    public List<RowError<T>> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+    
+    public int getSuccessCount() {
+        return succeeded.size();
+    }
+    
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+    
+    /**
+     * A rejected row and the reason it was rejected.
+     * 
+     * @param <T> the entity type
+     */
+    public static final class RowError<T> {
+        private final int index;
+        private final T item;
+        private final String message;
+        
+        public RowError(int index, T item, String message) {
+            this.index = index;
+            this.item = item;
+            this.message = message;
+        }
+        
+        public int getIndex() {
+            return index;
+        }
+        
+        public T getItem() {
+            return item;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+        
+        @Override
+        public String toString() {
+            return "Row " + index + ": " + message;
+        }
+    }
+}
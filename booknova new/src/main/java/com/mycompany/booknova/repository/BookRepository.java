@@ -26,7 +26,10 @@ public interface BookRepository {
     Book save(Book book) throws DuplicateIsbnException, DatabaseException;
     
     /**
-     * Updates an existing book.
+     * Updates an existing book's catalog data and total stock.
+     * The available stock is not taken from the book: it moves by the change
+     * in total stock (never below zero), so copies lent or returned since the
+     * book was read are kept. Use the stock methods to lend or return copies.
      * 
      * @param book the book to update
      * @return the updated book
@@ -34,6 +37,28 @@ public interface BookRepository {
      */
     Book update(Book book) throws DatabaseException;
     
+    /**
+     * Saves many books using JDBC batches.
+     * Generated IDs are set on the saved books; ISBNs that already exist or
+     * repeat within the list are rejected before anything is inserted.
+     * Rows that fail are reported in the result instead of aborting the batch.
+     * 
+     * @param books the books to save
+     * @return the written books and the rejected rows with their errors
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Book> saveAll(List<Book> books) throws DatabaseException;
+    
+    /**
+     * Updates many books using JDBC batches.
+     * Rows that fail are reported in the result instead of aborting the batch.
+     * 
+     * @param books the books to update
+     * @return the written books and the rejected rows with their errors
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Book> updateAll(List<Book> books) throws DatabaseException;
+    
     /**
      * Deletes a book by ID.
      * 
@@ -51,6 +76,16 @@ public interface BookRepository {
      */
     Optional<Book> findById(Long id) throws DatabaseException;
     
+    /**
+     * Finds a book by ID, always reading the stored row even when lookups
+     * are cached. Use it when the answer depends on the current stock.
+     * 
+     * @param id the book ID
+     * @return Optional containing the book if found
+     * @throws DatabaseException if database error occurs
+     */
+    Optional<Book> findCurrentById(Long id) throws DatabaseException;
+    
     /**
      * Finds a book by ISBN.
      * 
@@ -68,6 +103,30 @@ public interface BookRepository {
      */
     List<Book> findAll() throws DatabaseException;
     
+    /**
+     * Finds a page of books ordered by ID, starting after the given ID.
+     * Pass the ID of the last book of the previous page to read the next one;
+     * unlike offset paging this stays fast deep into the table.
+     * 
+     * @param afterId the last ID already read, or null for the first page
+     * @param limit the maximum number of books to return
+     * @return the next books in ID order, fewer than limit on the last page
+     * @throws DatabaseException if database error occurs
+     */
+    List<Book> findPage(Long afterId, int limit) throws DatabaseException;
+    
+    /**
+     * Streams all books, ordered by title like {@link #findAll()}, to the callback
+     * without loading them into memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each row in turn
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails; the query is abandoned
+     */
+    <E extends Exception> long streamAll(RowCallback<Book, E> callback) throws DatabaseException, E;
+    
     /**
      * Finds books by category.
      * 
@@ -94,4 +153,32 @@ public interface BookRepository {
      * @throws DatabaseException if database error occurs
      */
     void updateAvailableStock(Long bookId, Integer newStock) throws DatabaseException;
+    
+    /**
+     * Takes one copy of a book out of stock in a single atomic statement.
+     * Concurrent callers can never push the stock below zero.
+     * 
+     * @param bookId the book ID
+     * @return true if a copy was taken, false if none was available
+     * @throws DatabaseException if database error occurs
+     */
+    boolean decrementAvailableStockIfPositive(Long bookId) throws DatabaseException;
+    
+    /**
+     * Puts one copy of a book back in stock in a single atomic statement.
+     * The available stock never exceeds the total stock.
+     * 
+     * @param bookId the book ID
+     * @return true if the copy was added back, false if the stock was already full
+     * @throws DatabaseException if database error occurs
+     */
+    boolean incrementAvailableStock(Long bookId) throws DatabaseException;
+    
+    /**
+     * Counts all books in the catalog.
+     * 
+     * @return number of books
+     * @throws DatabaseException if database error occurs
+     */
+    long count() throws DatabaseException;
 }
\ No newline at end of file
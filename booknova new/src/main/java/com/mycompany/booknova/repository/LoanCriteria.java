@@ -0,0 +1,141 @@
+package com.mycompany.booknova.repository;
+
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Filter for loan queries. Every condition that is set must match; conditions
+ * left unset do not filter. An empty criteria matches all loans.
+ * 
+ * <pre>
+ * LoanCriteria criteria = new LoanCriteria()
+ *     .withStatuses(LoanStatus.ACTIVE, LoanStatus.OVERDUE)
+ *     .withMemberId(memberId);
+ * </pre>
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class LoanCriteria {
+    
+    private final Set<LoanStatus> statuses = EnumSet.noneOf(LoanStatus.class);
+    private LocalDate loanDateFrom;
+    private LocalDate loanDateTo;
+    private Long memberId;
+    private Long bookId;
+    private boolean overdueOnly;
+    
+    /**
+     * Keeps loans whose status is one of the given statuses.
+     * 
+     * @param statuses the accepted statuses
+     * @return this criteria
+     */
+    public LoanCriteria withStatuses(LoanStatus... statuses) {
+        Collections.addAll(this.statuses, statuses);
+        return this;
+    }
+    
+    /**
+     * Keeps loans whose status is one of the given statuses.
+     * 
+     * @param statuses the accepted statuses
+     * @return this criteria
+     */
+    public LoanCriteria withStatuses(Collection<LoanStatus> statuses) {
+        this.statuses.addAll(statuses);
+        return this;
+    }
+    
+    /**
+     * Keeps loans made between the two dates, both inclusive.
+     * Either bound may be null to leave that side open.
+     * 
+     * @param from the earliest loan date
+     * @param to the latest loan date
+     * @return this criteria
+     * @throws IllegalArgumentException if from is after to
+     */
+    public LoanCriteria withLoanDateBetween(LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        this.loanDateFrom = from;
+        this.loanDateTo = to;
+        return this;
+    }
+    
+    /**
+     * Keeps loans of one member.
+     * 
+     * @param memberId the member ID
+     * @return this criteria
+     */
+    public LoanCriteria withMemberId(Long memberId) {
+        this.memberId = memberId;
+        return this;
+    }
+    
+    /**
+     * Keeps loans of one book.
+     * 
+     * @param bookId the book ID
+     * @return this criteria
+     */
+    public LoanCriteria withBookId(Long bookId) {
+        this.bookId = bookId;
+        return this;
+    }
+    
+    /**
+     * Keeps only active loans whose expected return date has passed,
+     * using the database's current date like
+     * {@link LoanRepository#findOverdueLoans()}.
+     * 
+     * @return this criteria
+     */
+    public LoanCriteria withOverdueOnly() {
+        this.overdueOnly = true;
+        return this;
+    }
+    
+    public Set<LoanStatus> getStatuses() {
+        return Collections.unmodifiableSet(statuses);
+    }
+    
+    public LocalDate getLoanDateFrom() {
+        return loanDateFrom;
+    }
+    
+    public LocalDate getLoanDateTo() {
+        return loanDateTo;
+    }
+    
+    public Long getMemberId() {
+        return memberId;
+    }
+    
+    public Long getBookId() {
+        return bookId;
+    }
+    
+    public boolean isOverdueOnly() {
+        return overdueOnly;
+    }
+    
+    @Override
+    public String toString() {
+        return "LoanCriteria{" +
+                "statuses=" + statuses +
+                ", loanDateFrom=" + loanDateFrom +
+                ", loanDateTo=" + loanDateTo +
+                ", memberId=" + memberId +
+                ", bookId=" + bookId +
+                ", overdueOnly=" + overdueOnly +
+                '}';
+    }
+}
@@ -1,6 +1,7 @@
 package com.mycompany.booknova.repository;
 
 import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.LoanReportRow;
 import com.mycompany.booknova.exceptions.DatabaseException;
 import java.time.LocalDate;
 import java.util.List;
@@ -24,6 +25,17 @@ public interface LoanRepository {
      */
     Loan save(Loan loan) throws DatabaseException;
     
+    /**
+     * Saves many loans using JDBC batches.
+     * Generated IDs are set on the saved loans.
+     * Rows that fail are reported in the result instead of aborting the batch.
+     * 
+     * @param loans the loans to save
+     * @return the written loans and the rejected rows with their errors
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Loan> saveAll(List<Loan> loans) throws DatabaseException;
+    
     /**
      * Updates an existing loan.
      * 
@@ -33,6 +45,17 @@ public interface LoanRepository {
      */
     Loan update(Loan loan) throws DatabaseException;
     
+    /**
+     * Updates an existing loan in a single atomic statement, but only while
+     * its stored status is still ACTIVE. Of two concurrent returns of the
+     * same loan only one can succeed.
+     * 
+     * @param loan the new state of the loan
+     * @return true if the loan was active and has been updated
+     * @throws DatabaseException if database error occurs
+     */
+    boolean updateIfActive(Loan loan) throws DatabaseException;
+    
     /**
      * Finds a loan by ID.
      * 
@@ -50,6 +73,69 @@ public interface LoanRepository {
      */
     List<Loan> findAll() throws DatabaseException;
     
+    /**
+     * Finds a page of loans ordered by ID, starting after the given ID.
+     * Pass the ID of the last loan of the previous page to read the next one;
+     * unlike offset paging this stays fast deep into the table.
+     * 
+     * @param afterId the last ID already read, or null for the first page
+     * @param limit the maximum number of loans to return
+     * @return the next loans in ID order, fewer than limit on the last page
+     * @throws DatabaseException if database error occurs
+     */
+    List<Loan> findPage(Long afterId, int limit) throws DatabaseException;
+    
+    /**
+     * Streams all loans with their member, book and user, newest first like
+     * {@link #findAll()}, to the callback without loading them into memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each row in turn
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails; the query is abandoned
+     */
+    <E extends Exception> long streamAll(RowCallback<Loan, E> callback) throws DatabaseException, E;
+    
+    /**
+     * Finds the loans matching the criteria, newest first.
+     * The criteria are applied in SQL, so only matching rows are read.
+     * 
+     * @param criteria the filter; an empty criteria returns all loans
+     * @return list of matching loans
+     * @throws DatabaseException if database error occurs
+     */
+    List<Loan> findByCriteria(LoanCriteria criteria) throws DatabaseException;
+    
+    /**
+     * Streams the loans matching the criteria, newest first, to the callback
+     * without loading them into memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param criteria the filter; an empty criteria streams all loans
+     * @param callback receives each row in turn
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails; the query is abandoned
+     */
+    <E extends Exception> long streamByCriteria(LoanCriteria criteria, RowCallback<Loan, E> callback)
+            throws DatabaseException, E;
+    
+    /**
+     * Streams report rows for the loans matching the criteria, in loan ID
+     * order. Only the reported columns are read, and the days overdue are
+     * computed by the database.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param criteria the filter; an empty criteria streams all loans
+     * @param callback receives each row in turn
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails; the query is abandoned
+     */
+    <E extends Exception> long streamReportRows(LoanCriteria criteria, RowCallback<LoanReportRow, E> callback)
+            throws DatabaseException, E;
+    
     /**
      * Finds all active loans for a member.
      * 
@@ -67,6 +153,19 @@ public interface LoanRepository {
      */
     List<Loan> findOverdueLoans() throws DatabaseException;
     
+    /**
+     * Streams overdue loans with their member, book and user to the callback
+     * without loading them into memory.
+     * Uses the same filter and order as {@link #findOverdueLoans()}.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each row in turn
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails; the query is abandoned
+     */
+    <E extends Exception> long streamOverdueLoans(RowCallback<Loan, E> callback) throws DatabaseException, E;
+    
     /**
      * Finds loans by date range.
      * 
@@ -85,4 +184,20 @@ public interface LoanRepository {
      * @throws DatabaseException if database error occurs
      */
     int countActiveLoansByMember(Long memberId) throws DatabaseException;
+    
+    /**
+     * Counts all active loans, including overdue ones.
+     * 
+     * @return number of active loans
+     * @throws DatabaseException if database error occurs
+     */
+    long countActive() throws DatabaseException;
+    
+    /**
+     * Counts overdue loans, using the same filter as {@link #findOverdueLoans()}.
+     * 
+     * @return number of overdue loans
+     * @throws DatabaseException if database error occurs
+     */
+    long countOverdue() throws DatabaseException;
 }
\ No newline at end of file
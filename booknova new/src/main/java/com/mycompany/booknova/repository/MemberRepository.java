@@ -32,6 +32,27 @@ public interface MemberRepository {
      */
     Member update(Member member) throws DatabaseException;
     
+    /**
+     * Saves many members using JDBC batches.
+     * Generated IDs are set on the saved members.
+     * Rows that fail are reported in the result instead of aborting the batch.
+     * 
+     * @param members the members to save
+     * @return the written members and the rejected rows with their errors
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Member> saveAll(List<Member> members) throws DatabaseException;
+    
+    /**
+     * Updates many members using JDBC batches.
+     * Rows that fail are reported in the result instead of aborting the batch.
+     * 
+     * @param members the members to update
+     * @return the written members and the rejected rows with their errors
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Member> updateAll(List<Member> members) throws DatabaseException;
+    
     /**
      * Deletes a member by ID.
      * 
@@ -75,6 +96,18 @@ public interface MemberRepository {
      */
     List<Member> findAll() throws DatabaseException;
     
+    /**
+     * Finds a page of members ordered by ID, starting after the given ID.
+     * Pass the ID of the last member of the previous page to read the next one;
+     * unlike offset paging this stays fast deep into the table.
+     * 
+     * @param afterId the last ID already read, or null for the first page
+     * @param limit the maximum number of members to return
+     * @return the next members in ID order, fewer than limit on the last page
+     * @throws DatabaseException if database error occurs
+     */
+    List<Member> findPage(Long afterId, int limit) throws DatabaseException;
+    
     /**
      * Finds all active members.
      * 
@@ -82,4 +115,12 @@ public interface MemberRepository {
      * @throws DatabaseException if database error occurs
      */
     List<Member> findAllActive() throws DatabaseException;
+    
+    /**
+     * Counts active members without loading them.
+     * 
+     * @return number of active members
+     * @throws DatabaseException if database error occurs
+     */
+    long countActive() throws DatabaseException;
 }
\ No newline at end of file
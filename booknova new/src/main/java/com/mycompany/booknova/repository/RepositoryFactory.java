@@ -0,0 +1,147 @@
+package com.mycompany.booknova.repository;
+
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.cache.CachingBookRepository;
+import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.MemberRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.StatisticsRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.UserRepositoryJdbc;
+import com.mycompany.booknova.repository.memory.InMemoryBookRepository;
+import com.mycompany.booknova.repository.memory.InMemoryLoanRepository;
+import com.mycompany.booknova.repository.memory.InMemoryMemberRepository;
+import com.mycompany.booknova.repository.memory.InMemoryStatisticsRepository;
+import com.mycompany.booknova.repository.memory.InMemoryUserRepository;
+import com.mycompany.booknova.service.auth.MockAuthenticationService;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+import java.util.Properties;
+
+/**
+ * Singleton that chooses the repository implementations used by the services.
+ * The {@code repository.type} setting in config.properties, or the system
+ * property of the same name, selects them:
+ * <ul>
+ *   <li>{@code jdbc} (default): the MariaDB repositories, with the book cache</li>
+ *   <li>{@code memory}: the in-memory repositories, shared by all services, for
+ *       load tests and for running without a database</li>
+ * </ul>
+ * In memory mode the user repository starts with the application's login
+ * accounts, so loans can be recorded by the logged-in user; everything else
+ * starts empty and is lost on exit.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class RepositoryFactory {
+    
+    private static RepositoryFactory instance;
+    
+    private final boolean inMemory;
+    private final BookRepository bookRepository;
+    private final MemberRepository memberRepository;
+    private final LoanRepository loanRepository;
+    private final UserRepository userRepository;
+    private final StatisticsRepository statisticsRepository;
+    
+    private RepositoryFactory(boolean inMemory) {
+        this.inMemory = inMemory;
+        if (inMemory) {
+            InMemoryBookRepository books = new InMemoryBookRepository();
+            InMemoryMemberRepository members = new InMemoryMemberRepository();
+            InMemoryUserRepository users = new InMemoryUserRepository();
+            InMemoryLoanRepository loans = new InMemoryLoanRepository(books, members, users);
+            this.bookRepository = books;
+            this.memberRepository = members;
+            this.userRepository = users;
+            this.loanRepository = loans;
+            this.statisticsRepository = new InMemoryStatisticsRepository(books, members, loans);
+            seedUsers();
+        } else {
+            this.bookRepository = CachingBookRepository.getInstance();
+            this.memberRepository = new MemberRepositoryJdbc();
+            this.userRepository = new UserRepositoryJdbc();
+            this.loanRepository = new LoanRepositoryJdbc();
+            this.statisticsRepository = new StatisticsRepositoryJdbc();
+        }
+    }
+    
+    /**
+     * Gets the singleton instance of RepositoryFactory.
+     * 
+     * @return the unique instance of RepositoryFactory
+     */
+    public static synchronized RepositoryFactory getInstance() {
+        if (instance == null) {
+            instance = new RepositoryFactory(isInMemoryConfigured());
+        }
+        return instance;
+    }
+    
+    /**
+     * Reads the configured repository type.
+     * 
+     * @return true if {@code repository.type} is {@code memory}
+     */
+    public static boolean isInMemoryConfigured() {
+        Properties properties = new Properties();
+        try (InputStream input = RepositoryFactory.class.getClassLoader()
+                .getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            // Fall back to the default
+        }
+        String type = System.getProperty("repository.type", properties.getProperty("repository.type", "jdbc"));
+        return "memory".equals(type.trim().toLowerCase(Locale.ROOT));
+    }
+    
+    /**
+     * Checks whether the in-memory repositories are in use.
+     * 
+     * @return true in memory mode
+     */
+    public boolean isInMemory() {
+        return inMemory;
+    }
+    
+    public BookRepository bookRepository() {
+        return bookRepository;
+    }
+    
+    public MemberRepository memberRepository() {
+        return memberRepository;
+    }
+    
+    public LoanRepository loanRepository() {
+        return loanRepository;
+    }
+    
+    public UserRepository userRepository() {
+        return userRepository;
+    }
+    
+    public StatisticsRepository statisticsRepository() {
+        return statisticsRepository;
+    }
+    
+    /**
+     * Copies the login accounts into the empty user repository. They are saved
+     * in ID order, so they keep the IDs the authentication service gave them.
+     */
+    private void seedUsers() {
+        try {
+            for (User user : MockAuthenticationService.getInstance().getAllUsers()) {
+                User copy = new User(null, user.getUsername(), user.getPassword(), user.getFirstName(),
+                        user.getLastName(), user.getEmail(), user.getRole(), user.getActive());
+                userRepository.save(copy);
+            }
+            AppLogger.getInstance().logInfo("REPOSITORY", "Using in-memory repositories");
+        } catch (DatabaseException e) {
+            AppLogger.getInstance().logError("REPOSITORY", "Error seeding in-memory users: " + e.getMessage(), e);
+        }
+    }
+}
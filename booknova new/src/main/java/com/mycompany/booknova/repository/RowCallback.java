@@ -0,0 +1,26 @@
+package com.mycompany.booknova.repository;
+
+/**
+ * Receives the rows of a streaming query one at a time.
+ * Rows are read from the database as the callback consumes them, so a query
+ * can visit any number of rows with constant memory.
+ * 
+ * The callback runs while the query's connection is still reading results:
+ * it must not issue other queries of its own.
+ * 
+ * @param <T> the row type
+ * @param <E> the checked exception the callback may throw, e.g. IOException
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface RowCallback<T, E extends Exception> {
+    
+    /**
+     * Handles one row.
+     * 
+     * @param row the mapped row
+     * @throws E to abort the query
+     */
+    void accept(T row) throws E;
+}
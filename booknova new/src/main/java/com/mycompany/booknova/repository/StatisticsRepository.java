@@ -0,0 +1,21 @@
+package com.mycompany.booknova.repository;
+
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
+
+/**
+ * Repository interface for library-wide aggregates.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public interface StatisticsRepository {
+    
+    /**
+     * Loads the dashboard figures for books, members and loans in one query.
+     * 
+     * @return the current statistics
+     * @throws DatabaseException if database error occurs
+     */
+    DashboardStatistics loadDashboardStatistics() throws DatabaseException;
+}
@@ -66,6 +66,18 @@ public interface UserRepository {
      */
     List<User> findAll() throws DatabaseException;
     
+    /**
+     * Finds a page of users ordered by ID, starting after the given ID.
+     * Pass the ID of the last user of the previous page to read the next one;
+     * unlike offset paging this stays fast deep into the table.
+     * 
+     * @param afterId the last ID already read, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return the next users in ID order, fewer than limit on the last page
+     * @throws DatabaseException if database error occurs
+     */
+    List<User> findPage(Long afterId, int limit) throws DatabaseException;
+    
     /**
      * Validates user credentials.
      * 
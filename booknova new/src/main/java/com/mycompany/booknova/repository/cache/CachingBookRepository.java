@@ -0,0 +1,378 @@
+package com.mycompany.booknova.repository.cache;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.exceptions.DuplicateIsbnException;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.BookRepository;
+import com.mycompany.booknova.repository.RowCallback;
+import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache in front of a {@link BookRepository}.
+ * Books looked up by ID or ISBN are kept in a bounded LRU map with a
+ * time-to-live; {@code update}, {@code delete} and the stock updates invalidate
+ * the affected entry. Callers always receive copies, so changes to a
+ * returned book never leak into the cache. A cached book's stock may be stale,
+ * which is why {@code update} never writes the available stock back and
+ * {@link #findCurrentById(Long)} bypasses the cache.
+ * 
+ * Inside an active transaction lookups go straight to the database and are not
+ * cached, and writes invalidate again once the transaction has committed, so a
+ * row another thread read before the commit does not outlive it. Each
+ * invalidation also bumps a generation; a lookup that started before an
+ * invalidation of its book does not cache what it read.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class CachingBookRepository implements BookRepository {
+    
+    private static final int GENERATION_STRIPES = 64;
+    
+    private static CachingBookRepository instance;
+    
+    private final BookRepository delegate;
+    private final int maxSize;
+    private final long ttlMs;
+    private final TransactionManager transactionManager = TransactionManager.getInstance();
+    
+    private final Map<Long, CacheEntry> entriesById;
+    private final Map<String, Long> idsByIsbn = new HashMap<>();
+    // Invalidation generations by id stripe, and of all books for ISBN lookups
+    private final long[] generations = new long[GENERATION_STRIPES];
+    private long generation;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    
+    /**
+     * Creates a cache around the given repository.
+     * 
+     * @param delegate the repository that owns the data
+     * @param maxSize maximum number of cached books, 0 to disable caching
+     * @param ttlMs how long an entry stays valid, 0 for no expiry
+     */
+    public CachingBookRepository(BookRepository delegate, int maxSize, long ttlMs) {
+        this.delegate = delegate;
+        this.maxSize = Math.max(0, maxSize);
+        this.ttlMs = ttlMs;
+        this.entriesById = new LinkedHashMap<Long, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CacheEntry> eldest) {
+                if (size() > CachingBookRepository.this.maxSize) {
+                    idsByIsbn.remove(eldest.getValue().book.getIsbn());
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * Gets the shared cached book repository, configured from config.properties.
+     * All services must use the same instance so invalidations are seen everywhere.
+     * 
+     * @return the unique instance of CachingBookRepository
+     */
+    public static synchronized CachingBookRepository getInstance() {
+        if (instance == null) {
+            Properties properties = new Properties();
+            try (InputStream input = CachingBookRepository.class.getClassLoader()
+                    .getResourceAsStream("config.properties")) {
+                if (input != null) {
+                    properties.load(input);
+                }
+            } catch (IOException e) {
+                // Fall back to defaults
+            }
+            
+            boolean enabled = Boolean.parseBoolean(properties.getProperty("cache.book.enabled", "true").trim());
+            int maxSize = enabled ? parseInt(properties.getProperty("cache.book.maxSize"), 1000) : 0;
+            long ttlMs = parseInt(properties.getProperty("cache.book.ttlSeconds"), 300) * 1000L;
+            instance = new CachingBookRepository(new BookRepositoryJdbc(), maxSize, ttlMs);
+        }
+        return instance;
+    }
+    
+    @Override
+    public Book save(Book book) throws DuplicateIsbnException, DatabaseException {
+        return delegate.save(book);
+    }
+    
+    @Override
+    public Book update(Book book) throws DatabaseException {
+        Book updated = delegate.update(book);
+        invalidateAfterCommit(book.getId());
+        return updated;
+    }
+    
+    @Override
+    public BatchResult<Book> saveAll(List<Book> books) throws DatabaseException {
+        return delegate.saveAll(books);
+    }
+    
+    @Override
+    public BatchResult<Book> updateAll(List<Book> books) throws DatabaseException {
+        BatchResult<Book> result = delegate.updateAll(books);
+        books.forEach(book -> invalidateAfterCommit(book.getId()));
+        return result;
+    }
+    
+    @Override
+    public void delete(Long id) throws DatabaseException {
+        delegate.delete(id);
+        invalidateAfterCommit(id);
+    }
+    
+    @Override
+    public Optional<Book> findById(Long id) throws DatabaseException {
+        if (!isCacheable() || id == null) {
+            return delegate.findById(id);
+        }
+        
+        Book cached = lookup(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        
+        long seen = generationOf(id);
+        Optional<Book> book = delegate.findById(id);
+        book.ifPresent(found -> put(found, id, seen));
+        return book.map(CachingBookRepository::copy);
+    }
+    
+    @Override
+    public Optional<Book> findCurrentById(Long id) throws DatabaseException {
+        return delegate.findCurrentById(id);
+    }
+    
+    @Override
+    public Optional<Book> findByIsbn(String isbn) throws DatabaseException {
+        if (!isCacheable() || isbn == null) {
+            return delegate.findByIsbn(isbn);
+        }
+        
+        Long id;
+        long seen;
+        synchronized (this) {
+            id = idsByIsbn.get(isbn);
+            seen = generation;
+        }
+        Book cached = id != null ? lookup(id) : null;
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        if (id == null) {
+            misses.incrementAndGet();
+        }
+        
+        Optional<Book> book = delegate.findByIsbn(isbn);
+        book.ifPresent(found -> put(found, null, seen));
+        return book.map(CachingBookRepository::copy);
+    }
+    
+    @Override
+    public List<Book> findAll() throws DatabaseException {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public List<Book> findPage(Long afterId, int limit) throws DatabaseException {
+        return delegate.findPage(afterId, limit);
+    }
+    
+    @Override
+    public <E extends Exception> long streamAll(RowCallback<Book, E> callback) throws DatabaseException, E {
+        return delegate.streamAll(callback);
+    }
+    
+    @Override
+    public List<Book> findByCategory(String category) throws DatabaseException {
+        return delegate.findByCategory(category);
+    }
+    
+    @Override
+    public List<Book> findByAuthor(String author) throws DatabaseException {
+        return delegate.findByAuthor(author);
+    }
+    
+    @Override
+    public void updateAvailableStock(Long bookId, Integer newStock) throws DatabaseException {
+        delegate.updateAvailableStock(bookId, newStock);
+        invalidateAfterCommit(bookId);
+    }
+    
+    @Override
+    public boolean decrementAvailableStockIfPositive(Long bookId) throws DatabaseException {
+        boolean decremented = delegate.decrementAvailableStockIfPositive(bookId);
+        invalidateAfterCommit(bookId);
+        return decremented;
+    }
+    
+    @Override
+    public boolean incrementAvailableStock(Long bookId) throws DatabaseException {
+        boolean incremented = delegate.incrementAvailableStock(bookId);
+        invalidateAfterCommit(bookId);
+        return incremented;
+    }
+    
+    @Override
+    public long count() throws DatabaseException {
+        return delegate.count();
+    }
+    
+    /**
+     * Removes every cached book.
+     */
+    public synchronized void clear() {
+        entriesById.clear();
+        idsByIsbn.clear();
+    }
+    
+    public long getHits() {
+        return hits.get();
+    }
+    
+    public long getMisses() {
+        return misses.get();
+    }
+    
+    public long getEvictions() {
+        return evictions.get();
+    }
+    
+    public synchronized int size() {
+        return entriesById.size();
+    }
+    
+    /**
+     * Gets the fraction of cached lookups that were served without a query.
+     * 
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+    
+    private boolean isCacheable() {
+        return maxSize > 0 && !transactionManager.isActive();
+    }
+    
+    /**
+     * Returns a copy of the cached book, counting the hit or miss.
+     * Expired entries are dropped and count as a miss.
+     */
+    private synchronized Book lookup(Long id) {
+        CacheEntry entry = entriesById.get(id);
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        if (ttlMs > 0 && System.currentTimeMillis() > entry.expiresAt) {
+            remove(id);
+            evictions.incrementAndGet();
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return copy(entry.book);
+    }
+    
+    /**
+     * Caches a book read from the database, unless its entry was invalidated
+     * since the lookup started: the row may then predate the write.
+     * 
+     * @param book the book read
+     * @param id the id looked up, or null for a lookup by ISBN
+     * @param seen the generation read before the lookup
+     */
+    private synchronized void put(Book book, Long id, long seen) {
+        if (book.getId() == null) {
+            return;
+        }
+        long current = id != null ? generations[stripe(id)] : generation;
+        if (current != seen) {
+            return;
+        }
+        remove(book.getId());
+        entriesById.put(book.getId(), new CacheEntry(copy(book), System.currentTimeMillis() + ttlMs));
+        if (book.getIsbn() != null) {
+            idsByIsbn.put(book.getIsbn(), book.getId());
+        }
+    }
+    
+    /**
+     * Invalidates the entry now and, inside a transaction, again after the
+     * commit, when the change becomes visible to other threads.
+     */
+    private void invalidateAfterCommit(Long id) {
+        invalidate(id);
+        if (transactionManager.isActive()) {
+            transactionManager.afterCommit(() -> invalidate(id));
+        }
+    }
+    
+    private synchronized void invalidate(Long id) {
+        if (id != null) {
+            remove(id);
+            generations[stripe(id)]++;
+            generation++;
+        }
+    }
+    
+    private synchronized long generationOf(Long id) {
+        return generations[stripe(id)];
+    }
+    
+    private static int stripe(Long id) {
+        return (int) (id & (GENERATION_STRIPES - 1));
+    }
+    
+    private void remove(Long id) {
+        CacheEntry removed = entriesById.remove(id);
+        if (removed != null) {
+            idsByIsbn.remove(removed.book.getIsbn());
+        }
+    }
+    
+    private static Book copy(Book book) {
+        return new Book(book.getId(), book.getIsbn(), book.getTitle(), book.getAuthor(),
+                book.getPublisher(), book.getPublicationYear(), book.getCategory(),
+                book.getAvailableStock(), book.getTotalStock());
+    }
+    
+    private static int parseInt(String value, int defaultValue) {
+        try {
+            return value != null ? Integer.parseInt(value.trim()) : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+    
+    /**
+     * Cached copy of a book and the time it stops being valid.
+     */
+    private static final class CacheEntry {
+        private final Book book;
+        private final long expiresAt;
+        
+        private CacheEntry(Book book, long expiresAt) {
+            this.book = book;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -4,10 +4,15 @@ import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.exceptions.DuplicateIsbnException;
 import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.repository.BatchResult;
 import com.mycompany.booknova.repository.BookRepository;
+import com.mycompany.booknova.repository.RowCallback;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -18,6 +23,19 @@ import java.util.Optional;
  */
 public class BookRepositoryJdbc implements BookRepository {
     
+    private static final String INSERT_SQL =
+        "INSERT INTO books (isbn, title, author, publisher, publication_year, " +
+        "category, available_stock, total_stock) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    // available_stock moves by the change in total_stock instead of being
+    // overwritten, and is assigned first because MariaDB applies SET
+    // assignments left to right
+    private static final String UPDATE_SQL =
+        "UPDATE books SET isbn = ?, title = ?, author = ?, publisher = ?, " +
+        "publication_year = ?, category = ?, " +
+        "available_stock = GREATEST(available_stock + ? - total_stock, 0), total_stock = ? " +
+        "WHERE id = ?";
+    
     private final ConnectionDB connectionDB;
     
     public BookRepositoryJdbc() {
@@ -31,20 +49,10 @@ public class BookRepositoryJdbc implements BookRepository {
             throw new DuplicateIsbnException(book.getIsbn());
         }
         
-        String sql = "INSERT INTO books (isbn, title, author, publisher, publication_year, " +
-                     "category, available_stock, total_stock) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
-        
         try (Connection conn = connectionDB.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
             
-            stmt.setString(1, book.getIsbn());
-            stmt.setString(2, book.getTitle());
-            stmt.setString(3, book.getAuthor());
-            stmt.setString(4, book.getPublisher());
-            stmt.setInt(5, book.getPublicationYear());
-            stmt.setString(6, book.getCategory());
-            stmt.setInt(7, book.getAvailableStock());
-            stmt.setInt(8, book.getTotalStock());
+            bindBook(stmt, book);
             
             int affectedRows = stmt.executeUpdate();
             
@@ -61,7 +69,7 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return book;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error saving book", e);
         }
@@ -69,31 +77,34 @@ public class BookRepositoryJdbc implements BookRepository {
     
     @Override
     public Book update(Book book) throws DatabaseException {
-        String sql = "UPDATE books SET isbn = ?, title = ?, author = ?, publisher = ?, " +
-                     "publication_year = ?, category = ?, available_stock = ?, total_stock = ? " +
-                     "WHERE id = ?";
-        
         try (Connection conn = connectionDB.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
             
-            stmt.setString(1, book.getIsbn());
-            stmt.setString(2, book.getTitle());
-            stmt.setString(3, book.getAuthor());
-            stmt.setString(4, book.getPublisher());
-            stmt.setInt(5, book.getPublicationYear());
-            stmt.setString(6, book.getCategory());
-            stmt.setInt(7, book.getAvailableStock());
-            stmt.setInt(8, book.getTotalStock());
-            stmt.setLong(9, book.getId());
+            bindBookWithId(stmt, book);
             
             stmt.executeUpdate();
-            return book;
-            
+            return findById(book.getId()).orElse(book);
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error updating book", e);
         }
     }
     
+    @Override
+    public BatchResult<Book> saveAll(List<Book> books) throws DatabaseException {
+        BatchResult<Book> result = new BatchResult<>(books.size());
+        rejectDuplicateIsbns(books, result);
+        new JdbcBatchWriter<Book>(INSERT_SQL, this::bindBook, Book::setId).write(books, result);
+        return result;
+    }
+    
+    @Override
+    public BatchResult<Book> updateAll(List<Book> books) throws DatabaseException {
+        BatchResult<Book> result = new BatchResult<>(books.size());
+        new JdbcBatchWriter<Book>(UPDATE_SQL, this::bindBookWithId, null).write(books, result);
+        return result;
+    }
+    
     @Override
     public void delete(Long id) throws DatabaseException {
         String sql = "DELETE FROM books WHERE id = ?";
@@ -103,7 +114,7 @@ public class BookRepositoryJdbc implements BookRepository {
             
             stmt.setLong(1, id);
             stmt.executeUpdate();
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error deleting book", e);
         }
@@ -125,12 +136,17 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return Optional.empty();
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding book by ID", e);
         }
     }
     
+    @Override
+    public Optional<Book> findCurrentById(Long id) throws DatabaseException {
+        return findById(id);
+    }
+    
     @Override
     public Optional<Book> findByIsbn(String isbn) throws DatabaseException {
         String sql = "SELECT * FROM books WHERE isbn = ?";
@@ -147,7 +163,7 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return Optional.empty();
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding book by ISBN", e);
         }
@@ -167,12 +183,41 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return books;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding all books", e);
         }
     }
     
+    @Override
+    public List<Book> findPage(Long afterId, int limit) throws DatabaseException {
+        String sql = "SELECT * FROM books WHERE id > ? ORDER BY id LIMIT ?";
+        List<Book> books = new ArrayList<>();
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setLong(1, afterId != null ? afterId : 0L);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    books.add(mapResultSetToBook(rs));
+                }
+            }
+            
+            return books;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding page of books", e);
+        }
+    }
+    
+    @Override
+    public <E extends Exception> long streamAll(RowCallback<Book, E> callback) throws DatabaseException, E {
+        return stream("SELECT * FROM books ORDER BY title", callback, "Error streaming books");
+    }
+    
     @Override
     public List<Book> findByCategory(String category) throws DatabaseException {
         String sql = "SELECT * FROM books WHERE category = ? ORDER BY title";
@@ -190,7 +235,7 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return books;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding books by category", e);
         }
@@ -213,7 +258,7 @@ public class BookRepositoryJdbc implements BookRepository {
             }
             
             return books;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding books by author", e);
         }
@@ -230,12 +275,149 @@ public class BookRepositoryJdbc implements BookRepository {
             stmt.setLong(2, bookId);
             
             stmt.executeUpdate();
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error updating book stock", e);
         }
     }
     
+    @Override
+    public boolean decrementAvailableStockIfPositive(Long bookId) throws DatabaseException {
+        String sql = "UPDATE books SET available_stock = available_stock - 1 " +
+                     "WHERE id = ? AND available_stock > 0";
+        return updateStock(sql, bookId, "Error taking book out of stock");
+    }
+    
+    @Override
+    public boolean incrementAvailableStock(Long bookId) throws DatabaseException {
+        String sql = "UPDATE books SET available_stock = available_stock + 1 " +
+                     "WHERE id = ? AND available_stock < total_stock";
+        return updateStock(sql, bookId, "Error returning book to stock");
+    }
+    
+    @Override
+    public long count() throws DatabaseException {
+        String sql = "SELECT COUNT(*) FROM books";
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            return rs.next() ? rs.getLong(1) : 0;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting books", e);
+        }
+    }
+    
+    /**
+     * Runs a conditional stock update for one book.
+     * 
+     * @return true if the row matched the condition and was updated
+     */
+    private boolean updateStock(String sql, Long bookId, String errorMessage) throws DatabaseException {
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setLong(1, bookId);
+            return stmt.executeUpdate() == 1;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException(errorMessage, e);
+        }
+    }
+    
+    /**
+     * Rejects books whose ISBN repeats within the list or already exists,
+     * checking existing ISBNs with one IN query per batch instead of one
+     * lookup per book.
+     */
+    private void rejectDuplicateIsbns(List<Book> books, BatchResult<Book> result) throws DatabaseException {
+        Map<String, Integer> indexByIsbn = new HashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            String isbn = books.get(i).getIsbn();
+            if (isbn == null) {
+                result.addError(i, books.get(i), "ISBN is required");
+            } else if (indexByIsbn.putIfAbsent(isbn, i) != null) {
+                result.addError(i, books.get(i), "ISBN repeated in batch: " + isbn);
+            }
+        }
+        
+        List<String> isbns = new ArrayList<>(indexByIsbn.keySet());
+        int batchSize = Math.max(1, connectionDB.getBatchSize());
+        
+        for (int start = 0; start < isbns.size(); start += batchSize) {
+            List<String> chunk = isbns.subList(start, Math.min(isbns.size(), start + batchSize));
+            String sql = "SELECT isbn FROM books WHERE isbn IN (" +
+                         String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            
+            try (Connection conn = connectionDB.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                
+                for (int i = 0; i < chunk.size(); i++) {
+                    stmt.setString(i + 1, chunk.get(i));
+                }
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        String isbn = rs.getString("isbn");
+                        Integer index = indexByIsbn.get(isbn);
+                        if (index != null) {
+                            result.addError(index, books.get(index), new DuplicateIsbnException(isbn).getMessage());
+                        }
+                    }
+                }
+            
+            } catch (SQLException e) {
+                throw new DatabaseException("Error checking existing ISBNs", e);
+            }
+        }
+    }
+    
+    private void bindBook(PreparedStatement stmt, Book book) throws SQLException {
+        stmt.setString(1, book.getIsbn());
+        stmt.setString(2, book.getTitle());
+        stmt.setString(3, book.getAuthor());
+        stmt.setString(4, book.getPublisher());
+        stmt.setInt(5, book.getPublicationYear());
+        stmt.setString(6, book.getCategory());
+        stmt.setInt(7, book.getAvailableStock());
+        stmt.setInt(8, book.getTotalStock());
+    }
+    
+    private void bindBookWithId(PreparedStatement stmt, Book book) throws SQLException {
+        bindBook(stmt, book);
+        stmt.setInt(7, book.getTotalStock());
+        stmt.setLong(9, book.getId());
+    }
+    
+    /**
+     * Runs a query with the driver's streaming fetch size and hands each
+     * mapped row to the callback.
+     */
+    private <X extends Exception> long stream(String sql, RowCallback<Book, X> callback,
+                                              String errorMessage) throws DatabaseException, X {
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            stmt.setFetchSize(connectionDB.getStreamFetchSize());
+            long rows = 0;
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    callback.accept(mapResultSetToBook(rs));
+                    rows++;
+                }
+            }
+            
+            return rows;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException(errorMessage, e);
+        }
+    }
+    
     /**
      * Maps a ResultSet row to a Book object.
      * 
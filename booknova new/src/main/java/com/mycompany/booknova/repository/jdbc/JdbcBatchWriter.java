@@ -0,0 +1,198 @@
+package com.mycompany.booknova.repository.jdbc;
+
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BatchResult;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes many rows with one prepared statement using JDBC batching.
+ * Rows are sent in chunks of {@code db.batch.size}; each chunk runs in its own
+ * transaction (or joins the caller's). If a chunk fails, it is rolled back to a
+ * savepoint and retried row by row, so the rows that can be written still are
+ * and each failing row is reported with its own error.
+ * 
+ * @param <T> the entity type
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class JdbcBatchWriter<T> {
+    
+    /**
+     * Sets the statement parameters for one entity.
+     * 
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    public interface ParameterBinder<T> {
+        void bind(PreparedStatement stmt, T item) throws SQLException;
+    }
+    
+    /**
+     * Stores a generated key on an inserted entity.
+     * 
+     * @param <T> the entity type
+     */
+    @FunctionalInterface
+    public interface KeyAssigner<T> {
+        void assign(T item, long key);
+    }
+    
+    private final ConnectionDB connectionDB;
+    private final TransactionManager transactionManager;
+    private final String sql;
+    private final ParameterBinder<T> binder;
+    private final KeyAssigner<T> keyAssigner;
+    
+    /**
+     * Creates a batch writer.
+     * 
+     * @param sql the INSERT or UPDATE statement
+     * @param binder sets the parameters of one row
+     * @param keyAssigner receives generated keys for inserts, or null for updates
+     */
+    public JdbcBatchWriter(String sql, ParameterBinder<T> binder, KeyAssigner<T> keyAssigner) {
+        this.connectionDB = ConnectionDB.getInstance();
+        this.transactionManager = TransactionManager.getInstance();
+        this.sql = sql;
+        this.binder = binder;
+        this.keyAssigner = keyAssigner;
+    }
+    
+    /**
+     * Writes every row that the result has not already rejected.
+     * 
+     * @param items the rows to write
+     * @param result collects written and rejected rows
+     * @throws DatabaseException if a chunk cannot be committed
+     */
+    public void write(List<T> items, BatchResult<T> result) throws DatabaseException {
+        int batchSize = Math.max(1, connectionDB.getBatchSize());
+        for (int start = 0; start < items.size(); start += batchSize) {
+            writeChunk(items, start, Math.min(items.size(), start + batchSize), result);
+        }
+    }
+    
+    private void writeChunk(List<T> items, int from, int to, BatchResult<T> result) throws DatabaseException {
+        List<Integer> indexes = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            if (!result.isRejected(i)) {
+                indexes.add(i);
+            }
+        }
+        if (indexes.isEmpty()) {
+            return;
+        }
+        
+        transactionManager.begin();
+        try (Connection conn = connectionDB.getConnection()) {
+            Savepoint savepoint = conn.setSavepoint();
+            
+            try {
+                executeBatch(conn, items, indexes, result);
+                conn.releaseSavepoint(savepoint);
+            } catch (SQLException e) {
+                // Some row broke the batch: undo the chunk and find out which
+                conn.rollback(savepoint);
+                executeRowByRow(conn, items, indexes, result);
+            }
+            
+            transactionManager.commit();
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error writing batch", e);
+        } finally {
+            transactionManager.end();
+        }
+    }
+    
+    private void executeBatch(Connection conn, List<T> items, List<Integer> indexes,
+                              BatchResult<T> result) throws SQLException {
+        try (PreparedStatement stmt = prepare(conn)) {
+            for (int index : indexes) {
+                binder.bind(stmt, items.get(index));
+                stmt.addBatch();
+            }
+            
+            int[] counts = stmt.executeBatch();
+            
+            long[] keys = keyAssigner != null ? readGeneratedKeys(stmt, indexes.size()) : null;
+            
+            for (int i = 0; i < indexes.size(); i++) {
+                int index = indexes.get(i);
+                if (keys != null) {
+                    keyAssigner.assign(items.get(index), keys[i]);
+                }
+                if (i < counts.length && counts[i] == 0) {
+                    result.addError(index, items.get(index), "No matching row");
+                } else {
+                    result.addSucceeded(items.get(index));
+                }
+            }
+        }
+    }
+    
+    private void executeRowByRow(Connection conn, List<T> items, List<Integer> indexes,
+                                 BatchResult<T> result) throws SQLException {
+        for (int index : indexes) {
+            T item = items.get(index);
+            Savepoint savepoint = conn.setSavepoint();
+            
+            try (PreparedStatement stmt = prepare(conn)) {
+                binder.bind(stmt, item);
+                
+                if (stmt.executeUpdate() == 0) {
+                    conn.releaseSavepoint(savepoint);
+                    result.addError(index, item, "No matching row");
+                    continue;
+                }
+                
+                if (keyAssigner != null) {
+                    try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+                        if (!generatedKeys.next()) {
+                            throw new SQLException("No ID obtained");
+                        }
+                        keyAssigner.assign(item, generatedKeys.getLong(1));
+                    }
+                }
+                
+                conn.releaseSavepoint(savepoint);
+                result.addSucceeded(item);
+            
+            } catch (SQLException e) {
+                conn.rollback(savepoint);
+                result.addError(index, item, e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Reads one generated key per batched row, in batch order.
+     */
+    private long[] readGeneratedKeys(PreparedStatement stmt, int rows) throws SQLException {
+        long[] keys = new long[rows];
+        try (ResultSet generatedKeys = stmt.getGeneratedKeys()) {
+            for (int i = 0; i < rows; i++) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Batch returned fewer generated keys than rows");
+                }
+                keys[i] = generatedKeys.getLong(1);
+            }
+        }
+        return keys;
+    }
+    
+    private PreparedStatement prepare(Connection conn) throws SQLException {
+        return keyAssigner != null
+                ? conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : conn.prepareStatement(sql);
+    }
+}
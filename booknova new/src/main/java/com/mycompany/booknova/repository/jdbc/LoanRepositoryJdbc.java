@@ -1,16 +1,26 @@
 package com.mycompany.booknova.repository.jdbc;
 
+import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.LoanReportRow;
 import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.Member.MembershipType;
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.domain.User.UserRole;
 import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.LoanCriteria;
 import com.mycompany.booknova.repository.LoanRepository;
+import com.mycompany.booknova.repository.RowCallback;
 import java.math.BigDecimal;
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
 
 /**
  * JDBC implementation of LoanRepository.
@@ -20,48 +30,69 @@ import java.util.Optional;
  */
 public class LoanRepositoryJdbc implements LoanRepository {
     
+    private static final String INSERT_SQL =
+        "INSERT INTO loans (member_id, book_id, user_id, loan_date, " +
+        "expected_return_date, actual_return_date, status, penalty, notes) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String UPDATE_SQL =
+        "UPDATE loans SET member_id = ?, book_id = ?, user_id = ?, " +
+        "loan_date = ?, expected_return_date = ?, actual_return_date = ?, " +
+        "status = ?, penalty = ?, notes = ? WHERE id = ?";
+    
+    /**
+     * Loads a loan together with its member, book and user in one query.
+     * Related columns are aliased with m_, b_ and u_ prefixes.
+     */
+    private static final String SELECT_LOAN_WITH_RELATIONS =
+        "SELECT l.id, l.member_id, l.book_id, l.user_id, l.loan_date, " +
+        "l.expected_return_date, l.actual_return_date, l.status, l.penalty, l.notes, " +
+        "m.member_number AS m_member_number, m.first_name AS m_first_name, " +
+        "m.last_name AS m_last_name, m.document_id AS m_document_id, m.email AS m_email, " +
+        "m.phone AS m_phone, m.address AS m_address, " +
+        "m.registration_date AS m_registration_date, m.active AS m_active, " +
+        "m.membership_type AS m_membership_type, " +
+        "b.isbn AS b_isbn, b.title AS b_title, b.author AS b_author, " +
+        "b.publisher AS b_publisher, b.publication_year AS b_publication_year, " +
+        "b.category AS b_category, b.available_stock AS b_available_stock, " +
+        "b.total_stock AS b_total_stock, " +
+        "u.username AS u_username, u.first_name AS u_first_name, " +
+        "u.last_name AS u_last_name, u.email AS u_email, u.role AS u_role, " +
+        "u.active AS u_active, u.created_at AS u_created_at " +
+        "FROM loans l " +
+        "JOIN members m ON m.id = l.member_id " +
+        "JOIN books b ON b.id = l.book_id " +
+        "JOIN users u ON u.id = l.user_id ";
+    
+    /**
+     * Loads the reported columns of a loan. The days overdue are computed in
+     * SQL, so the report does not need the full entities to derive them.
+     * TIMESTAMPDIFF rather than DATEDIFF, which H2 only accepts with a unit.
+     */
+    private static final String SELECT_LOAN_REPORT_ROW =
+        "SELECT l.id, l.loan_date, l.expected_return_date, l.status, l.penalty, " +
+        "TIMESTAMPDIFF(DAY, l.expected_return_date, CURDATE()) AS days_overdue, " +
+        "m.first_name, m.last_name, m.member_number, b.title, b.isbn " +
+        "FROM loans l " +
+        "JOIN members m ON m.id = l.member_id " +
+        "JOIN books b ON b.id = l.book_id ";
+    
+    private static final String OVERDUE_CONDITION =
+        "WHERE l.status = 'ACTIVE' AND l.expected_return_date < CURDATE() " +
+        "ORDER BY l.expected_return_date";
+    
     private final ConnectionDB connectionDB;
-    private final BookRepositoryJdbc bookRepository;
-    private final MemberRepositoryJdbc memberRepository;
-    private final UserRepositoryJdbc userRepository;
     
     public LoanRepositoryJdbc() {
         this.connectionDB = ConnectionDB.getInstance();
-        this.bookRepository = new BookRepositoryJdbc();
-        this.memberRepository = new MemberRepositoryJdbc();
-        this.userRepository = new UserRepositoryJdbc();
     }
     
     @Override
     public Loan save(Loan loan) throws DatabaseException {
-        String sql = "INSERT INTO loans (member_id, book_id, user_id, loan_date, " +
-                     "expected_return_date, actual_return_date, status, penalty, notes) " +
-                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
         try (Connection conn = connectionDB.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setLong(1, loan.getMember().getId());
-            stmt.setLong(2, loan.getBook().getId());
-            stmt.setLong(3, loan.getUser().getId());
-            stmt.setDate(4, Date.valueOf(loan.getLoanDate()));
-            stmt.setDate(5, Date.valueOf(loan.getExpectedReturnDate()));
-            
-            if (loan.getActualReturnDate() != null) {
-                stmt.setDate(6, Date.valueOf(loan.getActualReturnDate()));
-            } else {
-                stmt.setNull(6, Types.DATE);
-            }
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
             
-            stmt.setString(7, loan.getStatus().name());
-            
-            if (loan.getPenalty() != null) {
-                stmt.setBigDecimal(8, loan.getPenalty());
-            } else {
-                stmt.setBigDecimal(8, BigDecimal.ZERO);
-            }
-            
-            stmt.setString(9, loan.getNotes());
+            bindLoan(stmt, loan);
             
             int affectedRows = stmt.executeUpdate();
             
@@ -78,18 +109,31 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return loan;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error saving loan", e);
         }
     }
     
+    @Override
+    public BatchResult<Loan> saveAll(List<Loan> loans) throws DatabaseException {
+        BatchResult<Loan> result = new BatchResult<>(loans.size());
+        new JdbcBatchWriter<Loan>(INSERT_SQL, this::bindLoan, Loan::setId).write(loans, result);
+        return result;
+    }
+    
     @Override
     public Loan update(Loan loan) throws DatabaseException {
-        String sql = "UPDATE loans SET member_id = ?, book_id = ?, user_id = ?, " +
-                     "loan_date = ?, expected_return_date = ?, actual_return_date = ?, " +
-                     "status = ?, penalty = ?, notes = ? WHERE id = ?";
-        
+        executeUpdate(UPDATE_SQL, loan);
+        return loan;
+    }
+    
+    @Override
+    public boolean updateIfActive(Loan loan) throws DatabaseException {
+        return executeUpdate(UPDATE_SQL + " AND status = 'ACTIVE'", loan) == 1;
+    }
+    
+    private int executeUpdate(String sql, Loan loan) throws DatabaseException {
         try (Connection conn = connectionDB.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
@@ -110,9 +154,8 @@ public class LoanRepositoryJdbc implements LoanRepository {
             stmt.setString(9, loan.getNotes());
             stmt.setLong(10, loan.getId());
             
-            stmt.executeUpdate();
-            return loan;
-            
+            return stmt.executeUpdate();
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error updating loan", e);
         }
@@ -120,7 +163,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
     
     @Override
     public Optional<Loan> findById(Long id) throws DatabaseException {
-        String sql = "SELECT * FROM loans WHERE id = ?";
+        String sql = SELECT_LOAN_WITH_RELATIONS + "WHERE l.id = ?";
         
         try (Connection conn = connectionDB.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -134,7 +177,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return Optional.empty();
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding loan by ID", e);
         }
@@ -142,7 +185,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
     
     @Override
     public List<Loan> findAll() throws DatabaseException {
-        String sql = "SELECT * FROM loans ORDER BY loan_date DESC";
+        String sql = SELECT_LOAN_WITH_RELATIONS + "ORDER BY l.loan_date DESC";
         List<Loan> loans = new ArrayList<>();
         
         try (Connection conn = connectionDB.getConnection();
@@ -150,19 +193,51 @@ public class LoanRepositoryJdbc implements LoanRepository {
              ResultSet rs = stmt.executeQuery()) {
             
             while (rs.next()) {
-                loans.add(mapResultSetToLoan(rs));}
+                loans.add(mapResultSetToLoan(rs));
+            }
             
             return loans;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding all loans", e);
         }
     }
     
+    @Override
+    public List<Loan> findPage(Long afterId, int limit) throws DatabaseException {
+        String sql = SELECT_LOAN_WITH_RELATIONS + "WHERE l.id > ? ORDER BY l.id LIMIT ?";
+        List<Loan> loans = new ArrayList<>();
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setLong(1, afterId != null ? afterId : 0L);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    loans.add(mapResultSetToLoan(rs));
+                }
+            }
+            
+            return loans;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding page of loans", e);
+        }
+    }
+    
+    @Override
+    public <E extends Exception> long streamAll(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return stream(SELECT_LOAN_WITH_RELATIONS + "ORDER BY l.loan_date DESC", List.of(),
+                this::mapResultSetToLoan, callback,
+                "Error streaming loans");
+    }
+    
     @Override
     public List<Loan> findActiveLoansByMember(Long memberId) throws DatabaseException {
-        String sql = "SELECT * FROM loans WHERE member_id = ? AND status = 'ACTIVE' " +
-                     "ORDER BY loan_date DESC";
+        String sql = SELECT_LOAN_WITH_RELATIONS +
+                     "WHERE l.member_id = ? AND l.status = 'ACTIVE' ORDER BY l.loan_date DESC";
         List<Loan> loans = new ArrayList<>();
         
         try (Connection conn = connectionDB.getConnection();
@@ -177,7 +252,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return loans;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding active loans by member", e);
         }
@@ -185,8 +260,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
     
     @Override
     public List<Loan> findOverdueLoans() throws DatabaseException {
-        String sql = "SELECT * FROM loans WHERE status = 'ACTIVE' " +
-                     "AND expected_return_date < CURDATE() ORDER BY expected_return_date";
+        String sql = SELECT_LOAN_WITH_RELATIONS + OVERDUE_CONDITION;
         List<Loan> loans = new ArrayList<>();
         
         try (Connection conn = connectionDB.getConnection();
@@ -198,16 +272,47 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return loans;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding overdue loans", e);
         }
     }
     
+    @Override
+    public <E extends Exception> long streamOverdueLoans(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return stream(SELECT_LOAN_WITH_RELATIONS + OVERDUE_CONDITION, List.of(),
+                this::mapResultSetToLoan, callback,
+                "Error streaming overdue loans");
+    }
+    
+    @Override
+    public List<Loan> findByCriteria(LoanCriteria criteria) throws DatabaseException {
+        List<Loan> loans = new ArrayList<>();
+        streamByCriteria(criteria, loans::add);
+        return loans;
+    }
+    
+    @Override
+    public <E extends Exception> long streamByCriteria(LoanCriteria criteria, RowCallback<Loan, E> callback)
+            throws DatabaseException, E {
+        List<Object> params = new ArrayList<>();
+        String sql = SELECT_LOAN_WITH_RELATIONS + buildWhereClause(criteria, params) +
+                     "ORDER BY l.loan_date DESC";
+        return stream(sql, params, this::mapResultSetToLoan, callback, "Error finding loans by criteria");
+    }
+    
+    @Override
+    public <E extends Exception> long streamReportRows(LoanCriteria criteria, RowCallback<LoanReportRow, E> callback)
+            throws DatabaseException, E {
+        List<Object> params = new ArrayList<>();
+        String sql = SELECT_LOAN_REPORT_ROW + buildWhereClause(criteria, params) + "ORDER BY l.id";
+        return stream(sql, params, this::mapReportRow, callback, "Error streaming loan report rows");
+    }
+    
     @Override
     public List<Loan> findByDateRange(LocalDate startDate, LocalDate endDate) throws DatabaseException {
-        String sql = "SELECT * FROM loans WHERE loan_date BETWEEN ? AND ? " +
-                     "ORDER BY loan_date DESC";
+        String sql = SELECT_LOAN_WITH_RELATIONS +
+                     "WHERE l.loan_date BETWEEN ? AND ? ORDER BY l.loan_date DESC";
         List<Loan> loans = new ArrayList<>();
         
         try (Connection conn = connectionDB.getConnection();
@@ -223,7 +328,7 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return loans;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error finding loans by date range", e);
         }
@@ -245,57 +350,254 @@ public class LoanRepositoryJdbc implements LoanRepository {
             }
             
             return 0;
-            
+        
         } catch (SQLException e) {
             throw new DatabaseException("Error counting active loans by member", e);
         }
     }
     
+    @Override
+    public long countActive() throws DatabaseException {
+        String sql = "SELECT COUNT(*) FROM loans WHERE status = 'ACTIVE'";
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            return rs.next() ? rs.getLong(1) : 0;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting active loans", e);
+        }
+    }
+    
+    @Override
+    public long countOverdue() throws DatabaseException {
+        String sql = "SELECT COUNT(*) FROM loans l " +
+                     "WHERE l.status = 'ACTIVE' AND l.expected_return_date < CURDATE()";
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            return rs.next() ? rs.getLong(1) : 0;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting overdue loans", e);
+        }
+    }
+    
+    private void bindLoan(PreparedStatement stmt, Loan loan) throws SQLException {
+        stmt.setLong(1, loan.getMember().getId());
+        stmt.setLong(2, loan.getBook().getId());
+        stmt.setLong(3, loan.getUser().getId());
+        stmt.setDate(4, Date.valueOf(loan.getLoanDate()));
+        stmt.setDate(5, Date.valueOf(loan.getExpectedReturnDate()));
+        
+        if (loan.getActualReturnDate() != null) {
+            stmt.setDate(6, Date.valueOf(loan.getActualReturnDate()));
+        } else {
+            stmt.setNull(6, Types.DATE);
+        }
+        
+        stmt.setString(7, loan.getStatus().name());
+        
+        if (loan.getPenalty() != null) {
+            stmt.setBigDecimal(8, loan.getPenalty());
+        } else {
+            stmt.setBigDecimal(8, BigDecimal.ZERO);
+        }
+        
+        stmt.setString(9, loan.getNotes());
+    }
+    
     /**
-     * Maps a ResultSet row to a Loan object.
+     * Translates the criteria into SQL predicates on the loans table, adding
+     * the values to bind to params. Each predicate is a plain column
+     * comparison so the loan indexes can be used.
      * 
-     * @param rs the ResultSet
-     * @return the mapped Loan
-     * @throws SQLException if database error occurs
+     * @return a WHERE clause followed by a space, or an empty string
      */
-    private Loan mapResultSetToLoan(ResultSet rs) throws SQLException {
-        Loan loan = new Loan();
+    private static String buildWhereClause(LoanCriteria criteria, List<Object> params) {
+        List<String> predicates = new ArrayList<>();
         
-        try {
-            loan.setId(rs.getLong("id"));
-            
-            // Load related entities
-            Long memberId = rs.getLong("member_id");
-            Long bookId = rs.getLong("book_id");
-            Long userId = rs.getLong("user_id");
-            
-            loan.setMember(memberRepository.findById(memberId).orElse(null));
-            loan.setBook(bookRepository.findById(bookId).orElse(null));
-            loan.setUser(userRepository.findById(userId).orElse(null));
-            
-            Date loanDate = rs.getDate("loan_date");
-            if (loanDate != null) {
-                loan.setLoanDate(loanDate.toLocalDate());
+        if (!criteria.getStatuses().isEmpty()) {
+            StringJoiner placeholders = new StringJoiner(", ", "l.status IN (", ")");
+            for (LoanStatus status : criteria.getStatuses()) {
+                placeholders.add("?");
+                params.add(status.name());
             }
+            predicates.add(placeholders.toString());
+        }
+        if (criteria.getMemberId() != null) {
+            predicates.add("l.member_id = ?");
+            params.add(criteria.getMemberId());
+        }
+        if (criteria.getBookId() != null) {
+            predicates.add("l.book_id = ?");
+            params.add(criteria.getBookId());
+        }
+        if (criteria.isOverdueOnly()) {
+            predicates.add("l.status = 'ACTIVE' AND l.expected_return_date < CURDATE()");
+        }
+        if (criteria.getLoanDateFrom() != null) {
+            predicates.add("l.loan_date >= ?");
+            params.add(Date.valueOf(criteria.getLoanDateFrom()));
+        }
+        if (criteria.getLoanDateTo() != null) {
+            predicates.add("l.loan_date <= ?");
+            params.add(Date.valueOf(criteria.getLoanDateTo()));
+        }
+        
+        return predicates.isEmpty() ? "" : "WHERE " + String.join(" AND ", predicates) + " ";
+    }
+    
+    /**
+     * Runs a query with the driver's streaming fetch size and hands each
+     * mapped row to the callback.
+     */
+    private <T, X extends Exception> long stream(String sql, List<Object> params, RowMapper<T> mapper,
+                                                 RowCallback<T, X> callback,
+                                                 String errorMessage) throws DatabaseException, X {
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql,
+                     ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
             
-            Date expectedReturnDate = rs.getDate("expected_return_date");
-            if (expectedReturnDate != null) {
-                loan.setExpectedReturnDate(expectedReturnDate.toLocalDate());
+            for (int i = 0; i < params.size(); i++) {
+                stmt.setObject(i + 1, params.get(i));
             }
+            stmt.setFetchSize(connectionDB.getStreamFetchSize());
+            long rows = 0;
             
-            Date actualReturnDate = rs.getDate("actual_return_date");
-            if (actualReturnDate != null) {
-                loan.setActualReturnDate(actualReturnDate.toLocalDate());
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    callback.accept(mapper.map(rs));
+                    rows++;
+                }
             }
             
-            loan.setStatus(LoanStatus.valueOf(rs.getString("status")));
-            loan.setPenalty(rs.getBigDecimal("penalty"));
-            loan.setNotes(rs.getString("notes"));
-            
-        } catch (DatabaseException e) {
-            throw new SQLException("Error mapping loan entity relationships", e);
+            return rows;
+        
+        } catch (SQLException e) {
+            throw new DatabaseException(errorMessage, e);
+        }
+    }
+    
+    /**
+     * Maps a row of {@link #SELECT_LOAN_REPORT_ROW}.
+     */
+    private LoanReportRow mapReportRow(ResultSet rs) throws SQLException {
+        return new LoanReportRow(
+                rs.getLong("id"),
+                rs.getString("first_name") + " " + rs.getString("last_name"),
+                rs.getString("member_number"),
+                rs.getString("title"),
+                rs.getString("isbn"),
+                rs.getDate("loan_date").toLocalDate(),
+                rs.getDate("expected_return_date").toLocalDate(),
+                LoanStatus.valueOf(rs.getString("status")),
+                rs.getLong("days_overdue"),
+                rs.getBigDecimal("penalty"));
+    }
+    
+    /**
+     * Maps a joined ResultSet row to a Loan object with its member, book and user.
+     * Expects the column layout of {@link #SELECT_LOAN_WITH_RELATIONS}.
+     * 
+     * @param rs the ResultSet
+     * @return the mapped Loan
+     * @throws SQLException if database error occurs
+     */
+    private Loan mapResultSetToLoan(ResultSet rs) throws SQLException {
+        Loan loan = new Loan();
+        loan.setId(rs.getLong("id"));
+        loan.setMember(mapMember(rs));
+        loan.setBook(mapBook(rs));
+        loan.setUser(mapUser(rs));
+        
+        Date loanDate = rs.getDate("loan_date");
+        if (loanDate != null) {
+            loan.setLoanDate(loanDate.toLocalDate());
         }
         
+        Date expectedReturnDate = rs.getDate("expected_return_date");
+        if (expectedReturnDate != null) {
+            loan.setExpectedReturnDate(expectedReturnDate.toLocalDate());
+        }
+        
+        Date actualReturnDate = rs.getDate("actual_return_date");
+        if (actualReturnDate != null) {
+            loan.setActualReturnDate(actualReturnDate.toLocalDate());
+        }
+        
+        loan.setStatus(LoanStatus.valueOf(rs.getString("status")));
+        loan.setPenalty(rs.getBigDecimal("penalty"));
+        loan.setNotes(rs.getString("notes"));
+        
         return loan;
     }
-}
\ No newline at end of file
+    
+    private Member mapMember(ResultSet rs) throws SQLException {
+        Member member = new Member();
+        member.setId(rs.getLong("member_id"));
+        member.setMemberNumber(rs.getString("m_member_number"));
+        member.setFirstName(rs.getString("m_first_name"));
+        member.setLastName(rs.getString("m_last_name"));
+        member.setDocumentId(rs.getString("m_document_id"));
+        member.setEmail(rs.getString("m_email"));
+        member.setPhone(rs.getString("m_phone"));
+        member.setAddress(rs.getString("m_address"));
+        
+        Date regDate = rs.getDate("m_registration_date");
+        if (regDate != null) {
+            member.setRegistrationDate(regDate.toLocalDate());
+        }
+        
+        member.setActive(rs.getBoolean("m_active"));
+        member.setMembershipType(MembershipType.valueOf(rs.getString("m_membership_type")));
+        return member;
+    }
+    
+    private Book mapBook(ResultSet rs) throws SQLException {
+        Book book = new Book();
+        book.setId(rs.getLong("book_id"));
+        book.setIsbn(rs.getString("b_isbn"));
+        book.setTitle(rs.getString("b_title"));
+        book.setAuthor(rs.getString("b_author"));
+        book.setPublisher(rs.getString("b_publisher"));
+        book.setPublicationYear(rs.getInt("b_publication_year"));
+        book.setCategory(rs.getString("b_category"));
+        book.setAvailableStock(rs.getInt("b_available_stock"));
+        book.setTotalStock(rs.getInt("b_total_stock"));
+        return book;
+    }
+    
+    /**
+     * Maps the loan's user. The password column is not selected.
+     */
+    private User mapUser(ResultSet rs) throws SQLException {
+        User user = new User();
+        user.setId(rs.getLong("user_id"));
+        user.setUsername(rs.getString("u_username"));
+        user.setFirstName(rs.getString("u_first_name"));
+        user.setLastName(rs.getString("u_last_name"));
+        user.setEmail(rs.getString("u_email"));
+        user.setRole(UserRole.valueOf(rs.getString("u_role")));
+        user.setActive(rs.getBoolean("u_active"));
+        
+        Timestamp createdAt = rs.getTimestamp("u_created_at");
+        if (createdAt != null) {
+            user.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        
+        return user;
+    }
+    
+    /**
+     * Maps the current row of a result set.
+     */
+    @FunctionalInterface
+    private interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+}
@@ -4,6 +4,7 @@ import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.domain.Member.MembershipType;
 import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.repository.BatchResult;
 import com.mycompany.booknova.repository.MemberRepository;
 import java.sql.*;
 import java.time.LocalDate;
@@ -19,6 +20,16 @@ import java.util.Optional;
  */
 public class MemberRepositoryJdbc implements MemberRepository {
     
+    private static final String INSERT_SQL =
+        "INSERT INTO members (member_number, first_name, last_name, document_id, " +
+        "email, phone, address, registration_date, active, membership_type) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private static final String UPDATE_SQL =
+        "UPDATE members SET member_number = ?, first_name = ?, last_name = ?, " +
+        "document_id = ?, email = ?, phone = ?, address = ?, " +
+        "registration_date = ?, active = ?, membership_type = ? WHERE id = ?";
+    
     private final ConnectionDB connectionDB;
     
     public MemberRepositoryJdbc() {
@@ -27,23 +38,10 @@ public class MemberRepositoryJdbc implements MemberRepository {
     
     @Override
     public Member save(Member member) throws DatabaseException {
-        String sql = "INSERT INTO members (member_number, first_name, last_name, document_id, " +
-                     "email, phone, address, registration_date, active, membership_type) " +
-                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-        
         try (Connection conn = connectionDB.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-            
-            stmt.setString(1, member.getMemberNumber());
-            stmt.setString(2, member.getFirstName());
-            stmt.setString(3, member.getLastName());
-            stmt.setString(4, member.getDocumentId());
-            stmt.setString(5, member.getEmail());
-            stmt.setString(6, member.getPhone());
-            stmt.setString(7, member.getAddress());
-            stmt.setDate(8, Date.valueOf(member.getRegistrationDate()));
-            stmt.setBoolean(9, member.getActive());
-            stmt.setString(10, member.getMembershipType().name());
+             PreparedStatement stmt = conn.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+            
+            bindMember(stmt, member);
             
             int affectedRows = stmt.executeUpdate();
             
@@ -68,24 +66,10 @@ public class MemberRepositoryJdbc implements MemberRepository {
     
     @Override
     public Member update(Member member) throws DatabaseException {
-        String sql = "UPDATE members SET member_number = ?, first_name = ?, last_name = ?, " +
-                     "document_id = ?, email = ?, phone = ?, address = ?, " +
-                     "registration_date = ?, active = ?, membership_type = ? WHERE id = ?";
-        
         try (Connection conn = connectionDB.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(UPDATE_SQL)) {
             
-            stmt.setString(1, member.getMemberNumber());
-            stmt.setString(2, member.getFirstName());
-            stmt.setString(3, member.getLastName());
-            stmt.setString(4, member.getDocumentId());
-            stmt.setString(5, member.getEmail());
-            stmt.setString(6, member.getPhone());
-            stmt.setString(7, member.getAddress());
-            stmt.setDate(8, Date.valueOf(member.getRegistrationDate()));
-            stmt.setBoolean(9, member.getActive());
-            stmt.setString(10, member.getMembershipType().name());
-            stmt.setLong(11, member.getId());
+            bindMemberWithId(stmt, member);
             
             stmt.executeUpdate();
             return member;
@@ -95,6 +79,20 @@ public class MemberRepositoryJdbc implements MemberRepository {
         }
     }
     
+    @Override
+    public BatchResult<Member> saveAll(List<Member> members) throws DatabaseException {
+        BatchResult<Member> result = new BatchResult<>(members.size());
+        new JdbcBatchWriter<Member>(INSERT_SQL, this::bindMember, Member::setId).write(members, result);
+        return result;
+    }
+    
+    @Override
+    public BatchResult<Member> updateAll(List<Member> members) throws DatabaseException {
+        BatchResult<Member> result = new BatchResult<>(members.size());
+        new JdbcBatchWriter<Member>(UPDATE_SQL, this::bindMemberWithId, null).write(members, result);
+        return result;
+    }
+    
     @Override
     public void delete(Long id) throws DatabaseException {
         String sql = "DELETE FROM members WHERE id = ?";
@@ -196,6 +194,30 @@ public class MemberRepositoryJdbc implements MemberRepository {
         }
     }
     
+    @Override
+    public List<Member> findPage(Long afterId, int limit) throws DatabaseException {
+        String sql = "SELECT * FROM members WHERE id > ? ORDER BY id LIMIT ?";
+        List<Member> members = new ArrayList<>();
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setLong(1, afterId != null ? afterId : 0L);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    members.add(mapResultSetToMember(rs));
+                }
+            }
+            
+            return members;
+            
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding page of members", e);
+        }
+    }
+    
     @Override
     public List<Member> findAllActive() throws DatabaseException {
         String sql = "SELECT * FROM members WHERE active = true ORDER BY first_name, last_name";
@@ -216,6 +238,39 @@ public class MemberRepositoryJdbc implements MemberRepository {
         }
     }
     
+    @Override
+    public long countActive() throws DatabaseException {
+        String sql = "SELECT COUNT(*) FROM members WHERE active = true";
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            return rs.next() ? rs.getLong(1) : 0;
+            
+        } catch (SQLException e) {
+            throw new DatabaseException("Error counting active members", e);
+        }
+    }
+    
+    private void bindMember(PreparedStatement stmt, Member member) throws SQLException {
+        stmt.setString(1, member.getMemberNumber());
+        stmt.setString(2, member.getFirstName());
+        stmt.setString(3, member.getLastName());
+        stmt.setString(4, member.getDocumentId());
+        stmt.setString(5, member.getEmail());
+        stmt.setString(6, member.getPhone());
+        stmt.setString(7, member.getAddress());
+        stmt.setDate(8, Date.valueOf(member.getRegistrationDate()));
+        stmt.setBoolean(9, member.getActive());
+        stmt.setString(10, member.getMembershipType().name());
+    }
+    
+    private void bindMemberWithId(PreparedStatement stmt, Member member) throws SQLException {
+        bindMember(stmt, member);
+        stmt.setLong(11, member.getId());
+    }
+    
     /**
      * Maps a ResultSet row to a Member object.
      * 
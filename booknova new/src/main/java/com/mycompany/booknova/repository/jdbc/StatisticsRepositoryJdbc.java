@@ -0,0 +1,61 @@
+package com.mycompany.booknova.repository.jdbc;
+
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.repository.StatisticsRepository;
+import java.sql.*;
+
+/**
+ * JDBC implementation of StatisticsRepository.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class StatisticsRepositoryJdbc implements StatisticsRepository {
+    
+    /**
+     * One row with every dashboard figure. Each table is scanned once by its
+     * own aggregate subquery; the overdue count is a conditional sum over the
+     * active loans instead of a second pass.
+     */
+    private static final String DASHBOARD_SQL =
+        "SELECT b.total_books, b.total_copies, b.available_copies, " +
+        "m.active_members, l.active_loans, l.overdue_loans " +
+        "FROM (SELECT COUNT(*) AS total_books, " +
+        "COALESCE(SUM(total_stock), 0) AS total_copies, " +
+        "COALESCE(SUM(available_stock), 0) AS available_copies FROM books) b " +
+        "CROSS JOIN (SELECT COUNT(*) AS active_members FROM members WHERE active = true) m " +
+        "CROSS JOIN (SELECT COUNT(*) AS active_loans, " +
+        "COALESCE(SUM(CASE WHEN expected_return_date < CURDATE() THEN 1 ELSE 0 END), 0) AS overdue_loans " +
+        "FROM loans WHERE status = 'ACTIVE') l";
+    
+    private final ConnectionDB connectionDB;
+    
+    public StatisticsRepositoryJdbc() {
+        this.connectionDB = ConnectionDB.getInstance();
+    }
+    
+    @Override
+    public DashboardStatistics loadDashboardStatistics() throws DatabaseException {
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(DASHBOARD_SQL);
+             ResultSet rs = stmt.executeQuery()) {
+            
+            if (!rs.next()) {
+                return new DashboardStatistics(0, 0, 0, 0, 0, 0);
+            }
+            
+            return new DashboardStatistics(
+                    rs.getLong("total_books"),
+                    rs.getLong("total_copies"),
+                    rs.getLong("available_copies"),
+                    rs.getLong("active_members"),
+                    rs.getLong("active_loans"),
+                    rs.getLong("overdue_loans"));
+        
+        } catch (SQLException e) {
+            throw new DatabaseException("Error loading dashboard statistics", e);
+        }
+    }
+}
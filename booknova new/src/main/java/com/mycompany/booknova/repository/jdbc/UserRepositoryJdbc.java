@@ -167,6 +167,30 @@ public class UserRepositoryJdbc implements UserRepository {
         }
     }
     
+    @Override
+    public List<User> findPage(Long afterId, int limit) throws DatabaseException {
+        String sql = "SELECT * FROM users WHERE id > ? ORDER BY id LIMIT ?";
+        List<User> users = new ArrayList<>();
+        
+        try (Connection conn = connectionDB.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setLong(1, afterId != null ? afterId : 0L);
+            stmt.setInt(2, limit);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    users.add(mapResultSetToUser(rs));
+                }
+            }
+            
+            return users;
+            
+        } catch (SQLException e) {
+            throw new DatabaseException("Error finding page of users", e);
+        }
+    }
+    
     @Override
     public Optional<User> validateCredentials(String username, String password) throws DatabaseException {
         String sql = "SELECT * FROM users WHERE username = ? AND password = ? AND active = true";
@@ -0,0 +1,224 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.exceptions.DuplicateIsbnException;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.BookRepository;
+import com.mycompany.booknova.repository.RowCallback;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueIndex;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueKeyViolation;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * In-memory implementation of BookRepository.
+ * Books are indexed by ID and by ISBN; stock changes are applied atomically
+ * per book, with the same conditions as the JDBC repository's UPDATE statements.
+ * Inside a transaction a stock change registers its inverse with
+ * {@link TransactionManager#onRollback(Runnable)}, so a failed checkout or
+ * return does not lose or add a copy. Book updates keep the copies on loan,
+ * as the JDBC repository's UPDATE statement does.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class InMemoryBookRepository implements BookRepository {
+    
+    private static final Comparator<Book> BY_TITLE =
+        Comparator.comparing(Book::getTitle, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    
+    private final InMemoryTable<Book> books =
+        new InMemoryTable<>(InMemoryBookRepository::copyOf, Book::getId, Book::setId);
+    private final UniqueIndex<Book> byIsbn = books.addUniqueIndex("ISBN", Book::getIsbn);
+    
+    @Override
+    public Book save(Book book) throws DuplicateIsbnException, DatabaseException {
+        try {
+            books.insert(book);
+            return book;
+        } catch (UniqueKeyViolation e) {
+            throw new DuplicateIsbnException(e.getKey());
+        }
+    }
+    
+    @Override
+    public Book update(Book book) throws DatabaseException {
+        try {
+            books.update(book, InMemoryBookRepository::keepLentCopies);
+            return books.find(book.getId()).orElse(book);
+        } catch (UniqueKeyViolation e) {
+            throw new DatabaseException("Error updating book", e);
+        }
+    }
+    
+    @Override
+    public BatchResult<Book> saveAll(List<Book> items) throws DatabaseException {
+        BatchResult<Book> result = new BatchResult<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Book book = items.get(i);
+            if (book.getIsbn() == null) {
+                result.addError(i, book, "ISBN is required");
+                continue;
+            }
+            try {
+                books.insert(book);
+                result.addSucceeded(book);
+            } catch (UniqueKeyViolation e) {
+                result.addError(i, book, new DuplicateIsbnException(e.getKey()).getMessage());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public BatchResult<Book> updateAll(List<Book> items) throws DatabaseException {
+        BatchResult<Book> result = new BatchResult<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Book book = items.get(i);
+            try {
+                if (books.update(book, InMemoryBookRepository::keepLentCopies)) {
+                    result.addSucceeded(book);
+                } else {
+                    result.addError(i, book, "No matching row");
+                }
+            } catch (UniqueKeyViolation e) {
+                result.addError(i, book, e.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void delete(Long id) throws DatabaseException {
+        books.delete(id);
+    }
+    
+    @Override
+    public Optional<Book> findById(Long id) throws DatabaseException {
+        return books.find(id);
+    }
+    
+    @Override
+    public Optional<Book> findCurrentById(Long id) throws DatabaseException {
+        return findById(id);
+    }
+    
+    @Override
+    public Optional<Book> findByIsbn(String isbn) throws DatabaseException {
+        return books.find(byIsbn, isbn);
+    }
+    
+    @Override
+    public List<Book> findAll() throws DatabaseException {
+        List<Book> result = books.select(book -> true);
+        result.sort(BY_TITLE);
+        return result;
+    }
+    
+    @Override
+    public List<Book> findPage(Long afterId, int limit) throws DatabaseException {
+        return books.page(afterId, limit);
+    }
+    
+    @Override
+    public <E extends Exception> long streamAll(RowCallback<Book, E> callback) throws DatabaseException, E {
+        List<Book> sorted = findAll();
+        for (Book book : sorted) {
+            callback.accept(book);
+        }
+        return sorted.size();
+    }
+    
+    @Override
+    public List<Book> findByCategory(String category) throws DatabaseException {
+        List<Book> result = books.select(book -> category != null && category.equalsIgnoreCase(book.getCategory()));
+        result.sort(BY_TITLE);
+        return result;
+    }
+    
+    @Override
+    public List<Book> findByAuthor(String author) throws DatabaseException {
+        String fragment = author != null ? author.toLowerCase(Locale.ROOT) : "";
+        List<Book> result = books.select(book ->
+                book.getAuthor() != null && book.getAuthor().toLowerCase(Locale.ROOT).contains(fragment));
+        result.sort(BY_TITLE);
+        return result;
+    }
+    
+    @Override
+    public void updateAvailableStock(Long bookId, Integer newStock) throws DatabaseException {
+        books.updateIf(bookId, book -> true, book -> book.setAvailableStock(newStock));
+    }
+    
+    @Override
+    public boolean decrementAvailableStockIfPositive(Long bookId) throws DatabaseException {
+        boolean decremented = books.updateIf(bookId,
+                book -> stock(book.getAvailableStock()) > 0,
+                book -> book.setAvailableStock(book.getAvailableStock() - 1));
+        if (decremented) {
+            TransactionManager.getInstance().onRollback(() -> books.updateIf(bookId,
+                    book -> true, book -> book.setAvailableStock(book.getAvailableStock() + 1)));
+        }
+        return decremented;
+    }
+    
+    @Override
+    public boolean incrementAvailableStock(Long bookId) throws DatabaseException {
+        boolean incremented = books.updateIf(bookId,
+                book -> stock(book.getAvailableStock()) < stock(book.getTotalStock()),
+                book -> book.setAvailableStock(book.getAvailableStock() + 1));
+        if (incremented) {
+            TransactionManager.getInstance().onRollback(() -> books.updateIf(bookId,
+                    book -> true, book -> book.setAvailableStock(book.getAvailableStock() - 1)));
+        }
+        return incremented;
+    }
+    
+    @Override
+    public long count() throws DatabaseException {
+        return books.size();
+    }
+    
+    /**
+     * Sums the total and available copies of all books without copying them.
+     * 
+     * @return the total copies and the available copies, in that order
+     */
+    long[] sumStock() {
+        return new long[] {
+            books.sum(book -> stock(book.getTotalStock())),
+            books.sum(book -> stock(book.getAvailableStock()))
+        };
+    }
+    
+    /**
+     * Moves the available stock by the change in total stock, like the JDBC
+     * repository's UPDATE statement, instead of taking it from the edited book.
+     */
+    private static void keepLentCopies(Book current, Book stored) {
+        int lent = stock(current.getTotalStock()) - stock(current.getAvailableStock());
+        stored.setAvailableStock(Math.max(stock(stored.getTotalStock()) - lent, 0));
+    }
+    
+    private static int stock(Integer value) {
+        return value != null ? value : 0;
+    }
+    
+    /**
+     * Looks up a book for the loan repository's join, without the
+     * checked exception of the repository interface.
+     */
+    Optional<Book> lookup(Long id) {
+        return books.find(id);
+    }
+    
+    private static Book copyOf(Book book) {
+        return new Book(book.getId(), book.getIsbn(), book.getTitle(), book.getAuthor(),
+                book.getPublisher(), book.getPublicationYear(), book.getCategory(),
+                book.getAvailableStock(), book.getTotalStock());
+    }
+}
@@ -0,0 +1,348 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.LoanReportRow;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.LoanCriteria;
+import com.mycompany.booknova.repository.LoanRepository;
+import com.mycompany.booknova.repository.RowCallback;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * In-memory implementation of LoanRepository.
+ * Loans store only the IDs of their member, book and user; reads join them
+ * with the in-memory member, book and user repositories, so a loan always
+ * shows the current state of its relations, as the JDBC join does. Loans
+ * whose relations no longer exist are skipped, like rows dropped by an inner join.
+ * 
+ * Loan IDs are also indexed by member, so the per-member checks made on every
+ * new loan do not scan all loans.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class InMemoryLoanRepository implements LoanRepository {
+    
+    private static final Comparator<Loan> BY_LOAN_DATE_DESC =
+        Comparator.comparing(Loan::getLoanDate, Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder()))
+                  .thenComparing(Loan::getId)
+                  .reversed();
+    
+    private static final Comparator<Loan> BY_EXPECTED_RETURN_DATE =
+        Comparator.comparing(Loan::getExpectedReturnDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+                  .thenComparing(Loan::getId);
+    
+    private final InMemoryBookRepository bookRepository;
+    private final InMemoryMemberRepository memberRepository;
+    private final InMemoryUserRepository userRepository;
+    
+    private final InMemoryTable<Loan> loans =
+        new InMemoryTable<>(InMemoryLoanRepository::detach, Loan::getId, Loan::setId);
+    private final ConcurrentHashMap<Long, Set<Long>> loanIdsByMember = new ConcurrentHashMap<>();
+    
+    /**
+     * Creates an empty loan repository joined with the given repositories.
+     * 
+     * @param bookRepository the books referenced by loans
+     * @param memberRepository the members referenced by loans
+     * @param userRepository the users who record loans
+     */
+    public InMemoryLoanRepository(InMemoryBookRepository bookRepository,
+                                  InMemoryMemberRepository memberRepository,
+                                  InMemoryUserRepository userRepository) {
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.userRepository = userRepository;
+    }
+    
+    @Override
+    public Loan save(Loan loan) throws DatabaseException {
+        checkRelations(loan, "Error saving loan");
+        loans.insert(loan);
+        indexByMember(loan);
+        return loan;
+    }
+    
+    @Override
+    public BatchResult<Loan> saveAll(List<Loan> items) throws DatabaseException {
+        BatchResult<Loan> result = new BatchResult<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Loan loan = items.get(i);
+            try {
+                result.addSucceeded(save(loan));
+            } catch (DatabaseException e) {
+                result.addError(i, loan, e.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public Loan update(Loan loan) throws DatabaseException {
+        checkRelations(loan, "Error updating loan");
+        if (loans.update(loan)) {
+            indexByMember(loan);
+        }
+        return loan;
+    }
+    
+    @Override
+    public boolean updateIfActive(Loan loan) throws DatabaseException {
+        checkRelations(loan, "Error updating loan");
+        Optional<Loan> previous = loans.replaceIf(loan, current -> current.getStatus() == LoanStatus.ACTIVE);
+        if (previous.isEmpty()) {
+            return false;
+        }
+        indexByMember(loan);
+        // The JDBC update is undone by the rollback; put the active loan back
+        TransactionManager.getInstance().onRollback(() -> loans.update(previous.get()));
+        return true;
+    }
+    
+    @Override
+    public Optional<Loan> findById(Long id) throws DatabaseException {
+        return loans.find(id).map(this::resolve);
+    }
+    
+    @Override
+    public List<Loan> findAll() throws DatabaseException {
+        return query(loan -> true, BY_LOAN_DATE_DESC);
+    }
+    
+    @Override
+    public List<Loan> findPage(Long afterId, int limit) throws DatabaseException {
+        List<Loan> page = new ArrayList<>();
+        for (Loan loan : loans.page(afterId, limit)) {
+            Loan resolved = resolve(loan);
+            if (resolved != null) {
+                page.add(resolved);
+            }
+        }
+        return page;
+    }
+    
+    @Override
+    public <E extends Exception> long streamAll(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return stream(findAll(), callback);
+    }
+    
+    @Override
+    public List<Loan> findByCriteria(LoanCriteria criteria) throws DatabaseException {
+        return query(matching(criteria, LocalDate.now()), BY_LOAN_DATE_DESC);
+    }
+    
+    @Override
+    public <E extends Exception> long streamByCriteria(LoanCriteria criteria, RowCallback<Loan, E> callback)
+            throws DatabaseException, E {
+        return stream(findByCriteria(criteria), callback);
+    }
+    
+    @Override
+    public <E extends Exception> long streamReportRows(LoanCriteria criteria, RowCallback<LoanReportRow, E> callback)
+            throws DatabaseException, E {
+        LocalDate today = LocalDate.now();
+        long[] count = new long[1];
+        loans.forEach(matching(criteria, today), loan -> {
+            Optional<Member> member = memberRepository.lookup(memberId(loan));
+            Optional<Book> book = bookRepository.lookup(loan.getBook().getId());
+            if (member.isPresent() && book.isPresent()) {
+                callback.accept(new LoanReportRow(
+                        loan.getId(),
+                        member.get().getFullName(),
+                        member.get().getMemberNumber(),
+                        book.get().getTitle(),
+                        book.get().getIsbn(),
+                        loan.getLoanDate(),
+                        loan.getExpectedReturnDate(),
+                        loan.getStatus(),
+                        ChronoUnit.DAYS.between(loan.getExpectedReturnDate(), today),
+                        loan.getPenalty()));
+                count[0]++;
+            }
+        });
+        return count[0];
+    }
+    
+    @Override
+    public List<Loan> findActiveLoansByMember(Long memberId) throws DatabaseException {
+        List<Loan> result = new ArrayList<>();
+        for (Long loanId : loanIdsOf(memberId)) {
+            loans.find(loanId)
+                 .filter(loan -> loan.getStatus() == LoanStatus.ACTIVE && memberId.equals(memberId(loan)))
+                 .map(this::resolve)
+                 .ifPresent(result::add);
+        }
+        result.sort(BY_LOAN_DATE_DESC);
+        return result;
+    }
+    
+    @Override
+    public List<Loan> findOverdueLoans() throws DatabaseException {
+        return query(overdue(LocalDate.now()), BY_EXPECTED_RETURN_DATE);
+    }
+    
+    @Override
+    public <E extends Exception> long streamOverdueLoans(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return stream(findOverdueLoans(), callback);
+    }
+    
+    @Override
+    public List<Loan> findByDateRange(LocalDate startDate, LocalDate endDate) throws DatabaseException {
+        return query(loan -> loan.getLoanDate() != null
+                             && !loan.getLoanDate().isBefore(startDate)
+                             && !loan.getLoanDate().isAfter(endDate),
+                     BY_LOAN_DATE_DESC);
+    }
+    
+    @Override
+    public int countActiveLoansByMember(Long memberId) throws DatabaseException {
+        int count = 0;
+        for (Long loanId : loanIdsOf(memberId)) {
+            if (loans.test(loanId, loan -> loan.getStatus() == LoanStatus.ACTIVE
+                                           && memberId.equals(memberId(loan)))) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    @Override
+    public long countActive() throws DatabaseException {
+        return loans.count(loan -> loan.getStatus() == LoanStatus.ACTIVE);
+    }
+    
+    @Override
+    public long countOverdue() throws DatabaseException {
+        return loans.count(overdue(LocalDate.now()));
+    }
+    
+    /**
+     * Translates the criteria into a filter with the same meaning as the
+     * JDBC repository's WHERE clause.
+     */
+    private static Predicate<Loan> matching(LoanCriteria criteria, LocalDate today) {
+        Predicate<Loan> filter = loan -> true;
+        if (!criteria.getStatuses().isEmpty()) {
+            filter = filter.and(loan -> criteria.getStatuses().contains(loan.getStatus()));
+        }
+        if (criteria.getMemberId() != null) {
+            filter = filter.and(loan -> criteria.getMemberId().equals(memberId(loan)));
+        }
+        if (criteria.getBookId() != null) {
+            filter = filter.and(loan -> criteria.getBookId().equals(loan.getBook().getId()));
+        }
+        if (criteria.isOverdueOnly()) {
+            filter = filter.and(overdue(today));
+        }
+        if (criteria.getLoanDateFrom() != null) {
+            filter = filter.and(loan -> loan.getLoanDate() != null
+                                        && !loan.getLoanDate().isBefore(criteria.getLoanDateFrom()));
+        }
+        if (criteria.getLoanDateTo() != null) {
+            filter = filter.and(loan -> loan.getLoanDate() != null
+                                        && !loan.getLoanDate().isAfter(criteria.getLoanDateTo()));
+        }
+        return filter;
+    }
+    
+    private static Predicate<Loan> overdue(LocalDate today) {
+        return loan -> loan.getStatus() == LoanStatus.ACTIVE
+                       && loan.getExpectedReturnDate() != null
+                       && loan.getExpectedReturnDate().isBefore(today);
+    }
+    
+    private List<Loan> query(Predicate<Loan> filter, Comparator<Loan> order) {
+        List<Loan> result = new ArrayList<>();
+        loans.forEach(filter, loan -> {
+            Loan resolved = resolve(loan);
+            if (resolved != null) {
+                result.add(resolved);
+            }
+        });
+        result.sort(order);
+        return result;
+    }
+    
+    private static <E extends Exception> long stream(List<Loan> rows, RowCallback<Loan, E> callback) throws E {
+        for (Loan loan : rows) {
+            callback.accept(loan);
+        }
+        return rows.size();
+    }
+    
+    /**
+     * Replaces the ID-only relations of a detached loan with the current
+     * member, book and user.
+     * 
+     * @return the loan, or null if a relation no longer exists
+     */
+    private Loan resolve(Loan loan) {
+        Optional<Member> member = memberRepository.lookup(memberId(loan));
+        Optional<Book> book = bookRepository.lookup(loan.getBook().getId());
+        Optional<User> user = userRepository.lookup(loan.getUser().getId());
+        if (member.isEmpty() || book.isEmpty() || user.isEmpty()) {
+            return null;
+        }
+        loan.setMember(member.get());
+        loan.setBook(book.get());
+        loan.setUser(user.get());
+        return loan;
+    }
+    
+    /**
+     * Rejects a loan whose member, book or user does not exist, as the
+     * foreign keys of the loans table do.
+     */
+    private void checkRelations(Loan loan, String errorMessage) throws DatabaseException {
+        if (loan.getMember() == null || memberRepository.lookup(loan.getMember().getId()).isEmpty()
+                || loan.getBook() == null || bookRepository.lookup(loan.getBook().getId()).isEmpty()
+                || loan.getUser() == null || userRepository.lookup(loan.getUser().getId()).isEmpty()) {
+            throw new DatabaseException(errorMessage + ": member, book or user not found");
+        }
+    }
+    
+    private void indexByMember(Loan loan) {
+        loanIdsByMember.computeIfAbsent(memberId(loan), id -> ConcurrentHashMap.newKeySet())
+                       .add(loan.getId());
+    }
+    
+    private Set<Long> loanIdsOf(Long memberId) {
+        return memberId != null
+                ? loanIdsByMember.getOrDefault(memberId, Collections.emptySet())
+                : Collections.emptySet();
+    }
+    
+    private static Long memberId(Loan loan) {
+        return loan.getMember() != null ? loan.getMember().getId() : null;
+    }
+    
+    /**
+     * Copies a loan, keeping only the IDs of its member, book and user.
+     */
+    private static Loan detach(Loan loan) {
+        Member member = new Member();
+        member.setId(Objects.requireNonNull(memberId(loan), "Loan member is required"));
+        Book book = new Book();
+        book.setId(loan.getBook().getId());
+        User user = new User();
+        user.setId(loan.getUser().getId());
+        return new Loan(loan.getId(), member, book, user, loan.getLoanDate(), loan.getExpectedReturnDate(),
+                loan.getActualReturnDate(), loan.getStatus(), loan.getPenalty(), loan.getNotes());
+    }
+}
@@ -0,0 +1,145 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.MemberRepository;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueIndex;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueKeyViolation;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory implementation of MemberRepository.
+ * Members are indexed by ID, by member number and by document ID; both
+ * numbers are unique, as in the members table.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class InMemoryMemberRepository implements MemberRepository {
+    
+    private static final Comparator<Member> BY_NAME =
+        Comparator.comparing(Member::getFirstName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+                  .thenComparing(Member::getLastName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+    
+    private final InMemoryTable<Member> members =
+        new InMemoryTable<>(InMemoryMemberRepository::copyOf, Member::getId, Member::setId);
+    private final UniqueIndex<Member> byMemberNumber =
+        members.addUniqueIndex("member number", Member::getMemberNumber);
+    private final UniqueIndex<Member> byDocumentId =
+        members.addUniqueIndex("document ID", Member::getDocumentId);
+    
+    @Override
+    public Member save(Member member) throws DatabaseException {
+        try {
+            members.insert(member);
+            return member;
+        } catch (UniqueKeyViolation e) {
+            throw new DatabaseException("Error saving member", e);
+        }
+    }
+    
+    @Override
+    public Member update(Member member) throws DatabaseException {
+        try {
+            members.update(member);
+            return member;
+        } catch (UniqueKeyViolation e) {
+            throw new DatabaseException("Error updating member", e);
+        }
+    }
+    
+    @Override
+    public BatchResult<Member> saveAll(List<Member> items) throws DatabaseException {
+        BatchResult<Member> result = new BatchResult<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Member member = items.get(i);
+            try {
+                members.insert(member);
+                result.addSucceeded(member);
+            } catch (UniqueKeyViolation e) {
+                result.addError(i, member, e.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public BatchResult<Member> updateAll(List<Member> items) throws DatabaseException {
+        BatchResult<Member> result = new BatchResult<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            Member member = items.get(i);
+            try {
+                if (members.update(member)) {
+                    result.addSucceeded(member);
+                } else {
+                    result.addError(i, member, "No matching row");
+                }
+            } catch (UniqueKeyViolation e) {
+                result.addError(i, member, e.getMessage());
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void delete(Long id) throws DatabaseException {
+        members.delete(id);
+    }
+    
+    @Override
+    public Optional<Member> findById(Long id) throws DatabaseException {
+        return members.find(id);
+    }
+    
+    @Override
+    public Optional<Member> findByMemberNumber(String memberNumber) throws DatabaseException {
+        return members.find(byMemberNumber, memberNumber);
+    }
+    
+    @Override
+    public Optional<Member> findByDocumentId(String documentId) throws DatabaseException {
+        return members.find(byDocumentId, documentId);
+    }
+    
+    @Override
+    public List<Member> findAll() throws DatabaseException {
+        List<Member> result = members.select(member -> true);
+        result.sort(BY_NAME);
+        return result;
+    }
+    
+    @Override
+    public List<Member> findPage(Long afterId, int limit) throws DatabaseException {
+        return members.page(afterId, limit);
+    }
+    
+    @Override
+    public List<Member> findAllActive() throws DatabaseException {
+        List<Member> result = members.select(Member::isActive);
+        result.sort(BY_NAME);
+        return result;
+    }
+    
+    @Override
+    public long countActive() throws DatabaseException {
+        return members.count(Member::isActive);
+    }
+    
+    /**
+     * Looks up a member for the loan repository's join, without the
+     * checked exception of the repository interface.
+     */
+    Optional<Member> lookup(Long id) {
+        return members.find(id);
+    }
+    
+    private static Member copyOf(Member member) {
+        return new Member(member.getId(), member.getMemberNumber(), member.getFirstName(),
+                member.getLastName(), member.getDocumentId(), member.getEmail(), member.getPhone(),
+                member.getAddress(), member.getRegistrationDate(), member.getActive(),
+                member.getMembershipType());
+    }
+}
@@ -0,0 +1,39 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.repository.StatisticsRepository;
+
+/**
+ * In-memory implementation of StatisticsRepository.
+ * Computes the dashboard figures from the in-memory repositories.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class InMemoryStatisticsRepository implements StatisticsRepository {
+    
+    private final InMemoryBookRepository bookRepository;
+    private final InMemoryMemberRepository memberRepository;
+    private final InMemoryLoanRepository loanRepository;
+    
+    public InMemoryStatisticsRepository(InMemoryBookRepository bookRepository,
+                                        InMemoryMemberRepository memberRepository,
+                                        InMemoryLoanRepository loanRepository) {
+        this.bookRepository = bookRepository;
+        this.memberRepository = memberRepository;
+        this.loanRepository = loanRepository;
+    }
+    
+    @Override
+    public DashboardStatistics loadDashboardStatistics() throws DatabaseException {
+        long[] stock = bookRepository.sumStock();
+        return new DashboardStatistics(
+                bookRepository.count(),
+                stock[0],
+                stock[1],
+                memberRepository.countActive(),
+                loanRepository.countActive(),
+                loanRepository.countOverdue());
+    }
+}
@@ -0,0 +1,404 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.repository.RowCallback;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe table of entities keyed by a generated ID, shared by the
+ * in-memory repositories.
+ * Rows live in a {@link ConcurrentHashMap}, so one row is read or replaced
+ * atomically with {@code compute}; a sorted set of the IDs gives the ID order
+ * used for paging and streaming, like the primary key index of a table.
+ * Unique indexes map a natural key such as the ISBN to the row ID and are
+ * kept in step with the row inside the same {@code compute} call.
+ * 
+ * The table stores copies: writes store a copy of the caller's entity and
+ * reads return a new copy, so a row can only change through the table.
+ * 
+ * @param <T> the entity type
+ * @author LibroNova Team
+ * @version 1.0
+ */
+final class InMemoryTable<T> {
+    
+    private final ConcurrentHashMap<Long, T> rows = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListSet<Long> ids = new ConcurrentSkipListSet<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<UniqueIndex<T>> indexes = new ArrayList<>();
+    
+    private final UnaryOperator<T> copier;
+    private final Function<T, Long> idGetter;
+    private final BiConsumer<T, Long> idSetter;
+    
+    /**
+     * Creates an empty table.
+     * 
+     * @param copier makes an independent copy of an entity
+     * @param idGetter reads the entity's ID
+     * @param idSetter assigns the entity's ID
+     */
+    InMemoryTable(UnaryOperator<T> copier, Function<T, Long> idGetter, BiConsumer<T, Long> idSetter) {
+        this.copier = copier;
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+    }
+    
+    /**
+     * Adds a unique index on a natural key. Must be called before the first
+     * row is written. Rows whose key is null are not indexed.
+     * 
+     * @param name the key name used in error messages
+     * @param key extracts the key from an entity
+     * @return the index, for lookups with {@link #find(UniqueIndex, String)}
+     */
+    UniqueIndex<T> addUniqueIndex(String name, Function<T, String> key) {
+        UniqueIndex<T> index = new UniqueIndex<>(name, key);
+        indexes.add(index);
+        return index;
+    }
+    
+    /**
+     * Stores a copy of the entity under a new ID and assigns that ID to the
+     * caller's entity.
+     * 
+     * @param item the entity to insert
+     * @return the assigned ID
+     * @throws UniqueKeyViolation if a unique key is already taken
+     */
+    long insert(T item) {
+        long id = sequence.incrementAndGet();
+        T stored = copier.apply(item);
+        idSetter.accept(stored, id);
+        
+        List<UniqueIndex<T>> reserved = new ArrayList<>(indexes.size());
+        for (UniqueIndex<T> index : indexes) {
+            String key = index.key.apply(stored);
+            if (key == null) {
+                continue;
+            }
+            if (index.ids.putIfAbsent(key, id) != null) {
+                reserved.forEach(r -> r.ids.remove(r.key.apply(stored), id));
+                throw new UniqueKeyViolation(index.name, key);
+            }
+            reserved.add(index);
+        }
+        
+        rows.put(id, stored);
+        ids.add(id);
+        idSetter.accept(item, id);
+        return id;
+    }
+    
+    /**
+     * Replaces the row with the entity's ID by a copy of the entity.
+     * 
+     * @param item the new state of the row
+     * @return false if there is no row with that ID
+     * @throws UniqueKeyViolation if a changed unique key is already taken
+     */
+    boolean update(T item) {
+        return update(item, (current, stored) -> { });
+    }
+    
+    /**
+     * Replaces the row with the entity's ID by a copy of the entity, after
+     * letting {@code merge} carry values over from the current row, the
+     * in-memory form of {@code SET column = <expression of column>}.
+     * 
+     * @param item the new state of the row
+     * @param merge receives the current row and the copy about to be stored
+     * @return false if there is no row with that ID
+     * @throws UniqueKeyViolation if a changed unique key is already taken
+     */
+    boolean update(T item, BiConsumer<T, T> merge) {
+        Long id = idGetter.apply(item);
+        if (id == null) {
+            return false;
+        }
+        T stored = copier.apply(item);
+        return rows.computeIfPresent(id, (key, current) -> {
+            merge.accept(current, stored);
+            reindex(key, current, stored);
+            return stored;
+        }) != null;
+    }
+    
+    /**
+     * Replaces the row with the entity's ID by a copy of the entity if the
+     * current row meets a condition, the in-memory form of
+     * {@code UPDATE ... SET <all columns> WHERE id = ? AND <condition>}.
+     * 
+     * @param item the new state of the row
+     * @param condition checked against the current row
+     * @return the row as it was before the change, or empty if there is no
+     *         row with that ID or it did not meet the condition
+     * @throws UniqueKeyViolation if a changed unique key is already taken
+     */
+    Optional<T> replaceIf(T item, Predicate<T> condition) {
+        Long id = idGetter.apply(item);
+        if (id == null) {
+            return Optional.empty();
+        }
+        T stored = copier.apply(item);
+        List<T> previous = new ArrayList<>(1);
+        rows.computeIfPresent(id, (key, current) -> {
+            if (!condition.test(current)) {
+                return current;
+            }
+            reindex(key, current, stored);
+            previous.add(current);
+            return stored;
+        });
+        return previous.stream().findFirst();
+    }
+    
+    /**
+     * Removes a row and its unique keys.
+     * 
+     * @param id the row ID
+     * @return false if there was no row with that ID
+     */
+    boolean delete(Long id) {
+        if (id == null) {
+            return false;
+        }
+        boolean[] removed = new boolean[1];
+        rows.computeIfPresent(id, (key, current) -> {
+            for (UniqueIndex<T> index : indexes) {
+                String indexKey = index.key.apply(current);
+                if (indexKey != null) {
+                    index.ids.remove(indexKey, key);
+                }
+            }
+            removed[0] = true;
+            return null;
+        });
+        ids.remove(id);
+        return removed[0];
+    }
+    
+    /**
+     * Changes one row atomically if it meets a condition, the in-memory form
+     * of {@code UPDATE ... WHERE id = ? AND <condition>}. The change must not
+     * touch indexed keys.
+     * 
+     * @param id the row ID
+     * @param condition checked against the current row
+     * @param change applied to a copy of the current row
+     * @return true if the row existed, met the condition and was changed
+     */
+    boolean updateIf(Long id, Predicate<T> condition, Consumer<T> change) {
+        if (id == null) {
+            return false;
+        }
+        boolean[] changed = new boolean[1];
+        rows.computeIfPresent(id, (key, current) -> {
+            if (!condition.test(current)) {
+                return current;
+            }
+            T next = copier.apply(current);
+            change.accept(next);
+            changed[0] = true;
+            return next;
+        });
+        return changed[0];
+    }
+    
+    /**
+     * Finds a row by ID.
+     * 
+     * @param id the row ID
+     * @return a copy of the row, or empty if not found
+     */
+    Optional<T> find(Long id) {
+        T row = id != null ? rows.get(id) : null;
+        return row != null ? Optional.of(copier.apply(row)) : Optional.empty();
+    }
+    
+    /**
+     * Finds a row by a unique key.
+     * 
+     * @param index the unique index to look in
+     * @param key the key value
+     * @return a copy of the row, or empty if not found
+     */
+    Optional<T> find(UniqueIndex<T> index, String key) {
+        return key != null ? find(index.ids.get(key)) : Optional.empty();
+    }
+    
+    /**
+     * Checks a condition against a row without copying it.
+     * 
+     * @param id the row ID
+     * @param condition checked against the stored row; must not change it
+     * @return true if the row exists and meets the condition
+     */
+    boolean test(Long id, Predicate<T> condition) {
+        T row = id != null ? rows.get(id) : null;
+        return row != null && condition.test(row);
+    }
+    
+    /**
+     * Passes a copy of each matching row to the callback, in ID order.
+     * 
+     * @param filter selects the rows; it sees the stored row and must not change it
+     * @param callback receives each matching row
+     * @return the number of rows passed to the callback
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long forEach(Predicate<T> filter, RowCallback<T, E> callback) throws E {
+        long count = 0;
+        for (Long id : ids) {
+            T row = rows.get(id);
+            if (row != null && filter.test(row)) {
+                callback.accept(copier.apply(row));
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Collects copies of the matching rows in ID order.
+     * 
+     * @param filter selects the rows; it sees the stored row and must not change it
+     * @return the matching rows
+     */
+    List<T> select(Predicate<T> filter) {
+        List<T> result = new ArrayList<>();
+        forEach(filter, result::add);
+        return result;
+    }
+    
+    /**
+     * Reads up to {@code limit} rows with an ID greater than {@code afterId},
+     * in ID order.
+     * 
+     * @param afterId the last ID of the previous page, or null for the first page
+     * @param limit the maximum number of rows
+     * @return the page of rows
+     */
+    List<T> page(Long afterId, int limit) {
+        List<T> result = new ArrayList<>(Math.max(0, Math.min(limit, 1024)));
+        for (Long id : ids.tailSet(afterId != null ? afterId : 0L, false)) {
+            if (result.size() >= limit) {
+                break;
+            }
+            T row = rows.get(id);
+            if (row != null) {
+                result.add(copier.apply(row));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Counts the matching rows without copying them.
+     * 
+     * @param filter selects the rows
+     * @return the number of matching rows
+     */
+    long count(Predicate<T> filter) {
+        long count = 0;
+        for (T row : rows.values()) {
+            if (filter.test(row)) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * Sums a value over all rows without copying them.
+     * 
+     * @param value extracts the value from a row
+     * @return the sum
+     */
+    long sum(ToLongFunction<T> value) {
+        long sum = 0;
+        for (T row : rows.values()) {
+            sum += value.applyAsLong(row);
+        }
+        return sum;
+    }
+    
+    /**
+     * Gets the number of rows.
+     * 
+     * @return the row count
+     */
+    long size() {
+        return rows.size();
+    }
+    
+    /**
+     * Moves the unique keys of a row from its current to its new state.
+     * Runs inside the row's {@code compute}, so no other write to the row
+     * can interleave.
+     */
+    private void reindex(Long id, T current, T next) {
+        List<UniqueIndex<T>> reserved = new ArrayList<>(indexes.size());
+        for (UniqueIndex<T> index : indexes) {
+            String newKey = index.key.apply(next);
+            if (newKey == null || newKey.equals(index.key.apply(current))) {
+                continue;
+            }
+            if (index.ids.putIfAbsent(newKey, id) != null) {
+                reserved.forEach(r -> r.ids.remove(r.key.apply(next), id));
+                throw new UniqueKeyViolation(index.name, newKey);
+            }
+            reserved.add(index);
+        }
+        for (UniqueIndex<T> index : indexes) {
+            String oldKey = index.key.apply(current);
+            if (oldKey != null && !Objects.equals(oldKey, index.key.apply(next))) {
+                index.ids.remove(oldKey, id);
+            }
+        }
+    }
+    
+    /**
+     * Unique natural key of a table, mapped to the row ID.
+     * 
+     * @param <T> the entity type
+     */
+    static final class UniqueIndex<T> {
+        private final String name;
+        private final Function<T, String> key;
+        private final ConcurrentHashMap<String, Long> ids = new ConcurrentHashMap<>();
+        
+        private UniqueIndex(String name, Function<T, String> key) {
+            this.name = name;
+            this.key = key;
+        }
+    }
+    
+    /**
+     * Thrown when a write would give two rows the same unique key.
+     * The in-memory counterpart of a unique constraint violation.
+     */
+    static final class UniqueKeyViolation extends RuntimeException {
+        private final String key;
+        
+        private UniqueKeyViolation(String indexName, String key) {
+            super("Duplicate " + indexName + ": " + key);
+            this.key = key;
+        }
+        
+        String getKey() {
+            return key;
+        }
+    }
+}
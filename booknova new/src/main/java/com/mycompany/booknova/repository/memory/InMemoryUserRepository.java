@@ -0,0 +1,97 @@
+package com.mycompany.booknova.repository.memory;
+
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.repository.UserRepository;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueIndex;
+import com.mycompany.booknova.repository.memory.InMemoryTable.UniqueKeyViolation;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * In-memory implementation of UserRepository.
+ * Users are indexed by ID and by their unique username.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class InMemoryUserRepository implements UserRepository {
+    
+    private final InMemoryTable<User> users =
+        new InMemoryTable<>(InMemoryUserRepository::copyOf, User::getId, User::setId);
+    private final UniqueIndex<User> byUsername = users.addUniqueIndex("username", User::getUsername);
+    
+    @Override
+    public User save(User user) throws DatabaseException {
+        if (user.getCreatedAt() == null) {
+            user.setCreatedAt(LocalDateTime.now());
+        }
+        try {
+            users.insert(user);
+            return user;
+        } catch (UniqueKeyViolation e) {
+            throw new DatabaseException("Error saving user", e);
+        }
+    }
+    
+    @Override
+    public User update(User user) throws DatabaseException {
+        try {
+            users.update(user);
+            return user;
+        } catch (UniqueKeyViolation e) {
+            throw new DatabaseException("Error updating user", e);
+        }
+    }
+    
+    @Override
+    public void delete(Long id) throws DatabaseException {
+        users.delete(id);
+    }
+    
+    @Override
+    public Optional<User> findById(Long id) throws DatabaseException {
+        return users.find(id);
+    }
+    
+    @Override
+    public Optional<User> findByUsername(String username) throws DatabaseException {
+        return users.find(byUsername, username);
+    }
+    
+    @Override
+    public List<User> findAll() throws DatabaseException {
+        List<User> result = users.select(user -> true);
+        result.sort(Comparator.comparing(User::getUsername, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)));
+        return result;
+    }
+    
+    @Override
+    public List<User> findPage(Long afterId, int limit) throws DatabaseException {
+        return users.page(afterId, limit);
+    }
+    
+    @Override
+    public Optional<User> validateCredentials(String username, String password) throws DatabaseException {
+        return findByUsername(username)
+                .filter(user -> password != null && password.equals(user.getPassword()))
+                .filter(user -> Boolean.TRUE.equals(user.getActive()));
+    }
+    
+    /**
+     * Looks up a user for the loan repository's join, without the
+     * checked exception of the repository interface.
+     */
+    Optional<User> lookup(Long id) {
+        return users.find(id);
+    }
+    
+    private static User copyOf(User user) {
+        User copy = new User(user.getId(), user.getUsername(), user.getPassword(), user.getFirstName(),
+                user.getLastName(), user.getEmail(), user.getRole(), user.getActive());
+        copy.setCreatedAt(user.getCreatedAt());
+        return copy;
+    }
+}
@@ -2,6 +2,8 @@ package com.mycompany.booknova.service;
 
 import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.repository.BatchResult;
+import com.mycompany.booknova.repository.RowCallback;
 import java.util.List;
 
 /**
@@ -34,6 +36,28 @@ public interface BookService {
      */
     Book updateBook(Book book) throws BookNotFoundException, DatabaseException;
     
+    /**
+     * Creates many books at once, e.g. when loading an acquisition list.
+     * Books with an ISBN that already exists are reported as row errors.
+     * 
+     * @param books the books to create
+     * @return the created books and the rows that were rejected
+     * @throws IllegalArgumentException if any book fails validation
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Book> createBooks(List<Book> books) throws DatabaseException;
+    
+    /**
+     * Updates many books at once.
+     * Books that no longer exist are reported as row errors.
+     * 
+     * @param books the books to update
+     * @return the updated books and the rows that were rejected
+     * @throws IllegalArgumentException if any book fails validation
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Book> updateBooks(List<Book> books) throws DatabaseException;
+    
     /**
      * Deletes a book by ID.
      * 
@@ -71,6 +95,27 @@ public interface BookService {
      */
     List<Book> getAllBooks() throws DatabaseException;
     
+    /**
+     * Retrieves one page of books ordered by ID.
+     * 
+     * @param afterId the ID of the last book of the previous page, or null for the first page
+     * @param limit the maximum number of books to return
+     * @return the next page of books
+     * @throws DatabaseException if database error occurs
+     */
+    List<Book> getBooksPage(Long afterId, int limit) throws DatabaseException;
+    
+    /**
+     * Visits all books, ordered by title, one at a time with constant memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each book
+     * @return the number of books visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long streamAllBooks(RowCallback<Book, E> callback) throws DatabaseException, E;
+    
     /**
      * Finds books by category.
      * 
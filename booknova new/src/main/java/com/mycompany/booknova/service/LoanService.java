@@ -1,7 +1,10 @@
 package com.mycompany.booknova.service;
 
 import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.LoanReportRow;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.repository.LoanCriteria;
+import com.mycompany.booknova.repository.RowCallback;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
@@ -67,6 +70,27 @@ public interface LoanService {
      */
     List<Loan> getAllLoans() throws DatabaseException;
     
+    /**
+     * Retrieves one page of loans ordered by ID.
+     * 
+     * @param afterId the ID of the last loan of the previous page, or null for the first page
+     * @param limit the maximum number of loans to return
+     * @return the next page of loans
+     * @throws DatabaseException if database error occurs
+     */
+    List<Loan> getLoansPage(Long afterId, int limit) throws DatabaseException;
+    
+    /**
+     * Visits all loans, newest first, one at a time with constant memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each loan
+     * @return the number of loans visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long streamAllLoans(RowCallback<Loan, E> callback) throws DatabaseException, E;
+    
     /**
      * Gets all active loans for a specific member.
      * 
@@ -84,6 +108,53 @@ public interface LoanService {
      */
     List<Loan> getOverdueLoans() throws DatabaseException;
     
+    /**
+     * Visits overdue loans one at a time with constant memory.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param callback receives each loan
+     * @return the number of loans visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long streamOverdueLoans(RowCallback<Loan, E> callback) throws DatabaseException, E;
+    
+    /**
+     * Finds loans by status, loan date range, member and book.
+     * 
+     * @param criteria the filter; an empty criteria returns all loans
+     * @return matching loans, newest first
+     * @throws DatabaseException if database error occurs
+     */
+    List<Loan> findLoans(LoanCriteria criteria) throws DatabaseException;
+    
+    /**
+     * Streams the loans matching the criteria to the callback, newest first.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param criteria the filter; an empty criteria streams all loans
+     * @param callback receives each loan
+     * @return the number of loans visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long streamLoans(LoanCriteria criteria, RowCallback<Loan, E> callback)
+            throws DatabaseException, E;
+    
+    /**
+     * Streams flat report rows for the loans matching the criteria, in loan
+     * ID order, with the days overdue computed by the database.
+     * 
+     * @param <E> the exception type thrown by the callback
+     * @param criteria the filter; an empty criteria streams all loans
+     * @param callback receives each row
+     * @return the number of rows visited
+     * @throws DatabaseException if database error occurs
+     * @throws E if the callback fails
+     */
+    <E extends Exception> long streamLoanReportRows(LoanCriteria criteria, RowCallback<LoanReportRow, E> callback)
+            throws DatabaseException, E;
+    
     /**
      * Gets loans within a date range.
      * 
@@ -2,6 +2,7 @@ package com.mycompany.booknova.service;
 
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.repository.BatchResult;
 import java.util.List;
 
 /**
@@ -33,6 +34,28 @@ public interface MemberService {
      */
     Member updateMember(Member member) throws MemberNotFoundException, DatabaseException;
     
+    /**
+     * Registers many members at once.
+     * Applies the same defaults as {@link #registerMember(Member)}.
+     * 
+     * @param members the members to register
+     * @return the registered members and the rows that were rejected
+     * @throws IllegalArgumentException if any member fails validation
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Member> registerMembers(List<Member> members) throws DatabaseException;
+    
+    /**
+     * Updates many members at once.
+     * Members that no longer exist are reported as row errors.
+     * 
+     * @param members the members to update
+     * @return the updated members and the rows that were rejected
+     * @throws IllegalArgumentException if any member fails validation
+     * @throws DatabaseException if database error occurs
+     */
+    BatchResult<Member> updateMembers(List<Member> members) throws DatabaseException;
+    
     /**
      * Deletes a member by ID.
      * 
@@ -70,6 +93,16 @@ public interface MemberService {
      */
     List<Member> getAllMembers() throws DatabaseException;
     
+    /**
+     * Retrieves one page of members ordered by ID.
+     * 
+     * @param afterId the ID of the last member of the previous page, or null for the first page
+     * @param limit the maximum number of members to return
+     * @return the next page of members
+     * @throws DatabaseException if database error occurs
+     */
+    List<Member> getMembersPage(Long afterId, int limit) throws DatabaseException;
+    
     /**
      * Retrieves all active members.
      * 
@@ -0,0 +1,21 @@
+package com.mycompany.booknova.service;
+
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
+
+/**
+ * Service interface for library statistics.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public interface StatisticsService {
+    
+    /**
+     * Gets the current figures for the dashboard.
+     * 
+     * @return book, member and loan totals
+     * @throws DatabaseException if database error occurs
+     */
+    DashboardStatistics getDashboardStatistics() throws DatabaseException;
+}
@@ -69,6 +69,16 @@ public interface UserService {
      */
     List<User> getAllUsers() throws DatabaseException;
     
+    /**
+     * Retrieves one page of users ordered by ID.
+     * 
+     * @param afterId the ID of the last user of the previous page, or null for the first page
+     * @param limit the maximum number of users to return
+     * @return the next page of users
+     * @throws DatabaseException if database error occurs
+     */
+    List<User> getUsersPage(Long afterId, int limit) throws DatabaseException;
+    
     /**
      * Authenticates a user with username and password.
      * 
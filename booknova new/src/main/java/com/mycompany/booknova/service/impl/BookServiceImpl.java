@@ -2,8 +2,10 @@ package com.mycompany.booknova.service.impl;
 
 import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.repository.BatchResult;
 import com.mycompany.booknova.repository.BookRepository;
-import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.repository.RowCallback;
 import com.mycompany.booknova.service.BookService;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,7 +22,7 @@ public class BookServiceImpl implements BookService {
     private final BookRepository bookRepository;
     
     public BookServiceImpl() {
-        this.bookRepository = new BookRepositoryJdbc();
+        this.bookRepository = RepositoryFactory.getInstance().bookRepository();
     }
     
     @Override
@@ -40,6 +42,18 @@ public class BookServiceImpl implements BookService {
         return bookRepository.update(book);
     }
     
+    @Override
+    public BatchResult<Book> createBooks(List<Book> books) throws DatabaseException {
+        validateBooks(books);
+        return bookRepository.saveAll(books);
+    }
+    
+    @Override
+    public BatchResult<Book> updateBooks(List<Book> books) throws DatabaseException {
+        validateBooks(books);
+        return bookRepository.updateAll(books);
+    }
+    
     @Override
     public void deleteBook(Long id) throws BookNotFoundException, DatabaseException {
         // Verify book exists
@@ -51,7 +65,8 @@ public class BookServiceImpl implements BookService {
     
     @Override
     public Book findBookById(Long id) throws BookNotFoundException, DatabaseException {
-        return bookRepository.findById(id)
+        // Read past the cache: the book is shown for editing or checked for stock
+        return bookRepository.findCurrentById(id)
                 .orElseThrow(() -> new BookNotFoundException(id));
     }
     
@@ -66,6 +81,19 @@ public class BookServiceImpl implements BookService {
         return bookRepository.findAll();
     }
     
+    @Override
+    public List<Book> getBooksPage(Long afterId, int limit) throws DatabaseException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return bookRepository.findPage(afterId, limit);
+    }
+    
+    @Override
+    public <E extends Exception> long streamAllBooks(RowCallback<Book, E> callback) throws DatabaseException, E {
+        return bookRepository.streamAll(callback);
+    }
+    
     @Override
     public List<Book> getBooksByCategory(String category) throws DatabaseException {
         return bookRepository.findByCategory(category);
@@ -89,6 +117,22 @@ public class BookServiceImpl implements BookService {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Validates every book in a batch, naming the first invalid row.
+     * 
+     * @param books the books to validate
+     * @throws IllegalArgumentException if validation fails
+     */
+    private void validateBooks(List<Book> books) {
+        for (int i = 0; i < books.size(); i++) {
+            try {
+                validateBook(books.get(i));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Row " + i + ": " + e.getMessage(), e);
+            }
+        }
+    }
+    
     /**
      * Validates book data.
      * 
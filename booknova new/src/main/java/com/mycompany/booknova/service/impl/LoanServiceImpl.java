@@ -2,25 +2,24 @@ package com.mycompany.booknova.service.impl;
 
 import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.LoanReportRow;
 import com.mycompany.booknova.domain.Loan.LoanStatus;
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.domain.User;
 import com.mycompany.booknova.exceptions.*;
-import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
 import com.mycompany.booknova.repository.BookRepository;
+import com.mycompany.booknova.repository.LoanCriteria;
 import com.mycompany.booknova.repository.LoanRepository;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.repository.RowCallback;
 import com.mycompany.booknova.repository.MemberRepository;
 import com.mycompany.booknova.repository.UserRepository;
-import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
-import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
-import com.mycompany.booknova.repository.jdbc.MemberRepositoryJdbc;
-import com.mycompany.booknova.repository.jdbc.UserRepositoryJdbc;
 import com.mycompany.booknova.service.LoanService;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
-import java.sql.Connection;
-import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Properties;
@@ -38,17 +37,19 @@ public class LoanServiceImpl implements LoanService {
     private final BookRepository bookRepository;
     private final MemberRepository memberRepository;
     private final UserRepository userRepository;
-    private final ConnectionDB connectionDB;
+    private final TransactionManager transactionManager;
+    private final AppLogger appLogger = AppLogger.getInstance();
     
     private int maxLoanDays;
     private BigDecimal penaltyPerDay;
     
     public LoanServiceImpl() {
-        this.loanRepository = new LoanRepositoryJdbc();
-        this.bookRepository = new BookRepositoryJdbc();
-        this.memberRepository = new MemberRepositoryJdbc();
-        this.userRepository = new UserRepositoryJdbc();
-        this.connectionDB = ConnectionDB.getInstance();
+        RepositoryFactory repositories = RepositoryFactory.getInstance();
+        this.loanRepository = repositories.loanRepository();
+        this.bookRepository = repositories.bookRepository();
+        this.memberRepository = repositories.memberRepository();
+        this.userRepository = repositories.userRepository();
+        this.transactionManager = TransactionManager.getInstance();
         
         loadBusinessConfiguration();
     }
@@ -73,7 +74,7 @@ public class LoanServiceImpl implements LoanService {
                 this.maxLoanDays = 15;
                 this.penaltyPerDay = new BigDecimal("1.50");
             }
-            
+        
         } catch (IOException | NumberFormatException e) {
             // Use default values
             this.maxLoanDays = 15;
@@ -87,38 +88,35 @@ public class LoanServiceImpl implements LoanService {
                    InactiveMemberException, BookNotAvailableException, 
                    LoanLimitExceededException, DatabaseException {
         
-        // Validate entities exist
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberNotFoundException(memberId));
-        
-        Book book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new BookNotFoundException(bookId));
-        
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("ID: " + userId));
-        
-        // Business validations
-        if (!member.isActive()) {
-            throw new InactiveMemberException(member.getMemberNumber());
-        }
-        
-        if (!book.isAvailable()) {
-            throw new BookNotAvailableException(book.getIsbn());
-        }
-        
-        // Check loan limit
-        int activeLoans = loanRepository.countActiveLoansByMember(memberId);
-        int maxLoans = member.getMembershipType().getMaxLoans();
-        
-        if (activeLoans >= maxLoans) {
-            throw new LoanLimitExceededException(member.getMemberNumber(), maxLoans);
-        }
-        
-        // Create loan with transaction
-        Connection conn = null;
+        // Validations and writes share one connection and commit together
+        transactionManager.begin();
         try {
-            conn = connectionDB.getConnection();
-            conn.setAutoCommit(false);
+            // Validate entities exist
+            Member member = memberRepository.findById(memberId)
+                    .orElseThrow(() -> new MemberNotFoundException(memberId));
+            
+            Book book = bookRepository.findById(bookId)
+                    .orElseThrow(() -> new BookNotFoundException(bookId));
+            
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UserNotFoundException("ID: " + userId));
+            
+            // Business validations
+            if (!member.isActive()) {
+                throw new InactiveMemberException(member.getMemberNumber());
+            }
+            
+            if (!book.isAvailable()) {
+                throw new BookNotAvailableException(book.getIsbn());
+            }
+            
+            // Check loan limit
+            int activeLoans = loanRepository.countActiveLoansByMember(memberId);
+            int maxLoans = member.getMembershipType().getMaxLoans();
+            
+            if (activeLoans >= maxLoans) {
+                throw new LoanLimitExceededException(member.getMemberNumber(), maxLoans);
+            }
             
             // Create loan
             Loan loan = new Loan();
@@ -130,49 +128,32 @@ public class LoanServiceImpl implements LoanService {
             loan.setStatus(LoanStatus.ACTIVE);
             loan.setPenalty(BigDecimal.ZERO);
             
-            Loan savedLoan = loanRepository.save(loan);
-            
-            // Update book stock
+            // Take a copy atomically; another checkout may have taken the last one
+            if (!bookRepository.decrementAvailableStockIfPositive(book.getId())) {
+                throw new BookNotAvailableException(book.getIsbn());
+            }
             book.setAvailableStock(book.getAvailableStock() - 1);
-            bookRepository.updateAvailableStock(book.getId(), book.getAvailableStock());
             
-            conn.commit();
-            return savedLoan;
+            Loan savedLoan = loanRepository.save(loan);
             
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    throw new DatabaseException("Error rolling back transaction", ex);
-                }
-            }
-            throw new DatabaseException("Error creating loan", e);
+            transactionManager.commit();
+            return savedLoan;
+        
         } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                    conn.close();
-                } catch (SQLException e) {
-                    throw new DatabaseException("Error closing connection", e);
-                }
-            }
+            transactionManager.end();
         }
     }
     
     @Override
     public Loan returnBook(Long loanId) throws LoanNotFoundException, DatabaseException {
-        Loan loan = loanRepository.findById(loanId)
-                .orElseThrow(() -> new LoanNotFoundException(loanId));
-        
-        if (loan.getStatus() != LoanStatus.ACTIVE) {
-            throw new IllegalStateException("Loan is not active");
-        }
-        
-        Connection conn = null;
+        transactionManager.begin();
         try {
-            conn = connectionDB.getConnection();
-            conn.setAutoCommit(false);
+            Loan loan = loanRepository.findById(loanId)
+                    .orElseThrow(() -> new LoanNotFoundException(loanId));
+            
+            if (loan.getStatus() != LoanStatus.ACTIVE) {
+                throw new IllegalStateException("Loan is not active");
+            }
             
             // Set return date
             loan.setActualReturnDate(LocalDate.now());
@@ -186,35 +167,26 @@ public class LoanServiceImpl implements LoanService {
                 loan.setStatus(LoanStatus.RETURNED);
             }
             
-            // Update loan
-            Loan updatedLoan = loanRepository.update(loan);
+            // Close the loan only if it is still active; a concurrent return
+            // of the same loan may have closed it since it was read
+            if (!loanRepository.updateIfActive(loan)) {
+                throw new IllegalStateException("Loan is not active");
+            }
             
-            // Update book stock
+            // Put the copy back in stock
             Book book = loan.getBook();
-            book.setAvailableStock(book.getAvailableStock() + 1);
-            bookRepository.updateAvailableStock(book.getId(), book.getAvailableStock());
-            
-            conn.commit();
-            return updatedLoan;
-            
-        } catch (SQLException e) {
-            if (conn != null) {
-                try {
-                    conn.rollback();
-                } catch (SQLException ex) {
-                    throw new DatabaseException("Error rolling back transaction", ex);
-                }
+            if (bookRepository.incrementAvailableStock(book.getId())) {
+                book.setAvailableStock(book.getAvailableStock() + 1);
+            } else {
+                appLogger.logWarning("LOAN_SERVICE", "Stock of book " + book.getIsbn() +
+                        " was already full when loan " + loanId + " was returned");
             }
-            throw new DatabaseException("Error returning book", e);
+            
+            transactionManager.commit();
+            return loan;
+        
         } finally {
-            if (conn != null) {
-                try {
-                    conn.setAutoCommit(true);
-                    conn.close();
-                } catch (SQLException e) {
-                    throw new DatabaseException("Error closing connection", e);
-                }
-            }
+            transactionManager.end();
         }
     }
     
@@ -229,6 +201,19 @@ public class LoanServiceImpl implements LoanService {
         return loanRepository.findAll();
     }
     
+    @Override
+    public List<Loan> getLoansPage(Long afterId, int limit) throws DatabaseException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return loanRepository.findPage(afterId, limit);
+    }
+    
+    @Override
+    public <E extends Exception> long streamAllLoans(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return loanRepository.streamAll(callback);
+    }
+    
     @Override
     public List<Loan> getActiveLoansByMember(Long memberId) throws DatabaseException {
         return loanRepository.findActiveLoansByMember(memberId);
@@ -239,6 +224,29 @@ public class LoanServiceImpl implements LoanService {
         return loanRepository.findOverdueLoans();
     }
     
+    @Override
+    public <E extends Exception> long streamOverdueLoans(RowCallback<Loan, E> callback) throws DatabaseException, E {
+        return loanRepository.streamOverdueLoans(callback);
+    }
+    
+    @Override
+    public List<Loan> findLoans(LoanCriteria criteria) throws DatabaseException {
+        return loanRepository.findByCriteria(criteria);
+    }
+    
+    @Override
+    public <E extends Exception> long streamLoans(LoanCriteria criteria, RowCallback<Loan, E> callback)
+            throws DatabaseException, E {
+        return loanRepository.streamByCriteria(criteria, callback);
+    }
+    
+    @Override
+    public <E extends Exception> long streamLoanReportRows(LoanCriteria criteria,
+                                                          RowCallback<LoanReportRow, E> callback)
+            throws DatabaseException, E {
+        return loanRepository.streamReportRows(criteria, callback);
+    }
+    
     @Override
     public List<Loan> getLoansByDateRange(LocalDate startDate, LocalDate endDate) throws DatabaseException {
         return loanRepository.findByDateRange(startDate, endDate);
@@ -252,20 +260,28 @@ public class LoanServiceImpl implements LoanService {
     
     @Override
     public Loan renewLoan(Long loanId, int additionalDays) throws LoanNotFoundException, DatabaseException {
-        Loan loan = findLoanById(loanId);
-        
-        if (loan.getStatus() != LoanStatus.ACTIVE) {
-            throw new IllegalStateException("Only active loans can be renewed");
-        }
+        transactionManager.begin();
+        try {
+            Loan loan = findLoanById(loanId);
+            
+            if (loan.getStatus() != LoanStatus.ACTIVE) {
+                throw new IllegalStateException("Only active loans can be renewed");
+            }
+            
+            if (loan.isOverdue()) {
+                throw new IllegalStateException("Overdue loans cannot be renewed");
+            }
+            
+            // Extend expected return date
+            loan.setExpectedReturnDate(loan.getExpectedReturnDate().plusDays(additionalDays));
+            loan.setStatus(LoanStatus.RENEWED);
+            
+            Loan renewedLoan = loanRepository.update(loan);
+            transactionManager.commit();
+            return renewedLoan;
         
-        if (loan.isOverdue()) {
-            throw new IllegalStateException("Overdue loans cannot be renewed");
+        } finally {
+            transactionManager.end();
         }
-        
-        // Extend expected return date
-        loan.setExpectedReturnDate(loan.getExpectedReturnDate().plusDays(additionalDays));
-        loan.setStatus(LoanStatus.RENEWED);
-        
-        return loanRepository.update(loan);
     }
 }
\ No newline at end of file
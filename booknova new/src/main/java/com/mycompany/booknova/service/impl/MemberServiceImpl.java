@@ -2,8 +2,10 @@ package com.mycompany.booknova.service.impl;
 
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BatchResult;
 import com.mycompany.booknova.repository.MemberRepository;
-import com.mycompany.booknova.repository.jdbc.MemberRepositoryJdbc;
+import com.mycompany.booknova.repository.RepositoryFactory;
 import com.mycompany.booknova.service.MemberService;
 import java.time.LocalDate;
 import java.util.List;
@@ -19,30 +21,17 @@ import java.util.UUID;
 public class MemberServiceImpl implements MemberService {
     
     private final MemberRepository memberRepository;
+    private final TransactionManager transactionManager;
     
     public MemberServiceImpl() {
-        this.memberRepository = new MemberRepositoryJdbc();
+        this.memberRepository = RepositoryFactory.getInstance().memberRepository();
+        this.transactionManager = TransactionManager.getInstance();
     }
     
     @Override
     public Member registerMember(Member member) throws DatabaseException {
         validateMember(member);
-        
-        // Generate unique member number
-        if (member.getMemberNumber() == null || member.getMemberNumber().trim().isEmpty()) {
-            member.setMemberNumber(generateMemberNumber());
-        }
-        
-        // Set registration date if not set
-        if (member.getRegistrationDate() == null) {
-            member.setRegistrationDate(LocalDate.now());
-        }
-        
-        // Set active by default
-        if (member.getActive() == null) {
-            member.setActive(true);
-        }
-        
+        applyRegistrationDefaults(member);
         return memberRepository.save(member);
     }
     
@@ -50,20 +39,48 @@ public class MemberServiceImpl implements MemberService {
     public Member updateMember(Member member) throws MemberNotFoundException, DatabaseException {
         validateMember(member);
         
-        // Verify member exists
-        memberRepository.findById(member.getId())
-                .orElseThrow(() -> new MemberNotFoundException(member.getId()));
-        
-        return memberRepository.update(member);
+        transactionManager.begin();
+        try {
+            // Verify member exists
+            memberRepository.findById(member.getId())
+                    .orElseThrow(() -> new MemberNotFoundException(member.getId()));
+            
+            Member updatedMember = memberRepository.update(member);
+            transactionManager.commit();
+            return updatedMember;
+            
+        } finally {
+            transactionManager.end();
+        }
+    }
+    
+    @Override
+    public BatchResult<Member> registerMembers(List<Member> members) throws DatabaseException {
+        validateMembers(members);
+        members.forEach(this::applyRegistrationDefaults);
+        return memberRepository.saveAll(members);
+    }
+    
+    @Override
+    public BatchResult<Member> updateMembers(List<Member> members) throws DatabaseException {
+        validateMembers(members);
+        return memberRepository.updateAll(members);
     }
     
     @Override
     public void deleteMember(Long id) throws MemberNotFoundException, DatabaseException {
-        // Verify member exists
-        memberRepository.findById(id)
-                .orElseThrow(() -> new MemberNotFoundException(id));
-        
-        memberRepository.delete(id);
+        transactionManager.begin();
+        try {
+            // Verify member exists
+            memberRepository.findById(id)
+                    .orElseThrow(() -> new MemberNotFoundException(id));
+            
+            memberRepository.delete(id);
+            transactionManager.commit();
+            
+        } finally {
+            transactionManager.end();
+        }
     }
     
     @Override
@@ -83,6 +100,14 @@ public class MemberServiceImpl implements MemberService {
         return memberRepository.findAll();
     }
     
+    @Override
+    public List<Member> getMembersPage(Long afterId, int limit) throws DatabaseException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return memberRepository.findPage(afterId, limit);
+    }
+    
     @Override
     public List<Member> getActiveMembers() throws DatabaseException {
         return memberRepository.findAllActive();
@@ -90,16 +115,12 @@ public class MemberServiceImpl implements MemberService {
     
     @Override
     public void activateMember(Long memberId) throws MemberNotFoundException, DatabaseException {
-        Member member = findMemberById(memberId);
-        member.setActive(true);
-        memberRepository.update(member);
+        setMemberActive(memberId, true);
     }
     
     @Override
     public void deactivateMember(Long memberId) throws MemberNotFoundException, DatabaseException {
-        Member member = findMemberById(memberId);
-        member.setActive(false);
-        memberRepository.update(member);
+        setMemberActive(memberId, false);
     }
     
     @Override
@@ -108,6 +129,28 @@ public class MemberServiceImpl implements MemberService {
         return member.isActive();
     }
     
+    /**
+     * Loads a member and updates its active flag in a single transaction.
+     * 
+     * @param memberId the member ID
+     * @param active the new active flag
+     * @throws MemberNotFoundException if member not found
+     * @throws DatabaseException if database error occurs
+     */
+    private void setMemberActive(Long memberId, boolean active) 
+            throws MemberNotFoundException, DatabaseException {
+        transactionManager.begin();
+        try {
+            Member member = findMemberById(memberId);
+            member.setActive(active);
+            memberRepository.update(member);
+            transactionManager.commit();
+            
+        } finally {
+            transactionManager.end();
+        }
+    }
+    
     /**
      * Generates a unique member number.
      * Format: MEM-YYYYMMDD-XXXX
@@ -120,6 +163,44 @@ public class MemberServiceImpl implements MemberService {
         return "MEM-" + date + "-" + random;
     }
     
+    /**
+     * Fills in the member number, registration date and active flag if missing.
+     * 
+     * @param member the member being registered
+     */
+    private void applyRegistrationDefaults(Member member) {
+        // Generate unique member number
+        if (member.getMemberNumber() == null || member.getMemberNumber().trim().isEmpty()) {
+            member.setMemberNumber(generateMemberNumber());
+        }
+        
+        // Set registration date if not set
+        if (member.getRegistrationDate() == null) {
+            member.setRegistrationDate(LocalDate.now());
+        }
+        
+        // Set active by default
+        if (member.getActive() == null) {
+            member.setActive(true);
+        }
+    }
+    
+    /**
+     * Validates every member in a batch, naming the first invalid row.
+     * 
+     * @param members the members to validate
+     * @throws IllegalArgumentException if validation fails
+     */
+    private void validateMembers(List<Member> members) {
+        for (int i = 0; i < members.size(); i++) {
+            try {
+                validateMember(members.get(i));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Row " + i + ": " + e.getMessage(), e);
+            }
+        }
+    }
+    
     /**
      * Validates member data.
      * 
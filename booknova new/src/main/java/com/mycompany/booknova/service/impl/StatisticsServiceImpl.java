@@ -0,0 +1,27 @@
+package com.mycompany.booknova.service.impl;
+
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.repository.RepositoryFactory;
+import com.mycompany.booknova.repository.StatisticsRepository;
+import com.mycompany.booknova.service.StatisticsService;
+
+/**
+ * Implementation of StatisticsService.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class StatisticsServiceImpl implements StatisticsService {
+    
+    private final StatisticsRepository statisticsRepository;
+    
+    public StatisticsServiceImpl() {
+        this.statisticsRepository = RepositoryFactory.getInstance().statisticsRepository();
+    }
+    
+    @Override
+    public DashboardStatistics getDashboardStatistics() throws DatabaseException {
+        return statisticsRepository.loadDashboardStatistics();
+    }
+}
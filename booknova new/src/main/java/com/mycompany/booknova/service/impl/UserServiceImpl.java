@@ -2,8 +2,8 @@ package com.mycompany.booknova.service.impl;
 
 import com.mycompany.booknova.domain.User;
 import com.mycompany.booknova.exceptions.*;
+import com.mycompany.booknova.repository.RepositoryFactory;
 import com.mycompany.booknova.repository.UserRepository;
-import com.mycompany.booknova.repository.jdbc.UserRepositoryJdbc;
 import com.mycompany.booknova.service.UserService;
 import java.util.List;
 
@@ -19,7 +19,7 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     
     public UserServiceImpl() {
-        this.userRepository = new UserRepositoryJdbc();
+        this.userRepository = RepositoryFactory.getInstance().userRepository();
     }
     
     @Override
@@ -71,6 +71,14 @@ public class UserServiceImpl implements UserService {
         return userRepository.findAll();
     }
     
+    @Override
+    public List<User> getUsersPage(Long afterId, int limit) throws DatabaseException {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than 0");
+        }
+        return userRepository.findPage(afterId, limit);
+    }
+    
     @Override
     public User login(String username, String password) throws InvalidCredentialsException, DatabaseException {
         if (username == null || username.trim().isEmpty()) {
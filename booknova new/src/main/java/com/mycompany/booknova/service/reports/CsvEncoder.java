@@ -0,0 +1,431 @@
+package com.mycompany.booknova.service.reports;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+
+/**
+ * Writes CSV rows as UTF-8 straight into a reusable byte buffer, which is
+ * flushed to a channel (normally a {@link FileChannel}) when full.
+ * 
+ * Text fields are scanned once: they are encoded as they are read and only
+ * re-encoded inside quotes if a comma, quote or line break turns up.
+ * Numbers and dates are written digit by digit, so no intermediate Strings
+ * are created for them.
+ * 
+ * <pre>
+ * try (CsvEncoder csv = CsvEncoder.open(path)) {
+ *     csv.raw("ID,Title\n");
+ *     csv.field(book.getId()).field(book.getTitle()).endRow();
+ * }
+ * </pre>
+ * 
+ * Not thread-safe; use one encoder per file.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class CsvEncoder implements Closeable {
+    
+    /** Default buffer size, also the size of most writes to the channel. */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    
+    private static final byte SEPARATOR = ',';
+    private static final byte QUOTE = '"';
+    private static final byte NEWLINE = '\n';
+    
+    /** Worst-case UTF-8 bytes per char, also covering a doubled quote. */
+    private static final int MAX_BYTES_PER_CHAR = 3;
+    
+    private static final long[] POWERS_OF_TEN = new long[19];
+    
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+    
+    private final WritableByteChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer view;
+    private int count;
+    private boolean rowStarted;
+    private long bytesWritten;
+    
+    /**
+     * Creates an encoder over a channel.
+     * 
+     * @param channel where the encoded bytes are written
+     * @param bufferSize the buffer size in bytes
+     */
+    public CsvEncoder(WritableByteChannel channel, int bufferSize) {
+        if (bufferSize < 64) {
+            throw new IllegalArgumentException("Buffer size must be at least 64 bytes");
+        }
+        this.channel = channel;
+        this.bytes = new byte[bufferSize];
+        this.view = ByteBuffer.wrap(bytes);
+    }
+    
+    /**
+     * Opens a file for writing, replacing any existing content.
+     * 
+     * @param path the file to write
+     * @return an encoder that closes the file when closed
+     * @throws IOException if the file cannot be opened
+     */
+    public static CsvEncoder open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new CsvEncoder(channel, DEFAULT_BUFFER_SIZE);
+    }
+    
+    /**
+     * Writes text as is, without separators or escaping. Used for header lines.
+     * 
+     * @param text the text to write
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder raw(CharSequence text) throws IOException {
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            ensureCapacity(4);
+            i = encodeChar(text, i);
+        }
+        return this;
+    }
+    
+    /**
+     * Writes a text field, quoting it if it contains a comma, quote or line
+     * break. A null value is written as an empty field.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(CharSequence value) throws IOException {
+        separator();
+        if (value == null) {
+            return this;
+        }
+        
+        int length = value.length();
+        long worstCase = (long) length * MAX_BYTES_PER_CHAR + 2;
+        if (worstCase > bytes.length) {
+            writeLargeField(value);
+            return this;
+        }
+        
+        ensureCapacity((int) worstCase);
+        int start = count;
+        for (int i = 0; i < length; ) {
+            if (needsQuoting(value.charAt(i))) {
+                // Rare: discard what was encoded and start over inside quotes
+                count = start;
+                writeQuoted(value);
+                return this;
+            }
+            i = encodeChar(value, i);
+        }
+        return this;
+    }
+    
+    /**
+     * Writes an integer field.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(long value) throws IOException {
+        separator();
+        ensureCapacity(20);
+        writeDigits(value);
+        return this;
+    }
+    
+    /**
+     * Writes an integer field, or an empty field for null.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(Long value) throws IOException {
+        if (value == null) {
+            separator();
+            return this;
+        }
+        return field(value.longValue());
+    }
+    
+    /**
+     * Writes an integer field, or an empty field for null.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(Integer value) throws IOException {
+        if (value == null) {
+            separator();
+            return this;
+        }
+        return field(value.longValue());
+    }
+    
+    /**
+     * Writes a date field as ISO yyyy-MM-dd, or an empty field for null.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(LocalDate value) throws IOException {
+        if (value == null) {
+            separator();
+            return this;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed and extended years use the ISO form with a sign
+            return field(value.toString());
+        }
+        
+        separator();
+        ensureCapacity(10);
+        writePadded(year, 4);
+        bytes[count++] = '-';
+        writePadded(value.getMonthValue(), 2);
+        bytes[count++] = '-';
+        writePadded(value.getDayOfMonth(), 2);
+        return this;
+    }
+    
+    /**
+     * Writes a decimal field in plain notation, or an empty field for null.
+     * 
+     * @param value the field value
+     * @return this encoder
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public CsvEncoder field(BigDecimal value) throws IOException {
+        if (value == null) {
+            separator();
+            return this;
+        }
+        int scale = value.scale();
+        if (scale < 0 || scale > 18 || value.precision() > 18) {
+            return field(value.toPlainString());
+        }
+        
+        separator();
+        ensureCapacity(22);
+        long unscaled = value.unscaledValue().longValue();
+        if (scale == 0) {
+            writeDigits(unscaled);
+            return this;
+        }
+        
+        if (unscaled < 0) {
+            bytes[count++] = '-';
+            unscaled = -unscaled;
+        }
+        long divisor = POWERS_OF_TEN[scale];
+        writeDigits(unscaled / divisor);
+        bytes[count++] = '.';
+        writePadded(unscaled % divisor, scale);
+        return this;
+    }
+    
+    /**
+     * Ends the current row. Stops the export if the writing thread has been
+     * interrupted, so long exports can be cancelled between rows.
+     * 
+     * @throws InterruptedIOException if the thread was interrupted
+     * @throws IOException if the buffer cannot be flushed
+     */
+    public void endRow() throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("CSV export cancelled");
+        }
+        ensureCapacity(1);
+        bytes[count++] = NEWLINE;
+        rowStarted = false;
+    }
+    
+    /**
+     * Gets the number of bytes encoded so far, flushed or not.
+     * 
+     * @return the byte count
+     */
+    public long getBytesWritten() {
+        return bytesWritten + count;
+    }
+    
+    /**
+     * Writes the buffered bytes to the channel.
+     * 
+     * @throws IOException if the channel cannot be written
+     */
+    public void flush() throws IOException {
+        view.clear().limit(count);
+        while (view.hasRemaining()) {
+            channel.write(view);
+        }
+        bytesWritten += count;
+        count = 0;
+    }
+    
+    /**
+     * Flushes the buffer and closes the channel.
+     * 
+     * @throws IOException if the channel cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+    
+    private static boolean needsQuoting(char c) {
+        return c == ',' || c == '"' || c == '\n' || c == '\r';
+    }
+    
+    private void separator() throws IOException {
+        if (rowStarted) {
+            ensureCapacity(1);
+            bytes[count++] = SEPARATOR;
+        }
+        rowStarted = true;
+    }
+    
+    private void ensureCapacity(int needed) throws IOException {
+        if (bytes.length - count < needed) {
+            flush();
+        }
+    }
+    
+    /**
+     * Writes a field that fits in the buffer inside quotes, doubling quotes.
+     */
+    private void writeQuoted(CharSequence value) {
+        bytes[count++] = QUOTE;
+        int length = value.length();
+        for (int i = 0; i < length; ) {
+            if (value.charAt(i) == '"') {
+                bytes[count++] = QUOTE;
+            }
+            i = encodeChar(value, i);
+        }
+        bytes[count++] = QUOTE;
+    }
+    
+    /**
+     * Writes a field too long to encode within one buffer. It is scanned for
+     * special characters first and then encoded in chunks.
+     */
+    private void writeLargeField(CharSequence value) throws IOException {
+        int length = value.length();
+        boolean quoted = false;
+        for (int i = 0; i < length && !quoted; i++) {
+            quoted = needsQuoting(value.charAt(i));
+        }
+        
+        if (quoted) {
+            ensureCapacity(1);
+            bytes[count++] = QUOTE;
+        }
+        for (int i = 0; i < length; ) {
+            ensureCapacity(8);
+            if (quoted && value.charAt(i) == '"') {
+                bytes[count++] = QUOTE;
+            }
+            i = encodeChar(value, i);
+        }
+        if (quoted) {
+            ensureCapacity(1);
+            bytes[count++] = QUOTE;
+        }
+    }
+    
+    /**
+     * Encodes the char at the index as UTF-8, or the code point if it starts a
+     * surrogate pair. Unpaired surrogates become '?', like String.getBytes.
+     * The caller guarantees room for 4 bytes.
+     * 
+     * @return the index of the next char
+     */
+    private int encodeChar(CharSequence text, int index) {
+        char c = text.charAt(index);
+        if (c < 0x80) {
+            bytes[count++] = (byte) c;
+        } else if (c < 0x800) {
+            bytes[count++] = (byte) (0xC0 | (c >> 6));
+            bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        } else if (Character.isHighSurrogate(c) && index + 1 < text.length()
+                && Character.isLowSurrogate(text.charAt(index + 1))) {
+            int codePoint = Character.toCodePoint(c, text.charAt(index + 1));
+            bytes[count++] = (byte) (0xF0 | (codePoint >> 18));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            bytes[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            bytes[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            return index + 2;
+        } else if (Character.isSurrogate(c)) {
+            bytes[count++] = '?';
+        } else {
+            bytes[count++] = (byte) (0xE0 | (c >> 12));
+            bytes[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+            bytes[count++] = (byte) (0x80 | (c & 0x3F));
+        }
+        return index + 1;
+    }
+    
+    /**
+     * Writes a number in decimal. The caller guarantees room for 20 bytes.
+     */
+    private void writeDigits(long value) {
+        if (value == Long.MIN_VALUE) {
+            // Cannot be negated; rare enough to go through a String
+            for (byte b : Long.toString(value).getBytes(StandardCharsets.US_ASCII)) {
+                bytes[count++] = b;
+            }
+            return;
+        }
+        if (value < 0) {
+            bytes[count++] = '-';
+            value = -value;
+        }
+        
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) {
+            digits++;
+        }
+        writePadded(value, digits);
+    }
+    
+    /**
+     * Writes a non-negative number left-padded with zeros to the given width.
+     */
+    private void writePadded(long value, int width) {
+        int end = count + width;
+        for (int i = end - 1; i >= count; i--) {
+            bytes[i] = (byte) ('0' + (value % 10));
+            value /= 10;
+        }
+        count = end;
+    }
+}
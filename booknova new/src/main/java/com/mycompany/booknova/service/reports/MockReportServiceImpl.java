@@ -4,14 +4,16 @@ import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.domain.Loan;
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.infra.logging.AppLogger;
 
-import java.io.FileWriter;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,8 +29,7 @@ public class MockReportServiceImpl implements ReportService {
     
     private final AppLogger logger;
     
-    private static final String CSV_SEPARATOR = ",";
-    private static final String CSV_QUOTE = "\"";
+    private static final BigDecimal NO_PENALTY = new BigDecimal("0.00");
     
     public MockReportServiceImpl() {
         this.logger = AppLogger.getInstance();
@@ -38,26 +39,26 @@ public class MockReportServiceImpl implements ReportService {
     public boolean exportBookCatalogToCsv(String filePath) throws IOException {
         logger.logInfo("MOCK_REPORT_SERVICE", "Starting mock book catalog CSV export to: " + filePath);
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("ID,ISBN,Title,Author,Publisher,Publication Year,Category,Total Stock,Available Stock,Status\n");
+            csv.raw("ID,ISBN,Title,Author,Publisher,Publication Year,Category,Total Stock,Available Stock,Status\n");
             
             // Get mock books
             List<Book> books = getMockBooks();
             
             // Write book data
             for (Book book : books) {
-                writer.append(String.valueOf(book.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getIsbn())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getAuthor())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getPublisher())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getPublicationYear())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getCategory())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getTotalStock())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getAvailableStock())).append(CSV_SEPARATOR);
-                writer.append(book.isAvailable() ? "Available" : "Out of Stock");
-                writer.append("\n");
+                csv.field(book.getId());
+                csv.field(book.getIsbn());
+                csv.field(book.getTitle());
+                csv.field(book.getAuthor());
+                csv.field(book.getPublisher());
+                csv.field(book.getPublicationYear());
+                csv.field(book.getCategory());
+                csv.field(book.getTotalStock());
+                csv.field(book.getAvailableStock());
+                csv.field(book.isAvailable() ? "Available" : "Out of Stock");
+                csv.endRow();
             }
             
             logger.logSuccess("MOCK_REPORT_SERVICE", 
@@ -75,9 +76,9 @@ public class MockReportServiceImpl implements ReportService {
     public boolean exportOverdueLoansToCSv(String filePath) throws IOException {
         logger.logInfo("MOCK_REPORT_SERVICE", "Starting mock overdue loans CSV export to: " + filePath);
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Days Overdue,Penalty Amount\n");
+            csv.raw("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Days Overdue,Penalty Amount\n");
             
             // Get mock loans and filter overdue ones
             List<Loan> overdueLoans = getMockLoans().stream()
@@ -86,16 +87,16 @@ public class MockReportServiceImpl implements ReportService {
             
             // Write overdue loan data
             for (Loan loan : overdueLoans) {
-                writer.append(String.valueOf(loan.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getFullName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getIsbn())).append(CSV_SEPARATOR);
-                writer.append(loan.getLoanDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getExpectedReturnDate().toString()).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(loan.getOverdueDays())).append(CSV_SEPARATOR);
-                writer.append(loan.getPenalty() != null ? loan.getPenalty().toString() : "0.00");
-                writer.append("\n");
+                csv.field(loan.getId());
+                csv.field(loan.getMember().getFullName());
+                csv.field(loan.getMember().getMemberNumber());
+                csv.field(loan.getBook().getTitle());
+                csv.field(loan.getBook().getIsbn());
+                csv.field(loan.getLoanDate());
+                csv.field(loan.getExpectedReturnDate());
+                csv.field(loan.getOverdueDays());
+                csv.field(loan.getPenalty() != null ? loan.getPenalty() : NO_PENALTY);
+                csv.endRow();
             }
             
             logger.logSuccess("MOCK_REPORT_SERVICE", 
@@ -113,9 +114,9 @@ public class MockReportServiceImpl implements ReportService {
     public boolean exportActiveLoansToCSv(String filePath) throws IOException {
         logger.logInfo("MOCK_REPORT_SERVICE", "Starting mock active loans CSV export to: " + filePath);
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Status,Days Until Due,Penalty Amount\n");
+            csv.raw("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Status,Days Until Due,Penalty Amount\n");
             
             // Get mock active loans
             List<Loan> activeLoans = getMockLoans().stream()
@@ -124,22 +125,22 @@ public class MockReportServiceImpl implements ReportService {
             
             // Write active loan data
             for (Loan loan : activeLoans) {
-                writer.append(String.valueOf(loan.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getFullName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getIsbn())).append(CSV_SEPARATOR);
-                writer.append(loan.getLoanDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getExpectedReturnDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getStatus().toString()).append(CSV_SEPARATOR);
+                csv.field(loan.getId());
+                csv.field(loan.getMember().getFullName());
+                csv.field(loan.getMember().getMemberNumber());
+                csv.field(loan.getBook().getTitle());
+                csv.field(loan.getBook().getIsbn());
+                csv.field(loan.getLoanDate());
+                csv.field(loan.getExpectedReturnDate());
+                csv.field(loan.getStatus().toString());
                 
                 // Calculate days until due
                 long daysUntilDue = loan.isOverdue() ? -loan.getOverdueDays() : 
-                    java.time.temporal.ChronoUnit.DAYS.between(java.time.LocalDate.now(), loan.getExpectedReturnDate());
-                writer.append(String.valueOf(daysUntilDue)).append(CSV_SEPARATOR);
+                    ChronoUnit.DAYS.between(LocalDate.now(), loan.getExpectedReturnDate());
+                csv.field(daysUntilDue);
                 
-                writer.append(loan.getPenalty() != null ? loan.getPenalty().toString() : "0.00");
-                writer.append("\n");
+                csv.field(loan.getPenalty() != null ? loan.getPenalty() : NO_PENALTY);
+                csv.endRow();
             }
             
             logger.logSuccess("MOCK_REPORT_SERVICE", 
@@ -157,28 +158,28 @@ public class MockReportServiceImpl implements ReportService {
     public boolean exportMembersToCSv(String filePath) throws IOException {
         logger.logInfo("MOCK_REPORT_SERVICE", "Starting mock members CSV export to: " + filePath);
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("ID,Member Number,First Name,Last Name,Document ID,Email,Phone,Address,Registration Date,Active,Membership Type,Max Loans\n");
+            csv.raw("ID,Member Number,First Name,Last Name,Document ID,Email,Phone,Address,Registration Date,Active,Membership Type,Max Loans\n");
             
             // Get mock members
             List<Member> members = getMockMembers();
             
             // Write member data
             for (Member member : members) {
-                writer.append(String.valueOf(member.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getFirstName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getLastName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getDocumentId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getEmail())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getPhone())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getAddress())).append(CSV_SEPARATOR);
-                writer.append(member.getRegistrationDate() != null ? member.getRegistrationDate().toString() : "").append(CSV_SEPARATOR);
-                writer.append(member.getActive() ? "Active" : "Inactive").append(CSV_SEPARATOR);
-                writer.append(member.getMembershipType() != null ? member.getMembershipType().toString() : "").append(CSV_SEPARATOR);
-                writer.append(member.getMembershipType() != null ? String.valueOf(member.getMembershipType().getMaxLoans()) : "0");
-                writer.append("\n");
+                csv.field(member.getId());
+                csv.field(member.getMemberNumber());
+                csv.field(member.getFirstName());
+                csv.field(member.getLastName());
+                csv.field(member.getDocumentId());
+                csv.field(member.getEmail());
+                csv.field(member.getPhone());
+                csv.field(member.getAddress());
+                csv.field(member.getRegistrationDate());
+                csv.field(member.getActive() ? "Active" : "Inactive");
+                csv.field(member.getMembershipType() != null ? member.getMembershipType().toString() : "");
+                csv.field(member.getMembershipType() != null ? member.getMembershipType().getMaxLoans() : 0);
+                csv.endRow();
             }
             
             logger.logSuccess("MOCK_REPORT_SERVICE", 
@@ -288,19 +289,10 @@ public class MockReportServiceImpl implements ReportService {
         return user;
     }
     
-    /**
-     * Escapes CSV field content to handle commas, quotes, and newlines.
-     */
-    private String escapeCsvField(String field) {
-        if (field == null) {
-            return "";
-        }
-        
-        if (field.contains(CSV_SEPARATOR) || field.contains(CSV_QUOTE) || field.contains("\n") || field.contains("\r")) {
-            return CSV_QUOTE + field.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
-        }
-        
-        return field;
+    @Override
+    public List<Path> exportReportBundle(Path directory, boolean zip, ReportProgressListener listener)
+            throws IOException, DatabaseException, InterruptedException {
+        return new ReportBundleExporter(this).export(directory, zip, listener);
     }
     
     /**
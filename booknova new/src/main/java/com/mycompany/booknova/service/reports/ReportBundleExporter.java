@@ -0,0 +1,252 @@
+package com.mycompany.booknova.service.reports;
+
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the book catalog, overdue loans, active loans and members reports
+ * at the same time, each on its own thread and therefore on its own pooled
+ * connection, and optionally packs them into a single zip file.
+ * 
+ * The export can be cancelled by interrupting the calling thread: the
+ * running reports are interrupted and stop at the next row, and once they
+ * have stopped (releasing their connections) every file of the bundle is
+ * deleted.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class ReportBundleExporter {
+    
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+    private static final long ABORT_TIMEOUT_SECONDS = 30;
+    
+    private final ReportService reportService;
+    private final AppLogger logger = AppLogger.getInstance();
+    
+    public ReportBundleExporter(ReportService reportService) {
+        this.reportService = reportService;
+    }
+    
+    /**
+     * Exports all reports into a directory.
+     * 
+     * @param directory where the files are written
+     * @param zip true to pack the reports into one zip file
+     * @param listener notified as each report finishes, may be null
+     * @return the files written: the four CSV files, or the zip file
+     * @throws IOException if a file cannot be written
+     * @throws DatabaseException if a report cannot be read
+     * @throws InterruptedException if the export was cancelled
+     */
+    public List<Path> export(Path directory, boolean zip, ReportProgressListener listener)
+            throws IOException, DatabaseException, InterruptedException {
+        String timestamp = LocalDateTime.now().format(TIMESTAMP_FORMATTER);
+        List<ReportJob> jobs = List.of(
+            new ReportJob("Book catalog", directory.resolve("book_catalog_" + timestamp + ".csv"),
+                          reportService::exportBookCatalogToCsv),
+            new ReportJob("Overdue loans", directory.resolve("overdue_loans_" + timestamp + ".csv"),
+                          reportService::exportOverdueLoansToCSv),
+            new ReportJob("Active loans", directory.resolve("active_loans_" + timestamp + ".csv"),
+                          reportService::exportActiveLoansToCSv),
+            new ReportJob("Members list", directory.resolve("members_list_" + timestamp + ".csv"),
+                          reportService::exportMembersToCSv));
+        
+        logger.logInfo("REPORT_BUNDLE", "Starting export of " + jobs.size() + " reports to: " + directory.toAbsolutePath());
+        long start = System.currentTimeMillis();
+        List<Path> files = new ArrayList<>();
+        for (ReportJob job : jobs) {
+            files.add(job.file);
+        }
+        
+        AtomicBoolean aborted = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(jobs.size(), threadFactory());
+        CompletionService<ReportJob> completion = new ExecutorCompletionService<>(executor);
+        List<Future<ReportJob>> futures = new ArrayList<>();
+        boolean finished = false;
+        
+        try {
+            for (ReportJob job : jobs) {
+                futures.add(completion.submit(() -> runJob(job, aborted)));
+            }
+            for (int completed = 1; completed <= jobs.size(); completed++) {
+                ReportJob job = completion.take().get();
+                logger.logInfo("REPORT_BUNDLE", job.name + " report finished (" + completed + "/" + jobs.size() + ")");
+                if (listener != null) {
+                    listener.reportCompleted(job.name, completed, jobs.size());
+                }
+            }
+            finished = true;
+        
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } finally {
+            if (!finished) {
+                aborted.set(true);
+                for (Future<ReportJob> future : futures) {
+                    future.cancel(true);
+                }
+                executor.shutdownNow();
+                awaitWorkers(executor);
+                deleteQuietly(files);
+                logger.logWarning("REPORT_BUNDLE", "Report export aborted; partial files deleted");
+            }
+            executor.shutdown();
+        }
+        
+        if (zip) {
+            Path zipFile = directory.resolve("libronova_reports_" + timestamp + ".zip");
+            try {
+                writeZip(zipFile, files);
+            } finally {
+                deleteQuietly(files);
+            }
+            files = List.of(zipFile);
+        }
+        
+        logger.logSuccess("REPORT_BUNDLE", String.format("Exported %d reports in %d ms: %s",
+                jobs.size(), System.currentTimeMillis() - start, files));
+        return files;
+    }
+    
+    /**
+     * Runs one report, removing its file if it fails or the bundle was aborted
+     * while it ran.
+     */
+    private ReportJob runJob(ReportJob job, AtomicBoolean aborted) throws Exception {
+        try {
+            if (!job.export.export(job.file.toString())) {
+                throw new IOException(job.name + " report could not be exported");
+            }
+        } catch (Exception e) {
+            Files.deleteIfExists(job.file);
+            throw e;
+        }
+        if (aborted.get()) {
+            Files.deleteIfExists(job.file);
+        }
+        return job;
+    }
+    
+    /**
+     * Waits for the interrupted reports to stop, so none of them can still
+     * write its file after it is deleted. The wait itself is not cut short by
+     * a further interrupt, which is restored afterwards.
+     */
+    private void awaitWorkers(ExecutorService executor) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(ABORT_TIMEOUT_SECONDS);
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    if (!executor.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                        logger.logWarning("REPORT_BUNDLE", "Reports still running " + ABORT_TIMEOUT_SECONDS
+                                + " s after the export was aborted");
+                    }
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    private void writeZip(Path zipFile, List<Path> files) throws IOException {
+        try (OutputStream output = Files.newOutputStream(zipFile);
+             ZipOutputStream zipOutput = new ZipOutputStream(output)) {
+            for (Path file : files) {
+                zipOutput.putNextEntry(new ZipEntry(file.getFileName().toString()));
+                Files.copy(file, zipOutput);
+                zipOutput.closeEntry();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(zipFile);
+            throw e;
+        }
+    }
+    
+    private void deleteQuietly(List<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.logWarning("REPORT_BUNDLE", "Could not delete " + file + ": " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Rethrows the failure of a report as the exception it was thrown with.
+     */
+    private static IOException rethrow(Throwable cause) throws DatabaseException {
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof DatabaseException) {
+            throw (DatabaseException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IOException("Report export failed", cause);
+    }
+    
+    private static ThreadFactory threadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "libronova-report-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+    
+    /**
+     * Exports one report to a file.
+     */
+    @FunctionalInterface
+    private interface ReportExport {
+        boolean export(String filePath) throws IOException, DatabaseException;
+    }
+    
+    /**
+     * One report of the bundle.
+     */
+    private static final class ReportJob {
+        private final String name;
+        private final Path file;
+        private final ReportExport export;
+        
+        private ReportJob(String name, Path file, ReportExport export) {
+            this.name = name;
+            this.file = file;
+            this.export = export;
+        }
+    }
+}
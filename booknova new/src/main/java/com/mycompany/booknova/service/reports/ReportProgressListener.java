@@ -0,0 +1,21 @@
+package com.mycompany.booknova.service.reports;
+
+/**
+ * Receives progress of a report bundle export.
+ * Called on the thread running the export, not the JavaFX Application Thread.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ReportProgressListener {
+    
+    /**
+     * Called each time one report of the bundle has been written.
+     * 
+     * @param reportName the name of the finished report, e.g. "Book catalog"
+     * @param completed how many reports are finished so far
+     * @param total how many reports the bundle has
+     */
+    void reportCompleted(String reportName, int completed, int total);
+}
@@ -2,6 +2,8 @@ package com.mycompany.booknova.service.reports;
 
 import com.mycompany.booknova.exceptions.DatabaseException;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 
 /**
  * Service interface for generating and exporting reports.
@@ -51,4 +53,20 @@ public interface ReportService {
      * @throws DatabaseException if database error occurs
      */
     boolean exportMembersToCSv(String filePath) throws IOException, DatabaseException;
+    
+    /**
+     * Exports the book catalog, overdue loans, active loans and members
+     * reports concurrently, each on its own pooled connection.
+     * Interrupting the calling thread cancels the export and deletes its files.
+     * 
+     * @param directory the directory where the files will be saved
+     * @param zip true to pack the four CSV files into a single zip file
+     * @param listener notified as each report finishes, may be null
+     * @return the files written
+     * @throws IOException if file writing fails
+     * @throws DatabaseException if database error occurs
+     * @throws InterruptedException if the export was cancelled
+     */
+    List<Path> exportReportBundle(Path directory, boolean zip, ReportProgressListener listener)
+            throws IOException, DatabaseException, InterruptedException;
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package com.mycompany.booknova.service.reports;
 
-import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.domain.Loan;
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.repository.LoanCriteria;
 import com.mycompany.booknova.service.BookService;
 import com.mycompany.booknova.service.LoanService;
 import com.mycompany.booknova.service.MemberService;
@@ -12,12 +12,12 @@ import com.mycompany.booknova.service.impl.BookServiceImpl;
 import com.mycompany.booknova.service.impl.LoanServiceImpl;
 import com.mycompany.booknova.service.impl.MemberServiceImpl;
 
-import java.io.FileWriter;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Implementation of ReportService for CSV export functionality.
@@ -33,8 +33,7 @@ public class ReportServiceImpl implements ReportService {
     private final MemberService memberService;
     private final AppLogger logger;
     
-    private static final String CSV_SEPARATOR = ",";
-    private static final String CSV_QUOTE = "\"";
+    private static final BigDecimal NO_PENALTY = new BigDecimal("0.00");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     public ReportServiceImpl() {
@@ -47,180 +46,168 @@ public class ReportServiceImpl implements ReportService {
     @Override
     public boolean exportBookCatalogToCsv(String filePath) throws IOException, DatabaseException {
         logger.logInfo("REPORT_SERVICE", "Starting book catalog CSV export to: " + filePath);
+        long startNanos = System.nanoTime();
+        long exported;
+        long bytes;
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("ID,ISBN,Title,Author,Publisher,Publication Year,Category,Total Stock,Available Stock,Status\n");
-            
-            // Get all books
-            List<Book> books = bookService.getAllBooks();
-            
-            // Write book data
-            for (Book book : books) {
-                writer.append(String.valueOf(book.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getIsbn())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getAuthor())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getPublisher())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getPublicationYear())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(book.getCategory())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getTotalStock())).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(book.getAvailableStock())).append(CSV_SEPARATOR);
-                writer.append(book.isAvailable() ? "Available" : "Out of Stock");
-                writer.append("\n");
-            }
-            
-            logger.logSuccess("REPORT_SERVICE", 
-                String.format("Book catalog exported successfully. %d books exported to %s", 
-                            books.size(), filePath));
-            return true;
+            csv.raw("ID,ISBN,Title,Author,Publisher,Publication Year,Category,Total Stock,Available Stock,Status\n");
+            
+            // Stream book data straight from the database, one buffered write per row
+            exported = bookService.streamAllBooks(book -> {
+                csv.field(book.getId());
+                csv.field(book.getIsbn());
+                csv.field(book.getTitle());
+                csv.field(book.getAuthor());
+                csv.field(book.getPublisher());
+                csv.field(book.getPublicationYear());
+                csv.field(book.getCategory());
+                csv.field(book.getTotalStock());
+                csv.field(book.getAvailableStock());
+                csv.field(book.isAvailable() ? "Available" : "Out of Stock");
+                csv.endRow();
+            });
+            bytes = csv.getBytesWritten();
             
         } catch (Exception e) {
             logger.logError("REPORT_SERVICE", "Failed to export book catalog: " + e.getMessage(), e);
             throw e;
         }
+        
+        logExportCompleted("Book catalog", exported, bytes, startNanos, filePath);
+        return true;
     }
     
     @Override
     public boolean exportOverdueLoansToCSv(String filePath) throws IOException, DatabaseException {
         logger.logInfo("REPORT_SERVICE", "Starting overdue loans CSV export to: " + filePath);
+        long startNanos = System.nanoTime();
+        long exported;
+        long bytes;
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Days Overdue,Penalty Amount\n");
-            
-            // Get all loans and filter overdue ones
-            List<Loan> allLoans = loanService.getAllLoans();
-            List<Loan> overdueLoans = allLoans.stream()
-                .filter(Loan::isOverdue)
-                .collect(Collectors.toList());
-            
-            // Write overdue loan data
-            for (Loan loan : overdueLoans) {
-                writer.append(String.valueOf(loan.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getFullName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getIsbn())).append(CSV_SEPARATOR);
-                writer.append(loan.getLoanDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getExpectedReturnDate().toString()).append(CSV_SEPARATOR);
-                writer.append(String.valueOf(loan.getOverdueDays())).append(CSV_SEPARATOR);
-                writer.append(loan.getPenalty() != null ? loan.getPenalty().toString() : "0.00");
-                writer.append("\n");
-            }
-            
-            logger.logSuccess("REPORT_SERVICE", 
-                String.format("Overdue loans exported successfully. %d overdue loans exported to %s", 
-                            overdueLoans.size(), filePath));
-            return true;
+            csv.raw("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Days Overdue,Penalty Amount\n");
+            
+            // Overdue filter and days overdue are computed by the database
+            exported = loanService.streamLoanReportRows(new LoanCriteria().withOverdueOnly(), row -> {
+                csv.field(row.getLoanId());
+                csv.field(row.getMemberName());
+                csv.field(row.getMemberNumber());
+                csv.field(row.getBookTitle());
+                csv.field(row.getIsbn());
+                csv.field(row.getLoanDate());
+                csv.field(row.getExpectedReturnDate());
+                csv.field(row.getDaysOverdue());
+                csv.field(row.getPenalty() != null ? row.getPenalty() : NO_PENALTY);
+                csv.endRow();
+            });
+            bytes = csv.getBytesWritten();
             
         } catch (Exception e) {
             logger.logError("REPORT_SERVICE", "Failed to export overdue loans: " + e.getMessage(), e);
             throw e;
         }
+        
+        logExportCompleted("Overdue loans", exported, bytes, startNanos, filePath);
+        return true;
     }
     
     @Override
     public boolean exportActiveLoansToCSv(String filePath) throws IOException, DatabaseException {
         logger.logInfo("REPORT_SERVICE", "Starting active loans CSV export to: " + filePath);
+        long startNanos = System.nanoTime();
+        long exported;
+        long bytes;
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Status,Days Until Due,Penalty Amount\n");
-            
-            // Get all loans and filter active ones
-            List<Loan> allLoans = loanService.getAllLoans();
-            List<Loan> activeLoans = allLoans.stream()
-                .filter(loan -> loan.getStatus() == Loan.LoanStatus.ACTIVE || loan.getStatus() == Loan.LoanStatus.OVERDUE)
-                .collect(Collectors.toList());
-            
-            // Write active loan data
-            for (Loan loan : activeLoans) {
-                writer.append(String.valueOf(loan.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getFullName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getMember().getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getTitle())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(loan.getBook().getIsbn())).append(CSV_SEPARATOR);
-                writer.append(loan.getLoanDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getExpectedReturnDate().toString()).append(CSV_SEPARATOR);
-                writer.append(loan.getStatus().toString()).append(CSV_SEPARATOR);
-                
-                // Calculate days until due (negative if overdue)
-                long daysUntilDue = loan.isOverdue() ? -loan.getOverdueDays() : 
-                    java.time.temporal.ChronoUnit.DAYS.between(java.time.LocalDate.now(), loan.getExpectedReturnDate());
-                writer.append(String.valueOf(daysUntilDue)).append(CSV_SEPARATOR);
-                
-                writer.append(loan.getPenalty() != null ? loan.getPenalty().toString() : "0.00");
-                writer.append("\n");
-            }
-            
-            logger.logSuccess("REPORT_SERVICE", 
-                String.format("Active loans exported successfully. %d active loans exported to %s", 
-                            activeLoans.size(), filePath));
-            return true;
+            csv.raw("Loan ID,Member Name,Member Number,Book Title,ISBN,Loan Date,Expected Return Date,Status,Days Until Due,Penalty Amount\n");
+            
+            // Only active and overdue loans are read from the database
+            LoanCriteria activeLoans = new LoanCriteria()
+                    .withStatuses(Loan.LoanStatus.ACTIVE, Loan.LoanStatus.OVERDUE);
+            exported = loanService.streamLoanReportRows(activeLoans, row -> {
+                csv.field(row.getLoanId());
+                csv.field(row.getMemberName());
+                csv.field(row.getMemberNumber());
+                csv.field(row.getBookTitle());
+                csv.field(row.getIsbn());
+                csv.field(row.getLoanDate());
+                csv.field(row.getExpectedReturnDate());
+                csv.field(row.getStatus().toString());
+                // Days until due, negative if overdue
+                csv.field(-row.getDaysOverdue());
+                csv.field(row.getPenalty() != null ? row.getPenalty() : NO_PENALTY);
+                csv.endRow();
+            });
+            bytes = csv.getBytesWritten();
             
         } catch (Exception e) {
             logger.logError("REPORT_SERVICE", "Failed to export active loans: " + e.getMessage(), e);
             throw e;
         }
+        
+        logExportCompleted("Active loans", exported, bytes, startNanos, filePath);
+        return true;
     }
     
     @Override
     public boolean exportMembersToCSv(String filePath) throws IOException, DatabaseException {
         logger.logInfo("REPORT_SERVICE", "Starting members CSV export to: " + filePath);
+        long startNanos = System.nanoTime();
+        List<Member> members;
+        long bytes;
         
-        try (FileWriter writer = new FileWriter(filePath)) {
+        try (CsvEncoder csv = CsvEncoder.open(Path.of(filePath))) {
             // Write CSV header
-            writer.append("ID,Member Number,First Name,Last Name,Document ID,Email,Phone,Address,Registration Date,Active,Membership Type,Max Loans\n");
+            csv.raw("ID,Member Number,First Name,Last Name,Document ID,Email,Phone,Address,Registration Date,Active,Membership Type,Max Loans\n");
             
             // Get all members
-            List<Member> members = memberService.getAllMembers();
+            members = memberService.getAllMembers();
             
             // Write member data
             for (Member member : members) {
-                writer.append(String.valueOf(member.getId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getMemberNumber())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getFirstName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getLastName())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getDocumentId())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getEmail())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getPhone())).append(CSV_SEPARATOR);
-                writer.append(escapeCsvField(member.getAddress())).append(CSV_SEPARATOR);
-                writer.append(member.getRegistrationDate() != null ? member.getRegistrationDate().toString() : "").append(CSV_SEPARATOR);
-                writer.append(member.getActive() ? "Active" : "Inactive").append(CSV_SEPARATOR);
-                writer.append(member.getMembershipType() != null ? member.getMembershipType().toString() : "").append(CSV_SEPARATOR);
-                writer.append(member.getMembershipType() != null ? String.valueOf(member.getMembershipType().getMaxLoans()) : "0");
-                writer.append("\n");
+                csv.field(member.getId());
+                csv.field(member.getMemberNumber());
+                csv.field(member.getFirstName());
+                csv.field(member.getLastName());
+                csv.field(member.getDocumentId());
+                csv.field(member.getEmail());
+                csv.field(member.getPhone());
+                csv.field(member.getAddress());
+                csv.field(member.getRegistrationDate());
+                csv.field(member.getActive() ? "Active" : "Inactive");
+                csv.field(member.getMembershipType() != null ? member.getMembershipType().toString() : "");
+                csv.field(member.getMembershipType() != null ? member.getMembershipType().getMaxLoans() : 0);
+                csv.endRow();
             }
-            
-            logger.logSuccess("REPORT_SERVICE", 
-                String.format("Members exported successfully. %d members exported to %s", 
-                            members.size(), filePath));
-            return true;
+            bytes = csv.getBytesWritten();
             
         } catch (Exception e) {
             logger.logError("REPORT_SERVICE", "Failed to export members: " + e.getMessage(), e);
             throw e;
         }
+        
+        logExportCompleted("Members", members.size(), bytes, startNanos, filePath);
+        return true;
     }
     
     /**
-     * Escapes CSV field content to handle commas, quotes, and newlines.
-     * 
-     * @param field the field content to escape
-     * @return the escaped field content
+     * Logs the row count, file size and throughput of a finished export.
      */
-    private String escapeCsvField(String field) {
-        if (field == null) {
-            return "";
-        }
-        
-        // If field contains comma, quote, or newline, wrap in quotes and escape existing quotes
-        if (field.contains(CSV_SEPARATOR) || field.contains(CSV_QUOTE) || field.contains("\n") || field.contains("\r")) {
-            return CSV_QUOTE + field.replace(CSV_QUOTE, CSV_QUOTE + CSV_QUOTE) + CSV_QUOTE;
-        }
-        
-        return field;
+    private void logExportCompleted(String report, long rows, long bytes, long startNanos, String filePath) {
+        double seconds = Math.max(System.nanoTime() - startNanos, 1L) / 1_000_000_000.0;
+        logger.logSuccess("REPORT_SERVICE", String.format(
+                "%s exported successfully. %d rows, %d bytes written to %s in %.2f s (%.0f rows/s, %.1f MB/s)",
+                report, rows, bytes, filePath, seconds, rows / seconds, bytes / seconds / (1024 * 1024)));
+    }
+    
+    @Override
+    public List<Path> exportReportBundle(Path directory, boolean zip, ReportProgressListener listener)
+            throws IOException, DatabaseException, InterruptedException {
+        return new ReportBundleExporter(this).export(directory, zip, listener);
     }
     
     /**
@@ -0,0 +1,183 @@
+package com.mycompany.booknova.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+
+/**
+ * Runs service calls for a view on a dedicated background executor and
+ * hands the results back on the JavaFX Application Thread.
+ * 
+ * Loads are grouped in named channels: starting a load cancels the previous
+ * load of the same channel, so a slow query can never overwrite the result of
+ * a newer one. Cancelled loads are not interrupted (that could leave a pooled
+ * connection mid-query); their result is simply discarded.
+ * 
+ * All methods must be called on the JavaFX Application Thread.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class AsyncLoader {
+    
+    private static ExecutorService executor;
+    
+    private final Map<String, Task<?>> latestByChannel = new HashMap<>();
+    private final IntegerProperty running = new SimpleIntegerProperty();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper();
+    
+    public AsyncLoader() {
+        busy.bind(running.greaterThan(0));
+    }
+    
+    /**
+     * Gets the executor shared by all views. Its threads are daemons so they
+     * never keep the application alive.
+     * Size is configured by {@code ui.loader.threads} (default 2).
+     */
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger counter = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(loadThreadCount(), r -> {
+                Thread thread = new Thread(r, "libronova-ui-loader-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+    
+    /**
+     * Loads data in the background, replacing any load still pending on the
+     * same channel.
+     * 
+     * @param <T> the result type
+     * @param channel identifies what is being loaded, e.g. "books"
+     * @param work the service call, run off the FX thread
+     * @param onSuccess receives the result on the FX thread
+     * @param onFailure receives the error on the FX thread
+     * @return the submitted task
+     */
+    public <T> Task<T> load(String channel, Callable<T> work,
+                            Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<?> previous = latestByChannel.remove(channel);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+        
+        Task<T> task = submit(work, onSuccess, onFailure);
+        latestByChannel.put(channel, task);
+        task.runningProperty().addListener((obs, wasRunning, isRunning) -> {
+            if (!isRunning) {
+                latestByChannel.remove(channel, task);
+            }
+        });
+        return task;
+    }
+    
+    /**
+     * Runs a call in the background that must not be superseded, such as a
+     * save or delete.
+     * 
+     * @param <T> the result type
+     * @param work the service call, run off the FX thread
+     * @param onSuccess receives the result on the FX thread
+     * @param onFailure receives the error on the FX thread
+     * @return the submitted task
+     */
+    public <T> Task<T> run(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        return submit(work, onSuccess, onFailure);
+    }
+    
+    /**
+     * Cancels the pending load of one channel, if any.
+     * 
+     * @param channel the channel passed to {@link #load}
+     */
+    public void cancel(String channel) {
+        Task<?> task = latestByChannel.remove(channel);
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+    
+    /**
+     * Cancels every pending load. Saves started with {@link #run} still complete.
+     */
+    public void cancelAll() {
+        for (Task<?> task : new ArrayList<>(latestByChannel.values())) {
+            task.cancel(false);
+        }
+        latestByChannel.clear();
+    }
+    
+    /**
+     * Cancels pending loads once the node is removed from the scene, e.g.
+     * when the user navigates to another module.
+     * 
+     * @param node the root of the view that owns this loader
+     */
+    public void cancelWhenRemoved(Node node) {
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null && newScene == null) {
+                cancelAll();
+            }
+        });
+    }
+    
+    /**
+     * True while any call of this loader is pending, for loading indicators.
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+    
+    private <T> Task<T> submit(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onFailure) {
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                return work.call();
+            }
+        };
+        
+        running.set(running.get() + 1);
+        task.setOnSucceeded(e -> {
+            running.set(running.get() - 1);
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            running.set(running.get() - 1);
+            onFailure.accept(task.getException());
+        });
+        task.setOnCancelled(e -> running.set(running.get() - 1));
+        
+        getExecutor().execute(task);
+        return task;
+    }
+    
+    private static int loadThreadCount() {
+        Properties properties = new Properties();
+        try (InputStream input = AsyncLoader.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+            return Math.max(1, Integer.parseInt(properties.getProperty("ui.loader.threads", "2").trim()));
+        } catch (IOException | NumberFormatException e) {
+            return 2;
+        }
+    }
+}
@@ -4,8 +4,6 @@ import com.mycompany.booknova.domain.Book;
 import com.mycompany.booknova.service.BookService;
 import com.mycompany.booknova.service.impl.BookServiceImpl;
 import javafx.beans.property.SimpleStringProperty;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Alert;
@@ -15,6 +13,7 @@ import javafx.scene.control.ButtonType;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
 import javafx.scene.control.TableCell;
 import javafx.scene.control.TableColumn;
@@ -25,6 +24,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
+import java.util.stream.Collectors;
 
 /**
  * Books management view.
@@ -37,17 +37,19 @@ public class BooksView {
     
     private final BookService bookService;
     private final VBox mainLayout;
+    private final AsyncLoader loader = new AsyncLoader();
     private TableView<BookTableModel> booksTable;
-    private ObservableList<BookTableModel> booksList;
+    private final FilteredListModel<BookTableModel> booksModel =
+        new FilteredListModel<>(BookTableModel::getId, BookTableModel::getSearchKey);
     private TextField searchField;
     private ComboBox<String> categoryFilter;
     
     public BooksView() {
         this.bookService = new BookServiceImpl();
         this.mainLayout = new VBox(15);
-        this.booksList = FXCollections.observableArrayList();
         
         initializeView();
+        loader.cancelWhenRemoved(mainLayout);
         loadBooks();
     }
     
@@ -96,10 +98,21 @@ public class BooksView {
         );
         addButton.setOnAction(e -> showAddBookDialog());
         
-        header.getChildren().addAll(title, spacer, addButton);
+        header.getChildren().addAll(title, createLoadingIndicator(), spacer, addButton);
         return header;
     }
     
+    /**
+     * Creates a spinner that is shown while data is loading.
+     */
+    private ProgressIndicator createLoadingIndicator() {
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.setPrefSize(24, 24);
+        indicator.visibleProperty().bind(loader.busyProperty());
+        indicator.managedProperty().bind(indicator.visibleProperty());
+        return indicator;
+    }
+    
     /**
      * Creates the search bar with filters.
      */
@@ -115,7 +128,7 @@ public class BooksView {
         searchField = new TextField();
         searchField.setPromptText("Search by title, author, or ISBN...");
         searchField.setPrefWidth(300);
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> filterBooks());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> booksModel.setSearchText(newVal));
         
         Label categoryLabel = new Label("Category:");
         categoryLabel.setStyle("-fx-font-weight: bold;");
@@ -132,7 +145,7 @@ public class BooksView {
         clearButton.setOnAction(e -> {
             searchField.clear();
             categoryFilter.setValue("All Categories");
-            loadBooks();
+            booksModel.clearFilters();
         });
         
         searchBar.getChildren().addAll(
@@ -148,7 +161,7 @@ public class BooksView {
      */
     private TableView<BookTableModel> createBooksTable() {
         TableView<BookTableModel> table = new TableView<>();
-        table.setItems(booksList);
+        table.setItems(booksModel.getItems());
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         
         // ID Column
@@ -246,45 +259,26 @@ public class BooksView {
     
     /**
      * Loads all books from the service.
+     * Search and category filtering then work on this list without querying again.
      */
     private void loadBooks() {
-        try {
-            booksList.clear();
-            var books = bookService.getAllBooks();
-            for (Book book : books) {
-                booksList.add(new BookTableModel(book));
-            }
-        } catch (Exception e) {
-            showError("Error loading books: " + e.getMessage());
-        }
+        loader.load("books",
+            () -> bookService.getAllBooks().stream()
+                .map(BookTableModel::new)
+                .collect(Collectors.toList()),
+            booksModel::setAll,
+            e -> showError("Error loading books: " + e.getMessage()));
     }
     
     /**
-     * Filters books based on search criteria.
+     * Applies the category filter to the loaded books.
      */
     private void filterBooks() {
-        try {
-            String searchText = searchField.getText().toLowerCase();
-            String selectedCategory = categoryFilter.getValue();
-            
-            booksList.clear();
-            var books = bookService.getAllBooks();
-            
-            for (Book book : books) {
-                boolean matchesSearch = searchText.isEmpty() ||
-                    book.getTitle().toLowerCase().contains(searchText) ||
-                    book.getAuthor().toLowerCase().contains(searchText) ||
-                    book.getIsbn().toLowerCase().contains(searchText);
-                
-                boolean matchesCategory = selectedCategory.equals("All Categories") ||
-                    book.getCategory().equalsIgnoreCase(selectedCategory);
-                
-                if (matchesSearch && matchesCategory) {
-                    booksList.add(new BookTableModel(book));
-                }
-            }
-        } catch (Exception e) {
-            showError("Error filtering books: " + e.getMessage());
+        String selectedCategory = categoryFilter.getValue();
+        if (selectedCategory == null || selectedCategory.equals("All Categories")) {
+            booksModel.setFilter(null);
+        } else {
+            booksModel.setFilter(book -> selectedCategory.equalsIgnoreCase(book.getCategory()));
         }
     }
     
@@ -371,15 +365,13 @@ public class BooksView {
             return null;
         });
         
-        dialog.showAndWait().ifPresent(book -> {
-            try {
-                bookService.createBook(book);
-                showSuccess("Book added successfully");
-                loadBooks();
-            } catch (Exception e) {
-                showError("Error adding book: " + e.getMessage());
-            }
-        });
+        dialog.showAndWait().ifPresent(book ->
+            loader.run(() -> bookService.createBook(book),
+                created -> {
+                    booksModel.upsert(new BookTableModel(created));
+                    showSuccess("Book added successfully");
+                },
+                e -> showError("Error adding book: " + e.getMessage())));
     }
     
     /**
@@ -392,12 +384,9 @@ public class BooksView {
             return;
         }
         
-        try {
-            Book book = bookService.findBookById(selected.getId());
-            showEditBookDialog(book);
-        } catch (Exception e) {
-            showError("Error loading book: " + e.getMessage());
-        }
+        loader.load("book", () -> bookService.findBookById(selected.getId()),
+            this::showEditBookDialog,
+            e -> showError("Error loading book: " + e.getMessage()));
     }
     
     /**
@@ -471,15 +460,13 @@ public class BooksView {
             return null;
         });
         
-        dialog.showAndWait().ifPresent(updatedBook -> {
-            try {
-                bookService.updateBook(updatedBook);
-                showSuccess("Book updated successfully");
-                loadBooks();
-            } catch (Exception e) {
-                showError("Error updating book: " + e.getMessage());
-            }
-        });
+        dialog.showAndWait().ifPresent(updatedBook ->
+            loader.run(() -> bookService.updateBook(updatedBook),
+                updated -> {
+                    booksModel.upsert(new BookTableModel(updated));
+                    showSuccess("Book updated successfully");
+                },
+                e -> showError("Error updating book: " + e.getMessage())));
     }
     
     /**
@@ -499,13 +486,15 @@ public class BooksView {
         
         confirmAlert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    bookService.deleteBook(selected.getId());
-                    showSuccess("Book deleted successfully");
-                    loadBooks();
-                } catch (Exception e) {
-                    showError("Error deleting book: " + e.getMessage());
-                }
+                loader.run(() -> {
+                        bookService.deleteBook(selected.getId());
+                        return null;
+                    },
+                    done -> {
+                        booksModel.remove(selected.getId());
+                        showSuccess("Book deleted successfully");
+                    },
+                    e -> showError("Error deleting book: " + e.getMessage()));
             }
         });
     }
@@ -561,6 +550,7 @@ public class BooksView {
         private final String category;
         private final Integer availableStock;
         private final Integer totalStock;
+        private final String searchKey;
         
         public BookTableModel(Book book) {
             this.id = book.getId();
@@ -570,6 +560,7 @@ public class BooksView {
             this.category = book.getCategory();
             this.availableStock = book.getAvailableStock();
             this.totalStock = book.getTotalStock();
+            this.searchKey = SearchText.key(title, author, isbn);
         }
         
         public Long getId() { return id; }
@@ -579,5 +570,6 @@ public class BooksView {
         public String getCategory() { return category; }
         public Integer getAvailableStock() { return availableStock; }
         public Integer getTotalStock() { return totalStock; }
+        public String getSearchKey() { return searchKey; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.mycompany.booknova.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javafx.animation.PauseTransition;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import javafx.util.Duration;
+
+/**
+ * Client-side list model for a searchable table.
+ * The master list is loaded once and then kept up to date row by row; search
+ * and filter changes only re-filter it in memory through a {@link FilteredList},
+ * so typing costs no database round trips. Search text is applied after a short
+ * pause in typing, configured by {@code ui.search.debounceMs} (default 250).
+ * 
+ * Must be used on the JavaFX Application Thread.
+ * 
+ * @param <T> the row type
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public class FilteredListModel<T> {
+    
+    private final ObservableList<T> master = FXCollections.observableArrayList();
+    private final FilteredList<T> items = new FilteredList<>(master);
+    private final Function<T, Long> idOf;
+    private final Function<T, String> searchKeyOf;
+    private final PauseTransition debounce;
+    
+    private String query = "";
+    private String pendingQuery = "";
+    private Predicate<T> filter = row -> true;
+    
+    /**
+     * Creates an empty model.
+     * 
+     * @param idOf gives the ID of a row, used for incremental updates
+     * @param searchKeyOf gives the precomputed key of a row, see {@link SearchText#key}
+     */
+    public FilteredListModel(Function<T, Long> idOf, Function<T, String> searchKeyOf) {
+        this.idOf = idOf;
+        this.searchKeyOf = searchKeyOf;
+        this.debounce = new PauseTransition(Duration.millis(loadDebounceMs()));
+        this.debounce.setOnFinished(e -> {
+            query = pendingQuery;
+            applyPredicate();
+        });
+    }
+    
+    /**
+     * Gets the filtered rows to show in a table.
+     */
+    public ObservableList<T> getItems() {
+        return items;
+    }
+    
+    /**
+     * Replaces all rows, e.g. after the initial load or a manual refresh.
+     * 
+     * @param rows the complete list
+     */
+    public void setAll(Collection<? extends T> rows) {
+        master.setAll(rows);
+    }
+    
+    /**
+     * Adds a row, or replaces the row with the same ID.
+     * 
+     * @param row the new or changed row
+     */
+    public void upsert(T row) {
+        Long id = idOf.apply(row);
+        for (int i = 0; i < master.size(); i++) {
+            if (Objects.equals(idOf.apply(master.get(i)), id)) {
+                master.set(i, row);
+                return;
+            }
+        }
+        master.add(row);
+    }
+    
+    /**
+     * Removes the row with the given ID, if present.
+     * 
+     * @param id the row ID
+     */
+    public void remove(Long id) {
+        master.removeIf(row -> Objects.equals(idOf.apply(row), id));
+    }
+    
+    /**
+     * Sets the search text. The list is re-filtered once typing pauses.
+     * 
+     * @param text the raw text from the search field
+     */
+    public void setSearchText(String text) {
+        pendingQuery = SearchText.normalize(text);
+        debounce.playFromStart();
+    }
+    
+    /**
+     * Sets an additional filter, such as a category or status, applied at once.
+     * 
+     * @param filter the rows to keep, or null to keep all
+     */
+    public void setFilter(Predicate<T> filter) {
+        this.filter = filter != null ? filter : row -> true;
+        applyPredicate();
+    }
+    
+    /**
+     * Clears the search text and filter at once.
+     */
+    public void clearFilters() {
+        debounce.stop();
+        query = "";
+        pendingQuery = "";
+        filter = row -> true;
+        applyPredicate();
+    }
+    
+    private void applyPredicate() {
+        String currentQuery = query;
+        Predicate<T> currentFilter = filter;
+        items.setPredicate(row -> SearchText.matches(searchKeyOf.apply(row), currentQuery)
+                && currentFilter.test(row));
+    }
+    
+    private static long loadDebounceMs() {
+        Properties properties = new Properties();
+        try (InputStream input = FilteredListModel.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+            return Math.max(0, Long.parseLong(properties.getProperty("ui.search.debounceMs", "250").trim()));
+        } catch (IOException | NumberFormatException e) {
+            return 250;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.mycompany.booknova.domain.Loan;
 import com.mycompany.booknova.domain.Loan.LoanStatus;
 import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.domain.Member.MembershipType;
+import com.mycompany.booknova.repository.LoanCriteria;
 import com.mycompany.booknova.service.BookService;
 import com.mycompany.booknova.service.LoanService;
 import com.mycompany.booknova.service.MemberService;
@@ -21,6 +22,8 @@ import javafx.scene.layout.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Loans management view.
@@ -35,6 +38,7 @@ public class LoansView {
     private final BookService bookService;
     private final MemberService memberService;
     private final VBox mainLayout;
+    private final AsyncLoader loader = new AsyncLoader();
     private TableView<LoanTableModel> loansTable;
     private ObservableList<LoanTableModel> loansList;
     private ComboBox<String> statusFilter;
@@ -50,6 +54,7 @@ public class LoansView {
         this.loansList = FXCollections.observableArrayList();
         
         initializeView();
+        loader.cancelWhenRemoved(mainLayout);
         loadLoans();
     }
     
@@ -101,10 +106,21 @@ public class LoansView {
         );
         overdueButton.setOnAction(e -> showOverdueLoans());
         
-        header.getChildren().addAll(title, spacer, overdueButton, newLoanButton);
+        header.getChildren().addAll(title, createLoadingIndicator(), spacer, overdueButton, newLoanButton);
         return header;
     }
     
+    /**
+     * Creates a spinner that is shown while data is loading.
+     */
+    private ProgressIndicator createLoadingIndicator() {
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.setPrefSize(24, 24);
+        indicator.visibleProperty().bind(loader.busyProperty());
+        indicator.managedProperty().bind(indicator.visibleProperty());
+        return indicator;
+    }
+    
     /**
      * Creates the filter bar.
      */
@@ -254,57 +270,45 @@ public class LoansView {
      * Loads all loans from the service.
      */
     private void loadLoans() {
-        try {
-            loansList.clear();
-            var loans = loanService.getAllLoans();
-            for (Loan loan : loans) {
-                loansList.add(new LoanTableModel(loan));
-            }
-        } catch (Exception e) {
-            showError("Error loading loans: " + e.getMessage());
-        }
+        loader.load("loans",
+            () -> toTableModels(loanService.getAllLoans()),
+            loansList::setAll,
+            e -> showError("Error loading loans: " + e.getMessage()));
     }
     
     /**
-     * Filters loans based on status.
+     * Filters loans based on status. The filter runs in the database.
      */
     private void filterLoans() {
-        try {
-            String selectedStatus = statusFilter.getValue();
-            
-            loansList.clear();
-            var loans = loanService.getAllLoans();
-            
-            for (Loan loan : loans) {
-                boolean matches = selectedStatus.equals("All Loans") ||
-                    loan.getStatus().name().equals(selectedStatus);
-                
-                if (matches) {
-                    loansList.add(new LoanTableModel(loan));
-                }
-            }
-        } catch (Exception e) {
-            showError("Error filtering loans: " + e.getMessage());
+        String selectedStatus = statusFilter.getValue();
+        LoanCriteria criteria = new LoanCriteria();
+        if (selectedStatus != null && !selectedStatus.equals("All Loans")) {
+            criteria.withStatuses(LoanStatus.valueOf(selectedStatus));
         }
+        
+        loader.load("loans",
+            () -> toTableModels(loanService.findLoans(criteria)),
+            loansList::setAll,
+            e -> showError("Error filtering loans: " + e.getMessage()));
     }
     
     /**
      * Shows overdue loans only.
      */
     private void showOverdueLoans() {
-        try {
-            loansList.clear();
-            var loans = loanService.getOverdueLoans();
-            for (Loan loan : loans) {
-                loansList.add(new LoanTableModel(loan));
-            }
-            
-            if (loans.isEmpty()) {
-                showInfo("No overdue loans found!");
-            }
-        } catch (Exception e) {
-            showError("Error loading overdue loans: " + e.getMessage());
-        }
+        loader.load("loans",
+            () -> toTableModels(loanService.getOverdueLoans()),
+            loans -> {
+                loansList.setAll(loans);
+                if (loans.isEmpty()) {
+                    showInfo("No overdue loans found!");
+                }
+            },
+            e -> showError("Error loading overdue loans: " + e.getMessage()));
+    }
+    
+    private static List<LoanTableModel> toTableModels(List<Loan> loans) {
+        return loans.stream().map(LoanTableModel::new).collect(Collectors.toList());
     }
     
     /**
@@ -323,27 +327,31 @@ public class LoansView {
         grid.setVgap(10);
         grid.setPadding(new Insets(20));
         
-        // Member selection
+        // Member selection, filled in the background
         ComboBox<MemberComboItem> memberCombo = new ComboBox<>();
-        try {
-            var members = memberService.getActiveMembers();
-            for (Member member : members) {
-                memberCombo.getItems().add(new MemberComboItem(member));
-            }
-        } catch (Exception e) {
-            showError("Error loading members: " + e.getMessage());
-        }
-        
-        // Book selection
+        memberCombo.setPromptText("Loading...");
+        loader.load("dialogMembers",
+            () -> memberService.getActiveMembers().stream()
+                .map(MemberComboItem::new)
+                .collect(Collectors.toList()),
+            members -> {
+                memberCombo.getItems().setAll(members);
+                memberCombo.setPromptText(null);
+            },
+            e -> showError("Error loading members: " + e.getMessage()));
+        
+        // Book selection, filled in the background
         ComboBox<BookComboItem> bookCombo = new ComboBox<>();
-        try {
-            var books = bookService.getAvailableBooks();
-            for (Book book : books) {
-                bookCombo.getItems().add(new BookComboItem(book));
-            }
-        } catch (Exception e) {
-            showError("Error loading books: " + e.getMessage());
-        }
+        bookCombo.setPromptText("Loading...");
+        loader.load("dialogBooks",
+            () -> bookService.getAvailableBooks().stream()
+                .map(BookComboItem::new)
+                .collect(Collectors.toList()),
+            books -> {
+                bookCombo.getItems().setAll(books);
+                bookCombo.setPromptText(null);
+            },
+            e -> showError("Error loading books: " + e.getMessage()));
         
         Label infoLabel = new Label();
         infoLabel.setStyle("-fx-text-fill: #7f8c8d; -fx-font-style: italic;");
@@ -353,16 +361,17 @@ public class LoansView {
         memberCombo.setOnAction(e -> {
             MemberComboItem selected = memberCombo.getValue();
             if (selected != null) {
-                try {
-                    var activeLoans = loanService.getActiveLoansByMember(selected.getId());
-                    int maxLoans = selected.getMembershipType().getMaxLoans();
-                    infoLabel.setText(String.format(
-                        "Active loans: %d/%d | Membership: %s",
-                        activeLoans.size(), maxLoans, selected.getMembershipType()
-                    ));
-                } catch (Exception ex) {
-                    infoLabel.setText("Error loading member info");
-                }
+                infoLabel.setText("Loading member info...");
+                loader.load("memberInfo",
+                    () -> loanService.getActiveLoansByMember(selected.getId()).size(),
+                    activeLoans -> {
+                        int maxLoans = selected.getMembershipType().getMaxLoans();
+                        infoLabel.setText(String.format(
+                            "Active loans: %d/%d | Membership: %s",
+                            activeLoans, maxLoans, selected.getMembershipType()
+                        ));
+                    },
+                    ex -> infoLabel.setText("Error loading member info"));
             }
         });
         
@@ -384,22 +393,26 @@ public class LoansView {
                     return null;
                 }
                 
-                try {
-                    loanService.createLoan(
+                loader.run(() -> loanService.createLoan(
                         selectedMember.getId(),
                         selectedBook.getId(),
                         CURRENT_USER_ID
-                    );
-                    showSuccess("Loan created successfully");
-                    loadLoans();
-                } catch (Exception e) {
-                    showError("Error creating loan: " + e.getMessage());
-                }
+                    ),
+                    loan -> {
+                        showSuccess("Loan created successfully");
+                        loadLoans();
+                    },
+                    e -> showError("Error creating loan: " + e.getMessage()));
             }
             return null;
         });
         
         dialog.showAndWait();
+        
+        // Drop lookups for the dialog that are still running
+        loader.cancel("dialogMembers");
+        loader.cancel("dialogBooks");
+        loader.cancel("memberInfo");
     }
     
     /**
@@ -428,25 +441,23 @@ public class LoansView {
         
         confirmAlert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    Loan returnedLoan = loanService.returnBook(selected.getLoanId());
-                    
-                    if (returnedLoan.getPenalty().compareTo(BigDecimal.ZERO) > 0) {
-                        showInfo(String.format(
-                            "Book returned successfully!\n\n" +
-                            "Penalty amount: $%.2f\n" +
-                            "Status: %s",
-                            returnedLoan.getPenalty(),
-                            returnedLoan.getStatus()
-                        ));
-                    } else {
-                        showSuccess("Book returned successfully! No penalty.");
-                    }
-                    
-                    loadLoans();
-                } catch (Exception e) {
-                    showError("Error returning book: " + e.getMessage());
-                }
+                loader.run(() -> loanService.returnBook(selected.getLoanId()),
+                    returnedLoan -> {
+                        if (returnedLoan.getPenalty().compareTo(BigDecimal.ZERO) > 0) {
+                            showInfo(String.format(
+                                "Book returned successfully!\n\n" +
+                                "Penalty amount: $%.2f\n" +
+                                "Status: %s",
+                                returnedLoan.getPenalty(),
+                                returnedLoan.getStatus()
+                            ));
+                        } else {
+                            showSuccess("Book returned successfully! No penalty.");
+                        }
+                        
+                        loadLoans();
+                    },
+                    e -> showError("Error returning book: " + e.getMessage()));
             }
         });
     }
@@ -472,21 +483,24 @@ public class LoansView {
         dialog.setContentText("Additional days:");
         
         dialog.showAndWait().ifPresent(days -> {
+            int additionalDays;
             try {
-                int additionalDays = Integer.parseInt(days);
-                if (additionalDays <= 0 || additionalDays > 30) {
-                    showWarning("Please enter a value between 1 and 30 days");
-                    return;
-                }
-                
-                loanService.renewLoan(selected.getLoanId(), additionalDays);
-                showSuccess("Loan renewed successfully for " + additionalDays + " days");
-                loadLoans();
+                additionalDays = Integer.parseInt(days);
             } catch (NumberFormatException e) {
                 showError("Invalid number format");
-            } catch (Exception e) {
-                showError("Error renewing loan: " + e.getMessage());
+                return;
             }
+            if (additionalDays <= 0 || additionalDays > 30) {
+                showWarning("Please enter a value between 1 and 30 days");
+                return;
+            }
+            
+            loader.run(() -> loanService.renewLoan(selected.getLoanId(), additionalDays),
+                renewed -> {
+                    showSuccess("Loan renewed successfully for " + additionalDays + " days");
+                    loadLoans();
+                },
+                e -> showError("Error renewing loan: " + e.getMessage()));
         });
     }
     
@@ -500,44 +514,47 @@ public class LoansView {
             return;
         }
         
-        try {
-            Loan loan = loanService.findLoanById(selected.getLoanId());
-            
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle("Loan Details");
-            alert.setHeaderText("Loan #" + loan.getId());
-            
-            String details = String.format(
-                "Member: %s (%s)\n" +
-                "Book: %s\n" +
-                "ISBN: %s\n" +
-                "Author: %s\n\n" +
-                "Loan Date: %s\n" +
-                "Expected Return: %s\n" +
-                "Actual Return: %s\n" +
-                "Status: %s\n" +
-                "Penalty: $%.2f\n" +
-                "Notes: %s\n\n" +
-                "Processed by: %s",
-                loan.getMember().getFullName(),
-                loan.getMember().getMemberNumber(),
-                loan.getBook().getTitle(),
-                loan.getBook().getIsbn(),
-                loan.getBook().getAuthor(),
-                loan.getLoanDate(),
-                loan.getExpectedReturnDate(),
-                loan.getActualReturnDate() != null ? loan.getActualReturnDate() : "Not returned",
-                loan.getStatus(),
-                loan.getPenalty(),
-                loan.getNotes() != null ? loan.getNotes() : "N/A",
-                loan.getUser().getFullName()
-            );
-            
-            alert.setContentText(details);
-            alert.showAndWait();
-        } catch (Exception e) {
-            showError("Error loading loan details: " + e.getMessage());
-        }
+        loader.load("loan", () -> loanService.findLoanById(selected.getLoanId()),
+            this::showLoanDetails,
+            e -> showError("Error loading loan details: " + e.getMessage()));
+    }
+    
+    /**
+     * Shows the details of a loaded loan.
+     */
+    private void showLoanDetails(Loan loan) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Loan Details");
+        alert.setHeaderText("Loan #" + loan.getId());
+        
+        String details = String.format(
+            "Member: %s (%s)\n" +
+            "Book: %s\n" +
+            "ISBN: %s\n" +
+            "Author: %s\n\n" +
+            "Loan Date: %s\n" +
+            "Expected Return: %s\n" +
+            "Actual Return: %s\n" +
+            "Status: %s\n" +
+            "Penalty: $%.2f\n" +
+            "Notes: %s\n\n" +
+            "Processed by: %s",
+            loan.getMember().getFullName(),
+            loan.getMember().getMemberNumber(),
+            loan.getBook().getTitle(),
+            loan.getBook().getIsbn(),
+            loan.getBook().getAuthor(),
+            loan.getLoanDate(),
+            loan.getExpectedReturnDate(),
+            loan.getActualReturnDate() != null ? loan.getActualReturnDate() : "Not returned",
+            loan.getStatus(),
+            loan.getPenalty(),
+            loan.getNotes() != null ? loan.getNotes() : "N/A",
+            loan.getUser().getFullName()
+        );
+        
+        alert.setContentText(details);
+        alert.showAndWait();
     }
     
     private void showSuccess(String message) {
@@ -1,6 +1,9 @@
 package com.mycompany.booknova.ui;
 
 import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.infra.migration.MigrationRunner;
+import com.mycompany.booknova.repository.RepositoryFactory;
 import com.mycompany.booknova.service.auth.MockAuthenticationService;
 import javafx.application.Application;
 import javafx.geometry.Insets;
@@ -30,9 +33,27 @@ public class LoginController extends Application {
     @Override
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
+        runMigrations();
         showLoginWindow();
     }
     
+    /**
+     * Brings the database schema up to date in the background while the login
+     * window is shown; the run may wait for another desk holding the migration
+     * lock. A failure is logged and the application still works, since the
+     * migrations only add indexes. Skipped when the in-memory repositories
+     * are configured, since there is no database.
+     */
+    private void runMigrations() {
+        if (!MigrationRunner.isEnabled() || RepositoryFactory.isInMemoryConfigured()) {
+            return;
+        }
+        new AsyncLoader().run(() -> new MigrationRunner().migrate(),
+                applied -> { },
+                error -> AppLogger.getInstance().logError("MIGRATION",
+                        "Schema migration failed: " + error.getMessage(), error));
+    }
+    
     /**
      * Creates and displays the login window.
      */
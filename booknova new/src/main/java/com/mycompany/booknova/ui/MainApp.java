@@ -1,18 +1,35 @@
 package com.mycompany.booknova.ui;
 
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.exceptions.DatabaseException;
 import com.mycompany.booknova.infra.logging.AppLogger;
+import com.mycompany.booknova.service.StatisticsService;
+import com.mycompany.booknova.service.impl.StatisticsServiceImpl;
 import com.mycompany.booknova.service.reports.ReportService;
 import com.mycompany.booknova.service.reports.ReportServiceImpl;
 import com.mycompany.booknova.service.reports.MockReportServiceImpl;
 import com.mycompany.booknova.service.auth.MockAuthenticationService;
 import com.mycompany.booknova.domain.User;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.Separator;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
@@ -40,6 +57,10 @@ public class MainApp extends Application {
     private final MockAuthenticationService authService = MockAuthenticationService.getInstance();
     private User currentUser;
     
+    private final StatisticsService statisticsService = new StatisticsServiceImpl();
+    private ScheduledExecutorService dashboardScheduler;
+    private ScheduledFuture<?> dashboardRefresh;
+    
     @Override
     public void start(Stage primaryStage) {
         this.primaryStage = primaryStage;
@@ -64,6 +85,7 @@ public class MainApp extends Application {
         
         Scene scene = new Scene(mainLayout, 1200, 700);
         primaryStage.setScene(scene);
+        primaryStage.setOnHidden(e -> stopDashboardScheduler());
         primaryStage.show();
         
         // Show dashboard by default
@@ -241,10 +263,15 @@ public class MainApp extends Application {
         HBox statsCards = new HBox(20);
         statsCards.setAlignment(Pos.CENTER);
         
-        VBox booksCard = createStatCard("📚", "Total Books", "0", "#3498db");
-        VBox membersCard = createStatCard("👥", "Active Members", "0", "#2ecc71");
-        VBox loansCard = createStatCard("📋", "Active Loans", "0", "#e74c3c");
-        VBox overdueCard = createStatCard("⚠️", "Overdue Loans", "0", "#f39c12");
+        Label booksValue = new Label("-");
+        Label membersValue = new Label("-");
+        Label loansValue = new Label("-");
+        Label overdueValue = new Label("-");
+        
+        VBox booksCard = createStatCard("📚", "Total Books", booksValue, "#3498db");
+        VBox membersCard = createStatCard("👥", "Active Members", membersValue, "#2ecc71");
+        VBox loansCard = createStatCard("📋", "Active Loans", loansValue, "#e74c3c");
+        VBox overdueCard = createStatCard("⚠️", "Overdue Loans", overdueValue, "#f39c12");
         
         statsCards.getChildren().addAll(booksCard, membersCard, loansCard, overdueCard);
         
@@ -253,12 +280,85 @@ public class MainApp extends Application {
         contentArea.getChildren().clear();
         contentArea.getChildren().add(dashboard);
         updateStatus("Dashboard loaded");
+        
+        // Refresh while the dashboard is on screen; leaving it cancels the refresh
+        startDashboardRefresh(booksValue, membersValue, loansValue, overdueValue);
+        dashboard.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) {
+                cancelDashboardRefresh();
+            }
+        });
+    }
+    
+    /**
+     * Loads the dashboard statistics now and then periodically on a background
+     * thread, so the FX thread never waits for the database. Results are
+     * applied to the labels on the FX thread.
+     */
+    private void startDashboardRefresh(Label booksValue, Label membersValue,
+                                       Label loansValue, Label overdueValue) {
+        cancelDashboardRefresh();
+        if (dashboardScheduler == null) {
+            dashboardScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "libronova-dashboard-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        
+        dashboardRefresh = dashboardScheduler.scheduleWithFixedDelay(() -> {
+            try {
+                DashboardStatistics stats = statisticsService.getDashboardStatistics();
+                Platform.runLater(() -> {
+                    booksValue.setText(String.valueOf(stats.getTotalBooks()));
+                    membersValue.setText(String.valueOf(stats.getActiveMembers()));
+                    loansValue.setText(String.valueOf(stats.getActiveLoans()));
+                    overdueValue.setText(String.valueOf(stats.getOverdueLoans()));
+                });
+            } catch (DatabaseException e) {
+                logger.logWarning("MAIN_APP", "Could not refresh dashboard statistics: " + e.getMessage());
+                Platform.runLater(() -> updateStatus("Dashboard statistics unavailable"));
+            } catch (RuntimeException e) {
+                // Keep the schedule alive; an uncaught exception would cancel it
+                logger.logError("MAIN_APP", "Unexpected error refreshing dashboard", e);
+            }
+        }, 0, loadDashboardRefreshSeconds(), TimeUnit.SECONDS);
+    }
+    
+    private void cancelDashboardRefresh() {
+        if (dashboardRefresh != null) {
+            dashboardRefresh.cancel(false);
+            dashboardRefresh = null;
+        }
+    }
+    
+    private void stopDashboardScheduler() {
+        cancelDashboardRefresh();
+        if (dashboardScheduler != null) {
+            dashboardScheduler.shutdownNow();
+            dashboardScheduler = null;
+        }
+    }
+    
+    /**
+     * Reads the refresh interval from config.properties, 30 seconds by default.
+     */
+    private long loadDashboardRefreshSeconds() {
+        Properties properties = new Properties();
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream("config.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+            return Math.max(1, Long.parseLong(properties.getProperty("dashboard.refreshSeconds", "30").trim()));
+        } catch (IOException | NumberFormatException e) {
+            return 30;
+        }
     }
     
     /**
      * Creates a statistics card for the dashboard.
      */
-    private VBox createStatCard(String icon, String label, String value, String color) {
+    private VBox createStatCard(String icon, String label, Label valueLabel, String color) {
         VBox card = new VBox(10);
         card.setPrefSize(220, 140);
         card.setAlignment(Pos.CENTER);
@@ -272,7 +372,6 @@ public class MainApp extends Application {
         Label iconLabel = new Label(icon);
         iconLabel.setStyle("-fx-font-size: 40px;");
         
-        Label valueLabel = new Label(value);
         valueLabel.setStyle("-fx-font-size: 32px; -fx-font-weight: bold; -fx-text-fill: " + color + ";");
         
         Label textLabel = new Label(label);
@@ -370,12 +469,101 @@ public class MainApp extends Application {
         
         exportSection.getChildren().addAll(exportTitle, buttonBox);
         
-        reportsView.getChildren().addAll(title, description, exportSection);
+        reportsView.getChildren().addAll(title, description, exportSection, createBundleExportSection());
         contentArea.getChildren().clear();
         contentArea.getChildren().add(reportsView);
         updateStatus("Reports module loaded");
     }
     
+    /**
+     * Creates the section that exports all reports at once, with progress
+     * and cancellation.
+     */
+    private VBox createBundleExportSection() {
+        VBox bundleSection = new VBox(15);
+        bundleSection.setPadding(new Insets(20));
+        bundleSection.setStyle("-fx-background-color: white; -fx-background-radius: 10; -fx-effect: dropshadow(gaussian, rgba(0,0,0,0.1), 5, 0, 0, 2);");
+        
+        Label bundleTitle = new Label("📦 Export All Reports");
+        bundleTitle.setStyle("-fx-font-size: 18px; -fx-font-weight: bold;");
+        
+        Button exportAllBtn = createExportButton("📦 All Reports", "Export the four reports");
+        CheckBox zipCheck = new CheckBox("Pack into a single zip file");
+        zipCheck.setSelected(true);
+        
+        HBox actionBox = new HBox(15, exportAllBtn, zipCheck);
+        actionBox.setAlignment(Pos.CENTER_LEFT);
+        
+        ProgressBar progressBar = new ProgressBar(0);
+        progressBar.setPrefWidth(300);
+        Label progressLabel = new Label();
+        progressLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #7f8c8d;");
+        Button cancelBtn = new Button("Cancel");
+        cancelBtn.setStyle("-fx-background-color: #e74c3c; -fx-text-fill: white; -fx-cursor: hand;");
+        
+        HBox progressBox = new HBox(10, progressBar, progressLabel, cancelBtn);
+        progressBox.setAlignment(Pos.CENTER_LEFT);
+        progressBox.setVisible(false);
+        progressBox.managedProperty().bind(progressBox.visibleProperty());
+        
+        exportAllBtn.setOnAction(e -> {
+            Task<List<Path>> task = createBundleExportTask(zipCheck.isSelected());
+            progressBar.progressProperty().bind(task.progressProperty());
+            progressLabel.textProperty().bind(task.messageProperty());
+            progressBox.visibleProperty().bind(task.runningProperty());
+            exportAllBtn.disableProperty().bind(task.runningProperty());
+            zipCheck.disableProperty().bind(task.runningProperty());
+            cancelBtn.setOnAction(c -> task.cancel());
+            
+            Thread thread = new Thread(task, "libronova-report-bundle");
+            thread.setDaemon(true);
+            thread.start();
+        });
+        
+        bundleSection.getChildren().addAll(bundleTitle, actionBox, progressBox);
+        return bundleSection;
+    }
+    
+    /**
+     * Creates the background task exporting all reports to the working directory.
+     */
+    private Task<List<Path>> createBundleExportTask(boolean zip) {
+        Task<List<Path>> task = new Task<>() {
+            @Override
+            protected List<Path> call() throws Exception {
+                updateMessage("Exporting reports...");
+                updateProgress(0, 4);
+                return reportService.exportReportBundle(Path.of(""), zip, (reportName, completed, total) -> {
+                    updateProgress(completed, total);
+                    updateMessage(reportName + " done (" + completed + "/" + total + ")");
+                });
+            }
+        };
+        
+        task.setOnSucceeded(e -> {
+            List<Path> files = task.getValue();
+            logger.logUserActivity(currentUser.getFullName(), "Exported all reports: " + files);
+            StringBuilder names = new StringBuilder();
+            for (Path file : files) {
+                names.append(file.getFileName()).append('\n');
+            }
+            showInfo("Export completed successfully!", "Files saved:\n" + names);
+            updateStatus("Exported " + files.size() + " file(s)");
+        });
+        task.setOnCancelled(e -> {
+            logger.logUserActivity(currentUser.getFullName(), "Cancelled report export");
+            updateStatus("Report export cancelled");
+        });
+        task.setOnFailed(e -> {
+            Throwable error = task.getException();
+            logger.logError("MAIN_APP", "Error during report bundle export: " + error.getMessage(), error);
+            showError("Export failed: " + error.getMessage());
+        });
+        
+        updateStatus("Exporting all reports...");
+        return task;
+    }
+    
     /**
      * Shows the settings view.
      */
@@ -546,6 +734,7 @@ public class MainApp extends Application {
     private void handleLogout(Stage primaryStage) {
         try {
             authService.logout();
+            stopDashboardScheduler();
             logger.logUserActivity(currentUser.getFullName(), "User logged out, returning to login screen");
             
             // Close current window
@@ -5,8 +5,6 @@ import com.mycompany.booknova.domain.Member;
 import com.mycompany.booknova.domain.Member.MembershipType;
 import com.mycompany.booknova.service.MemberService;
 import com.mycompany.booknova.service.impl.MemberServiceImpl;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -18,6 +16,7 @@ import javafx.scene.control.CheckBox;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Dialog;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.Region;
 import javafx.scene.control.Separator;
 import javafx.scene.control.TableCell;
@@ -31,6 +30,7 @@ import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 
 import java.time.LocalDate;
+import java.util.stream.Collectors;
 
 /**
  * Members management view.
@@ -43,17 +43,19 @@ public class MembersView {
     
     private final MemberService memberService;
     private final VBox mainLayout;
+    private final AsyncLoader loader = new AsyncLoader();
     private TableView<MemberTableModel> membersTable;
-    private ObservableList<MemberTableModel> membersList;
+    private final FilteredListModel<MemberTableModel> membersModel =
+        new FilteredListModel<>(MemberTableModel::getId, MemberTableModel::getSearchKey);
     private TextField searchField;
     private ComboBox<String> statusFilter;
     
     public MembersView() {
         this.memberService = new MemberServiceImpl();
         this.mainLayout = new VBox(15);
-        this.membersList = FXCollections.observableArrayList();
         
         initializeView();
+        loader.cancelWhenRemoved(mainLayout);
         loadMembers();
     }
     
@@ -95,10 +97,21 @@ public class MembersView {
         );
         addButton.setOnAction(e -> showAddMemberDialog());
         
-        header.getChildren().addAll(title, spacer, addButton);
+        header.getChildren().addAll(title, createLoadingIndicator(), spacer, addButton);
         return header;
     }
     
+    /**
+     * Creates a spinner that is shown while data is loading.
+     */
+    private ProgressIndicator createLoadingIndicator() {
+        ProgressIndicator indicator = new ProgressIndicator();
+        indicator.setPrefSize(24, 24);
+        indicator.visibleProperty().bind(loader.busyProperty());
+        indicator.managedProperty().bind(indicator.visibleProperty());
+        return indicator;
+    }
+    
     /**
      * Creates the search bar with filters.
      */
@@ -114,7 +127,7 @@ public class MembersView {
         searchField = new TextField();
         searchField.setPromptText("Search by name, member number, or document ID...");
         searchField.setPrefWidth(350);
-        searchField.textProperty().addListener((obs, oldVal, newVal) -> filterMembers());
+        searchField.textProperty().addListener((obs, oldVal, newVal) -> membersModel.setSearchText(newVal));
         
         Label statusLabel = new Label("Status:");
         statusLabel.setStyle("-fx-font-weight: bold;");
@@ -128,7 +141,7 @@ public class MembersView {
         clearButton.setOnAction(e -> {
             searchField.clear();
             statusFilter.setValue("All Members");
-            loadMembers();
+            membersModel.clearFilters();
         });
         
         searchBar.getChildren().addAll(
@@ -144,7 +157,7 @@ public class MembersView {
      */
     private TableView<MemberTableModel> createMembersTable() {
         TableView<MemberTableModel> table = new TableView<>();
-        table.setItems(membersList);
+        table.setItems(membersModel.getItems());
         table.setColumnResizePolicy(TableView.CONSTRAINED_RESIZE_POLICY);
         
         TableColumn<MemberTableModel, Long> idCol = new TableColumn<>("ID");
@@ -244,49 +257,40 @@ public class MembersView {
     
     /**
      * Loads all members from the service.
+     * Search and status filtering then work on this list without querying again.
      */
     private void loadMembers() {
-        try {
-            membersList.clear();
-            var members = memberService.getAllMembers();
-            for (Member member : members) {
-                membersList.add(new MemberTableModel(member));
-            }
-        } catch (Exception e) {
-            showError("Error loading members: " + e.getMessage());
-        }
+        loader.load("members",
+            () -> memberService.getAllMembers().stream()
+                .map(MemberTableModel::new)
+                .collect(Collectors.toList()),
+            membersModel::setAll,
+            e -> showError("Error loading members: " + e.getMessage()));
     }
     
     /**
-     * Filters members based on search criteria.
+     * Applies the status filter to the loaded members.
      */
     private void filterMembers() {
-        try {
-            String searchText = searchField.getText().toLowerCase();
-            String selectedStatus = statusFilter.getValue();
-            
-            membersList.clear();
-            var members = memberService.getAllMembers();
-            
-            for (Member member : members) {
-                boolean matchesSearch = searchText.isEmpty() ||
-                    member.getFullName().toLowerCase().contains(searchText) ||
-                    member.getMemberNumber().toLowerCase().contains(searchText) ||
-                    member.getDocumentId().toLowerCase().contains(searchText);
-                
-                boolean matchesStatus = selectedStatus.equals("All Members") ||
-                    (selectedStatus.equals("Active") && member.isActive()) ||
-                    (selectedStatus.equals("Inactive") && !member.isActive());
-                
-                if (matchesSearch && matchesStatus) {
-                    membersList.add(new MemberTableModel(member));
-                }
-            }
-        } catch (Exception e) {
-            showError("Error filtering members: " + e.getMessage());
+        String selectedStatus = statusFilter.getValue();
+        if ("Active".equals(selectedStatus)) {
+            membersModel.setFilter(MemberTableModel::getActive);
+        } else if ("Inactive".equals(selectedStatus)) {
+            membersModel.setFilter(member -> !member.getActive());
+        } else {
+            membersModel.setFilter(null);
         }
     }
     
+    /**
+     * Reloads one member after a change and updates its row.
+     */
+    private void refreshMember(Long id) {
+        loader.run(() -> memberService.findMemberById(id),
+            member -> membersModel.upsert(new MemberTableModel(member)),
+            e -> loadMembers());
+    }
+    
     /**
      * Shows the dialog to add a new member.
      */
@@ -308,15 +312,13 @@ public class MembersView {
             return null;
         });
         
-        dialog.showAndWait().ifPresent(member -> {
-            try {
-                memberService.registerMember(member);
-                showSuccess("Member registered successfully");
-                loadMembers();
-            } catch (Exception e) {
-                showError("Error registering member: " + e.getMessage());
-            }
-        });
+        dialog.showAndWait().ifPresent(member ->
+            loader.run(() -> memberService.registerMember(member),
+                registered -> {
+                    membersModel.upsert(new MemberTableModel(registered));
+                    showSuccess("Member registered successfully");
+                },
+                e -> showError("Error registering member: " + e.getMessage())));
     }
     
     /**
@@ -329,38 +331,41 @@ public class MembersView {
             return;
         }
         
-        try {
-            Member member = memberService.findMemberById(selected.getId());
-            
-            Alert alert = new Alert(Alert.AlertType.INFORMATION);
-            alert.setTitle("Member Details");
-            alert.setHeaderText(member.getFullName());
-            
-            String details = String.format(
-                "Member Number: %s\n" +
-                "Document ID: %s\n" +
-                "Email: %s\n" +
-                "Phone: %s\n" +
-                "Address: %s\n" +
-                "Membership Type: %s (Max %d loans)\n" +
-                "Registration Date: %s\n" +
-                "Status: %s",
-                member.getMemberNumber(),
-                member.getDocumentId(),
-                member.getEmail(),
-                member.getPhone(),
-                member.getAddress(),
-                member.getMembershipType(),
-                member.getMembershipType().getMaxLoans(),
-                member.getRegistrationDate(),
-                member.isActive() ? "Active" : "Inactive"
-            );
-            
-            alert.setContentText(details);
-            alert.showAndWait();
-        } catch (Exception e) {
-            showError("Error loading member details: " + e.getMessage());
-        }
+        loader.load("member", () -> memberService.findMemberById(selected.getId()),
+            this::showMemberDetails,
+            e -> showError("Error loading member details: " + e.getMessage()));
+    }
+    
+    /**
+     * Shows the details of a loaded member.
+     */
+    private void showMemberDetails(Member member) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("Member Details");
+        alert.setHeaderText(member.getFullName());
+        
+        String details = String.format(
+            "Member Number: %s\n" +
+            "Document ID: %s\n" +
+            "Email: %s\n" +
+            "Phone: %s\n" +
+            "Address: %s\n" +
+            "Membership Type: %s (Max %d loans)\n" +
+            "Registration Date: %s\n" +
+            "Status: %s",
+            member.getMemberNumber(),
+            member.getDocumentId(),
+            member.getEmail(),
+            member.getPhone(),
+            member.getAddress(),
+            member.getMembershipType(),
+            member.getMembershipType().getMaxLoans(),
+            member.getRegistrationDate(),
+            member.isActive() ? "Active" : "Inactive"
+        );
+        
+        alert.setContentText(details);
+        alert.showAndWait();
     }
     
     /**
@@ -373,12 +378,9 @@ public class MembersView {
             return;
         }
         
-        try {
-            Member member = memberService.findMemberById(selected.getId());
-            showEditMemberDialog(member);
-        } catch (Exception e) {
-            showError("Error loading member: " + e.getMessage());
-        }
+        loader.load("member", () -> memberService.findMemberById(selected.getId()),
+            this::showEditMemberDialog,
+            e -> showError("Error loading member: " + e.getMessage()));
     }
     
     /**
@@ -402,15 +404,13 @@ public class MembersView {
             return null;
         });
         
-        dialog.showAndWait().ifPresent(updatedMember -> {
-            try {
-                memberService.updateMember(updatedMember);
-                showSuccess("Member updated successfully");
-                loadMembers();
-            } catch (Exception e) {
-                showError("Error updating member: " + e.getMessage());
-            }
-        });
+        dialog.showAndWait().ifPresent(updatedMember ->
+            loader.run(() -> memberService.updateMember(updatedMember),
+                updated -> {
+                    membersModel.upsert(new MemberTableModel(updated));
+                    showSuccess("Member updated successfully");
+                },
+                e -> showError("Error updating member: " + e.getMessage())));
     }
     
     /**
@@ -529,18 +529,20 @@ public class MembersView {
             return;
         }
         
-        try {
-            if (selected.getActive()) {
-                memberService.deactivateMember(selected.getId());
-                showSuccess("Member deactivated successfully");
-            } else {
-                memberService.activateMember(selected.getId());
-                showSuccess("Member activated successfully");
-            }
-            loadMembers();
-        } catch (Exception e) {
-            showError("Error toggling member status: " + e.getMessage());
-        }
+        boolean deactivate = selected.getActive();
+        loader.run(() -> {
+                if (deactivate) {
+                    memberService.deactivateMember(selected.getId());
+                } else {
+                    memberService.activateMember(selected.getId());
+                }
+                return null;
+            },
+            done -> {
+                refreshMember(selected.getId());
+                showSuccess(deactivate ? "Member deactivated successfully" : "Member activated successfully");
+            },
+            e -> showError("Error toggling member status: " + e.getMessage()));
     }
     
     /**
@@ -560,13 +562,15 @@ public class MembersView {
         
         confirmAlert.showAndWait().ifPresent(response -> {
             if (response == ButtonType.OK) {
-                try {
-                    memberService.deleteMember(selected.getId());
-                    showSuccess("Member deleted successfully");
-                    loadMembers();
-                } catch (Exception e) {
-                    showError("Error deleting member: " + e.getMessage());
-                }
+                loader.run(() -> {
+                        memberService.deleteMember(selected.getId());
+                        return null;
+                    },
+                    done -> {
+                        membersModel.remove(selected.getId());
+                        showSuccess("Member deleted successfully");
+                    },
+                    e -> showError("Error deleting member: " + e.getMessage()));
             }
         });
     }
@@ -612,6 +616,7 @@ public class MembersView {
         private final String membershipType;
         private final String registrationDate;
         private final Boolean active;
+        private final String searchKey;
         
         public MemberTableModel(Member member) {
             this.id = member.getId();
@@ -623,6 +628,7 @@ public class MembersView {
             this.membershipType = member.getMembershipType().name();
             this.registrationDate = member.getRegistrationDate().toString();
             this.active = member.isActive();
+            this.searchKey = SearchText.key(fullName, memberNumber, documentId);
         }
         
         public Long getId() { return id; }
@@ -634,5 +640,6 @@ public class MembersView {
         public String getMembershipType() { return membershipType; }
         public String getRegistrationDate() { return registrationDate; }
         public Boolean getActive() { return active; }
+        public String getSearchKey() { return searchKey; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.mycompany.booknova.ui;
+
+import java.util.Locale;
+
+/**
+ * Text matching used by the list searches.
+ * Search keys are built once per row, lower-cased, so filtering on each
+ * keystroke only does a {@code contains} per row instead of lower-casing
+ * every field again.
+ * 
+ * @author LibroNova Team
+ * @version 1.0
+ */
+public final class SearchText {
+    
+    /**
+     * Separates fields in a key so a query never matches across two fields.
+     */
+    private static final char FIELD_SEPARATOR = '\u0000';
+    
+    private SearchText() {
+    }
+    
+    /**
+     * Builds the search key for a row from the fields that can be searched.
+     * 
+     * @param fields the searchable values; null values are skipped
+     * @return the lower-cased key
+     */
+    public static String key(String... fields) {
+        StringBuilder key = new StringBuilder();
+        for (String field : fields) {
+            if (field != null) {
+                if (key.length() > 0) {
+                    key.append(FIELD_SEPARATOR);
+                }
+                key.append(field.toLowerCase(Locale.ROOT));
+            }
+        }
+        return key.toString();
+    }
+    
+    /**
+     * Normalizes what the user typed for use with {@link #matches}.
+     * 
+     * @param query the raw search text, may be null
+     * @return the trimmed, lower-cased query
+     */
+    public static String normalize(String query) {
+        return query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Checks a row key against a normalized query. An empty query matches everything.
+     * 
+     * @param key the key built with {@link #key}
+     * @param query the query built with {@link #normalize}
+     * @return true if one of the fields contains the query
+     */
+    public static boolean matches(String key, String query) {
+        return query.isEmpty() || key.contains(query);
+    }
+}
@@ -0,0 +1,88 @@
+-- ============================================
+-- LibroNova schema for the embedded H2 backend
+-- Same tables as src/database.sql, without the MariaDB-only
+-- database and engine options. Runs in H2's MariaDB mode.
+-- ============================================
+
+-- ============================================
+-- TABLE: users
+-- System users (librarians, administrators)
+-- ============================================
+CREATE TABLE users (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    active BOOLEAN DEFAULT TRUE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- TABLE: books
+-- Book catalog
+-- ============================================
+CREATE TABLE books (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    isbn VARCHAR(20) NOT NULL UNIQUE,
+    title VARCHAR(255) NOT NULL,
+    author VARCHAR(200) NOT NULL,
+    publisher VARCHAR(200),
+    publication_year INT,
+    category VARCHAR(100) NOT NULL,
+    available_stock INT NOT NULL DEFAULT 0,
+    total_stock INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- TABLE: members
+-- Library members
+-- ============================================
+CREATE TABLE members (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_number VARCHAR(50) NOT NULL UNIQUE,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    document_id VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(100) NOT NULL,
+    phone VARCHAR(20),
+    address VARCHAR(255),
+    registration_date DATE NOT NULL,
+    active BOOLEAN DEFAULT TRUE,
+    membership_type VARCHAR(20) NOT NULL DEFAULT 'BASIC',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- ============================================
+-- TABLE: loans
+-- Book loan transactions
+-- ============================================
+CREATE TABLE loans (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id BIGINT NOT NULL,
+    book_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    loan_date DATE NOT NULL,
+    expected_return_date DATE NOT NULL,
+    actual_return_date DATE NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    penalty DECIMAL(10, 2) DEFAULT 0.00,
+    notes TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (member_id) REFERENCES members(id),
+    FOREIGN KEY (book_id) REFERENCES books(id),
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+-- ============================================
+-- Reference data: system users
+-- ============================================
+
+INSERT INTO users (username, password, first_name, last_name, email, role, active) VALUES
+('admin', 'admin123', 'System', 'Administrator', 'admin@libronova.com', 'ADMINISTRATOR', TRUE),
+('librarian1', 'lib123', 'María', 'González', 'maria.gonzalez@libronova.com', 'LIBRARIAN', TRUE),
+('librarian2', 'lib123', 'Carlos', 'Rodríguez', 'carlos.rodriguez@libronova.com', 'LIBRARIAN', TRUE),
+('assistant1', 'asst123', 'Ana', 'Martínez', 'ana.martinez@libronova.com', 'ASSISTANT', TRUE);
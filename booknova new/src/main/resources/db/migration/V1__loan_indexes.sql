@@ -0,0 +1,12 @@
+-- ============================================
+-- V1: Indexes for loan queries
+-- ============================================
+
+-- findOverdueLoans: WHERE status = 'ACTIVE' AND expected_return_date < CURDATE()
+CREATE INDEX IF NOT EXISTS idx_loans_status_due ON loans (status, expected_return_date);
+
+-- countActiveLoansByMember / findActiveLoansByMember: WHERE member_id = ? AND status = ...
+CREATE INDEX IF NOT EXISTS idx_loans_member_status ON loans (member_id, status);
+
+-- findAll / findByDateRange: ORDER BY loan_date, WHERE loan_date BETWEEN ? AND ?
+CREATE INDEX IF NOT EXISTS idx_loans_loan_date ON loans (loan_date);
@@ -0,0 +1,12 @@
+-- ============================================
+-- V2: Indexes for catalog and member listings
+-- ============================================
+
+-- findByCategory: WHERE category = ? ORDER BY title
+CREATE INDEX IF NOT EXISTS idx_books_category_title ON books (category, title);
+
+-- findAll on books: ORDER BY title
+CREATE INDEX IF NOT EXISTS idx_books_title ON books (title);
+
+-- findAll / findAllActive on members: ORDER BY first_name, last_name
+CREATE INDEX IF NOT EXISTS idx_members_name ON members (first_name, last_name);
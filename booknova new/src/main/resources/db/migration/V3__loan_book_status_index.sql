@@ -0,0 +1,6 @@
+-- ============================================
+-- V3: Index for loan criteria queries by book
+-- ============================================
+
+-- findByCriteria / streamByCriteria: WHERE l.book_id = ? AND l.status IN (...)
+CREATE INDEX IF NOT EXISTS idx_loans_book_status ON loans (book_id, status);
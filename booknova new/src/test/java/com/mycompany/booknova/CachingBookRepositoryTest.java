@@ -0,0 +1,151 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.BookRepository;
+import com.mycompany.booknova.repository.cache.CachingBookRepository;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the book cache.
+ * The underlying repository is mocked; the transaction test binds a connection
+ * of the embedded H2 backend.
+ */
+public class CachingBookRepositoryTest {
+
+    private BookRepository delegate;
+    private CachingBookRepository cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        delegate = mock(BookRepository.class);
+        cache = new CachingBookRepository(delegate, 2, 60_000);
+
+        when(delegate.findById(1L)).thenReturn(Optional.of(book(1L, "ISBN-1")));
+        when(delegate.findById(2L)).thenReturn(Optional.of(book(2L, "ISBN-2")));
+        when(delegate.findById(3L)).thenReturn(Optional.of(book(3L, "ISBN-3")));
+        when(delegate.findByIsbn("ISBN-1")).thenReturn(Optional.of(book(1L, "ISBN-1")));
+    }
+
+    @Test
+    void testFindById_CalledTwice_ShouldQueryOnce() throws Exception {
+        cache.findById(1L);
+        cache.findById(1L);
+
+        verify(delegate, times(1)).findById(1L);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    void testFindByIsbn_AfterFindById_ShouldBeServedFromCache() throws Exception {
+        cache.findById(1L);
+        Optional<Book> found = cache.findByIsbn("ISBN-1");
+
+        assertTrue(found.isPresent());
+        verify(delegate, never()).findByIsbn(anyString());
+    }
+
+    @Test
+    void testReturnedBook_WhenModified_ShouldNotChangeCache() throws Exception {
+        cache.findById(1L).get().setTitle("Changed");
+
+        assertEquals("Book 1", cache.findById(1L).get().getTitle());
+    }
+
+    @Test
+    void testUpdateAvailableStock_ShouldInvalidateEntry() throws Exception {
+        cache.findById(1L);
+        cache.updateAvailableStock(1L, 4);
+        cache.findById(1L);
+
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void testCacheFull_ShouldEvictLeastRecentlyUsed() throws Exception {
+        cache.findById(1L);
+        cache.findById(2L);
+        cache.findById(1L);
+        cache.findById(3L);
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+
+        cache.findById(2L);
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    @Test
+    void testStockUpdateInTransaction_ShouldInvalidateAfterCommit() throws Exception {
+        TransactionManager transactionManager = TransactionManager.getInstance();
+        transactionManager.begin();
+        try {
+            cache.decrementAvailableStockIfPositive(1L);
+            // Another thread still sees the committed row and caches it
+            CompletableFuture.runAsync(() -> findQuietly(1L)).get(5, TimeUnit.SECONDS);
+            assertEquals(1, cache.size());
+            transactionManager.commit();
+        } finally {
+            transactionManager.end();
+        }
+
+        assertEquals(0, cache.size());
+        CompletableFuture.runAsync(() -> findQuietly(1L)).get(5, TimeUnit.SECONDS);
+        verify(delegate, times(2)).findById(1L);
+    }
+
+    @Test
+    void testStockUpdateInTransaction_RolledBack_ShouldNotRunAfterCommit() throws Exception {
+        TransactionManager transactionManager = TransactionManager.getInstance();
+        transactionManager.begin();
+        try {
+            cache.incrementAvailableStock(1L);
+            CompletableFuture.runAsync(() -> findQuietly(1L)).get(5, TimeUnit.SECONDS);
+        } finally {
+            transactionManager.end();
+        }
+
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testFindById_InvalidatedWhileReading_ShouldNotCacheStaleRow() throws Exception {
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        when(delegate.findById(2L)).thenAnswer(invocation -> {
+            reading.countDown();
+            assertTrue(written.await(5, TimeUnit.SECONDS));
+            return Optional.of(book(2L, "ISBN-2"));
+        }).thenReturn(Optional.of(book(2L, "ISBN-2")));
+
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> findQuietly(2L));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        cache.updateAvailableStock(2L, 0);
+        written.countDown();
+        reader.get(5, TimeUnit.SECONDS);
+
+        assertEquals(0, cache.size());
+        cache.findById(2L);
+        verify(delegate, times(2)).findById(2L);
+    }
+
+    private void findQuietly(Long id) {
+        try {
+            cache.findById(id);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Book book(Long id, String isbn) {
+        return new Book(id, isbn, "Book " + id, "Author", "Publisher", 2020, "Fiction", 5, 5);
+    }
+}
@@ -0,0 +1,50 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.infra.config.ConnectionPool;
+import java.sql.Connection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of ConnectionPool against a private in-memory H2 database.
+ */
+public class ConnectionPoolTest {
+
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ConnectionPool("jdbc:h2:mem:pool-test;DB_CLOSE_DELAY=-1", "sa", "",
+                0, 1, 1000, 1, 0, 0, 0, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    void testRelease_ChangedSessionState_ShouldRestoreDefaults() throws Exception {
+        boolean readOnly;
+        int isolation;
+        String catalog;
+        try (Connection first = pool.getConnection()) {
+            readOnly = first.isReadOnly();
+            isolation = first.getTransactionIsolation();
+            catalog = first.getCatalog();
+
+            first.setReadOnly(!readOnly);
+            first.setTransactionIsolation(isolation == Connection.TRANSACTION_SERIALIZABLE
+                    ? Connection.TRANSACTION_READ_COMMITTED : Connection.TRANSACTION_SERIALIZABLE);
+        }
+
+        try (Connection second = pool.getConnection()) {
+            assertEquals(1, pool.getCreatedConnections());
+            assertEquals(readOnly, second.isReadOnly());
+            assertEquals(isolation, second.getTransactionIsolation());
+            assertEquals(catalog, second.getCatalog());
+        }
+    }
+}
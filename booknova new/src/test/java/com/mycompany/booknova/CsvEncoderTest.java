@@ -0,0 +1,82 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.service.reports.CsvEncoder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CSV encoder used by the report exports.
+ * Output goes to memory, so no files or database are required.
+ */
+public class CsvEncoderTest {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    private CsvEncoder encoder(int bufferSize) {
+        return new CsvEncoder(Channels.newChannel(output), bufferSize);
+    }
+
+    private String written() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testTypedFields_ShouldBeWrittenLikeToString() throws IOException {
+        try (CsvEncoder csv = encoder(CsvEncoder.DEFAULT_BUFFER_SIZE)) {
+            csv.field(42L).field("Clean Code").field(Integer.valueOf(2008))
+               .field(LocalDate.of(2024, 3, 5)).field(new BigDecimal("10.50")).endRow();
+            csv.field(-7L).field(Long.MIN_VALUE).field(new BigDecimal("-0.05"))
+               .field(new BigDecimal("1E+3")).field((Long) null).endRow();
+        }
+
+        assertEquals("42,Clean Code,2008,2024-03-05,10.50\n"
+                + "-7," + Long.MIN_VALUE + ",-0.05,1000,\n", written());
+    }
+
+    @Test
+    void testSpecialCharacters_ShouldBeQuoted() throws IOException {
+        try (CsvEncoder csv = encoder(CsvEncoder.DEFAULT_BUFFER_SIZE)) {
+            csv.field("Hunt, Andrew").field("The \"Good\" Parts").field("a\nb")
+               .field((String) null).field("plain").endRow();
+        }
+
+        assertEquals("\"Hunt, Andrew\",\"The \"\"Good\"\" Parts\",\"a\nb\",,plain\n", written());
+    }
+
+    @Test
+    void testNonAsciiText_ShouldBeEncodedAsUtf8() throws IOException {
+        String text = "Pérez, María € 📚";
+        try (CsvEncoder csv = encoder(CsvEncoder.DEFAULT_BUFFER_SIZE)) {
+            csv.field(text).endRow();
+        }
+
+        assertEquals("\"" + text + "\"\n", written());
+    }
+
+    @Test
+    void testSmallBuffer_ShouldFlushAndHandleFieldsLargerThanBuffer() throws IOException {
+        String large = "x".repeat(100) + ",\"" + "y".repeat(100);
+        long counted;
+        try (CsvEncoder csv = encoder(64)) {
+            for (int i = 0; i < 10; i++) {
+                csv.field(i).field("título " + i).endRow();
+            }
+            csv.field(large).endRow();
+            counted = csv.getBytesWritten();
+        }
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            expected.append(i).append(",título ").append(i).append('\n');
+        }
+        expected.append('"').append(large.replace("\"", "\"\"")).append("\"\n");
+        assertEquals(expected.toString(), written());
+        assertEquals(output.size(), counted);
+    }
+}
@@ -0,0 +1,176 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.DashboardStatistics;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.LoanReportRow;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.infra.config.ConnectionDB;
+import com.mycompany.booknova.infra.migration.MigrationRunner;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.LoanCriteria;
+import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.StatisticsRepositoryJdbc;
+import com.mycompany.booknova.service.LoanService;
+import com.mycompany.booknova.service.impl.LoanServiceImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests of the JDBC repositories against the embedded H2 backend,
+ * which the test JVM selects with {@code db.backend=h2}.
+ */
+public class H2BackendIntegrationTest {
+
+    private static final String DESIGN_PATTERNS_ISBN = "978-0-201-63361-0";
+    private static final String GREAT_GATSBY_ISBN = "978-0-7432-7356-5";
+    private static final long MEMBER_WITHOUT_LOANS = 7L;
+
+    @Test
+    void testBackend_ShouldBeEmbedded() {
+        assertTrue(ConnectionDB.getInstance().isEmbedded());
+        assertTrue(ConnectionDB.getInstance().testConnection());
+    }
+
+    @Test
+    void testFindByIsbn_SampleBook_ShouldBeFound() throws Exception {
+        Book book = new BookRepositoryJdbc().findByIsbn(DESIGN_PATTERNS_ISBN).orElseThrow();
+
+        assertEquals("Design Patterns", book.getTitle());
+        assertEquals(4, book.getTotalStock());
+    }
+
+    @Test
+    void testStreamReportRows_Overdue_ShouldComputeDaysOverdue() throws Exception {
+        List<LoanReportRow> rows = new ArrayList<>();
+        new LoanRepositoryJdbc().streamReportRows(new LoanCriteria().withOverdueOnly(), rows::add);
+
+        assertFalse(rows.isEmpty());
+        for (LoanReportRow row : rows) {
+            assertEquals(LoanStatus.ACTIVE, row.getStatus());
+            assertTrue(row.getDaysOverdue() > 0);
+        }
+    }
+
+    @Test
+    void testLoadDashboardStatistics_ShouldCountSampleData() throws Exception {
+        DashboardStatistics statistics = new StatisticsRepositoryJdbc().loadDashboardStatistics();
+
+        assertTrue(statistics.getTotalBooks() >= 20);
+        assertTrue(statistics.getActiveLoans() > 0);
+        assertTrue(statistics.getOverdueLoans() > 0);
+    }
+
+    @Test
+    void testMigrate_ShouldApplyScriptsOnce() throws Exception {
+        MigrationRunner runner = new MigrationRunner();
+        runner.migrate();
+
+        assertEquals(0, runner.migrate());
+    }
+
+    @Test
+    void testCreateAndReturnLoan_ShouldRestoreStock() throws Exception {
+        BookRepositoryJdbc books = new BookRepositoryJdbc();
+        Book book = books.findByIsbn(DESIGN_PATTERNS_ISBN).orElseThrow();
+        int stock = book.getAvailableStock();
+        LoanService loanService = new LoanServiceImpl();
+
+        Loan loan = loanService.createLoan(MEMBER_WITHOUT_LOANS, book.getId(), 1L);
+        assertEquals(stock - 1, books.findById(book.getId()).orElseThrow().getAvailableStock());
+
+        Loan returned = loanService.returnBook(loan.getId());
+        assertEquals(LoanStatus.RETURNED, returned.getStatus());
+        assertEquals(stock, books.findById(book.getId()).orElseThrow().getAvailableStock());
+    }
+
+    @Test
+    void testUpdate_StaleCopy_ShouldKeepCopiesLentSinceRead() throws Exception {
+        BookRepositoryJdbc books = new BookRepositoryJdbc();
+        Book original = books.findByIsbn(GREAT_GATSBY_ISBN).orElseThrow();
+        Book edited = books.findById(original.getId()).orElseThrow();
+        assertTrue(books.decrementAvailableStockIfPositive(original.getId()));
+
+        try {
+            edited.setTitle("The Great Gatsby (Annotated)");
+            edited.setTotalStock(original.getTotalStock() + 1);
+            Book updated = books.update(edited);
+
+            assertEquals(original.getAvailableStock(), updated.getAvailableStock());
+            assertEquals(original.getTotalStock() + 1, updated.getTotalStock());
+            assertEquals("The Great Gatsby (Annotated)", updated.getTitle());
+        } finally {
+            books.update(original);
+            books.incrementAvailableStock(original.getId());
+        }
+        assertEquals(original.getAvailableStock(), books.findById(original.getId()).orElseThrow().getAvailableStock());
+    }
+
+    @Test
+    void testReturnBook_Concurrently_ShouldPutCopyBackOnce() throws Exception {
+        BookRepositoryJdbc books = new BookRepositoryJdbc();
+        Book book = books.findByIsbn(DESIGN_PATTERNS_ISBN).orElseThrow();
+        int stock = book.getAvailableStock();
+        LoanService loanService = new LoanServiceImpl();
+        Loan loan = loanService.createLoan(MEMBER_WITHOUT_LOANS, book.getId(), 1L);
+
+        CyclicBarrier start = new CyclicBarrier(2);
+        Callable<Loan> returnLoan = () -> {
+            start.await(10, TimeUnit.SECONDS);
+            return loanService.returnBook(loan.getId());
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        int returned = 0;
+        int rejected = 0;
+        try {
+            for (Future<Loan> result : executor.invokeAll(List.of(returnLoan, returnLoan))) {
+                try {
+                    result.get();
+                    returned++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                    rejected++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, returned);
+        assertEquals(1, rejected);
+        assertEquals(stock, books.findById(book.getId()).orElseThrow().getAvailableStock());
+    }
+
+    @Test
+    void testCommit_NestedUnitNotCommitted_ShouldRollBackEverything() throws Exception {
+        BookRepositoryJdbc books = new BookRepositoryJdbc();
+        Book book = books.findByIsbn(GREAT_GATSBY_ISBN).orElseThrow();
+        TransactionManager transactionManager = TransactionManager.getInstance();
+
+        transactionManager.begin();
+        try {
+            transactionManager.begin();
+            try {
+                assertTrue(books.decrementAvailableStockIfPositive(book.getId()));
+                // The nested unit fails here and its caller swallows the error
+            } finally {
+                transactionManager.end();
+            }
+            assertThrows(DatabaseException.class, transactionManager::commit);
+        } finally {
+            transactionManager.end();
+        }
+        assertEquals(book.getAvailableStock(), books.findById(book.getId()).orElseThrow().getAvailableStock());
+    }
+}
@@ -0,0 +1,168 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.domain.Member.MembershipType;
+import com.mycompany.booknova.domain.User;
+import com.mycompany.booknova.domain.User.UserRole;
+import com.mycompany.booknova.exceptions.DatabaseException;
+import com.mycompany.booknova.exceptions.DuplicateIsbnException;
+import com.mycompany.booknova.infra.transaction.TransactionManager;
+import com.mycompany.booknova.repository.LoanCriteria;
+import com.mycompany.booknova.repository.memory.InMemoryBookRepository;
+import com.mycompany.booknova.repository.memory.InMemoryLoanRepository;
+import com.mycompany.booknova.repository.memory.InMemoryMemberRepository;
+import com.mycompany.booknova.repository.memory.InMemoryUserRepository;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the in-memory repositories.
+ */
+public class InMemoryRepositoryTest {
+
+    private InMemoryBookRepository books;
+    private InMemoryMemberRepository members;
+    private InMemoryUserRepository users;
+    private InMemoryLoanRepository loans;
+
+    @BeforeEach
+    void setUp() {
+        books = new InMemoryBookRepository();
+        members = new InMemoryMemberRepository();
+        users = new InMemoryUserRepository();
+        loans = new InMemoryLoanRepository(books, members, users);
+    }
+
+    @Test
+    void testSave_DuplicateIsbn_ShouldThrow() throws Exception {
+        books.save(book("ISBN-1", 1));
+
+        assertThrows(DuplicateIsbnException.class, () -> books.save(book("ISBN-1", 1)));
+        assertEquals(1, books.count());
+    }
+
+    @Test
+    void testUpdate_ChangedIsbn_ShouldMoveIndex() throws Exception {
+        Book saved = books.save(book("ISBN-1", 1));
+        saved.setIsbn("ISBN-2");
+        books.update(saved);
+
+        assertTrue(books.findByIsbn("ISBN-1").isEmpty());
+        assertEquals(saved.getId(), books.findByIsbn("ISBN-2").get().getId());
+        assertNotNull(books.save(book("ISBN-1", 1)).getId());
+    }
+
+    @Test
+    void testUpdate_StaleCopy_ShouldKeepLentCopies() throws Exception {
+        Book saved = books.save(book("ISBN-1", 3));
+        Book edited = books.findById(saved.getId()).orElseThrow();
+        books.decrementAvailableStockIfPositive(saved.getId());
+
+        edited.setTotalStock(4);
+        Book updated = books.update(edited);
+
+        assertEquals(3, updated.getAvailableStock());
+        assertEquals(4, updated.getTotalStock());
+    }
+
+    @Test
+    void testReturnedBook_WhenModified_ShouldNotChangeStoredBook() throws Exception {
+        Book saved = books.save(book("ISBN-1", 1));
+        books.findById(saved.getId()).get().setTitle("Changed");
+
+        assertEquals("Title ISBN-1", books.findById(saved.getId()).get().getTitle());
+    }
+
+    @Test
+    void testDecrementAvailableStock_Concurrently_ShouldNeverGoBelowZero() throws Exception {
+        Long bookId = books.save(book("ISBN-1", 50)).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                tasks.add(() -> books.decrementAvailableStockIfPositive(bookId));
+            }
+            int taken = 0;
+            for (Future<Boolean> result : executor.invokeAll(tasks)) {
+                if (result.get()) {
+                    taken++;
+                }
+            }
+
+            assertEquals(50, taken);
+            assertEquals(0, books.findById(bookId).get().getAvailableStock());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testLoan_ShouldJoinCurrentRelationsAndCountByMember() throws Exception {
+        Member member = members.save(member("MEM-1", "100"));
+        Book book = books.save(book("ISBN-1", 2));
+        User user = users.save(new User(null, "librarian", "secret", "Ana", "Lopez",
+                "ana@libronova.com", UserRole.LIBRARIAN, true));
+
+        loans.save(loan(member, book, user, LocalDate.now().minusDays(20)));
+        loans.save(loan(member, book, user, LocalDate.now().minusDays(1)));
+        member.setFirstName("Renamed");
+        members.update(member);
+
+        assertEquals(2, loans.countActiveLoansByMember(member.getId()));
+        assertEquals(1, loans.countOverdue());
+        List<Loan> overdue = loans.findByCriteria(new LoanCriteria().withOverdueOnly());
+        assertEquals(1, overdue.size());
+        assertEquals("Renamed", overdue.get(0).getMember().getFirstName());
+        assertThrows(DatabaseException.class, () -> members.save(member("MEM-2", "100")));
+    }
+
+    @Test
+    void testDecrementAvailableStock_TransactionNotCommitted_ShouldGiveCopyBack() throws Exception {
+        Book saved = books.save(book("ISBN-1", 2));
+        TransactionManager transactionManager = TransactionManager.getInstance();
+
+        transactionManager.begin();
+        try {
+            assertTrue(books.decrementAvailableStockIfPositive(saved.getId()));
+            // The loan insert fails after the copy was taken
+        } finally {
+            transactionManager.end();
+        }
+        assertEquals(2, books.findById(saved.getId()).orElseThrow().getAvailableStock());
+
+        transactionManager.begin();
+        try {
+            assertTrue(books.decrementAvailableStockIfPositive(saved.getId()));
+            transactionManager.commit();
+        } finally {
+            transactionManager.end();
+        }
+        assertEquals(1, books.findById(saved.getId()).orElseThrow().getAvailableStock());
+    }
+
+    private static Book book(String isbn, int stock) {
+        return new Book(null, isbn, "Title " + isbn, "Author", "Publisher", 2020, "Fiction", stock, stock);
+    }
+
+    private static Member member(String memberNumber, String documentId) {
+        return new Member(null, memberNumber, "First", "Last", documentId, "member@email.com",
+                null, null, LocalDate.now(), true, MembershipType.BASIC);
+    }
+
+    private static Loan loan(Member member, Book book, User user, LocalDate loanDate) {
+        return new Loan(null, member, book, user, loanDate, loanDate.plusDays(15), null,
+                LoanStatus.ACTIVE, BigDecimal.ZERO, null);
+    }
+}
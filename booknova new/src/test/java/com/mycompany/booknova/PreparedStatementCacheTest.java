@@ -0,0 +1,88 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.infra.config.PreparedStatementCache;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the per-connection statement cache.
+ * Statements are mocked, so no database connectivity is required.
+ */
+public class PreparedStatementCacheTest {
+
+    private AtomicLong hits;
+    private AtomicLong misses;
+    private PreparedStatementCache cache;
+    private Connection owner;
+
+    @BeforeEach
+    void setUp() {
+        hits = new AtomicLong();
+        misses = new AtomicLong();
+        cache = new PreparedStatementCache(2, hits, misses);
+        owner = mock(Connection.class);
+    }
+
+    @Test
+    void testSameSql_AfterClose_ShouldReuseStatement() throws Exception {
+        PreparedStatement physical = mock(PreparedStatement.class);
+
+        PreparedStatement first = cache.get("SELECT 1", owner, () -> physical);
+        first.close();
+        PreparedStatement second = cache.get("SELECT 1", owner, () -> mock(PreparedStatement.class));
+        second.executeQuery();
+
+        verify(physical).executeQuery();
+        verify(physical).clearParameters();
+        verify(physical, never()).close();
+        assertEquals(1, hits.get());
+        assertEquals(1, misses.get());
+        assertSame(owner, second.getConnection());
+    }
+
+    @Test
+    void testSameSql_WhileInUse_ShouldPrepareAnotherStatement() throws Exception {
+        PreparedStatement physical = mock(PreparedStatement.class);
+        PreparedStatement other = mock(PreparedStatement.class);
+
+        cache.get("SELECT 1", owner, () -> physical);
+        PreparedStatement second = cache.get("SELECT 1", owner, () -> other);
+        second.executeQuery();
+
+        verify(other).executeQuery();
+        assertSame(owner, second.getConnection());
+        assertEquals(2, misses.get());
+
+        second.close();
+        verify(other).close();
+        verify(physical, never()).close();
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testCacheFull_ShouldCloseEvictedStatement() throws Exception {
+        PreparedStatement evicted = mock(PreparedStatement.class);
+
+        cache.get("SELECT 1", owner, () -> evicted).close();
+        cache.get("SELECT 2", owner, () -> mock(PreparedStatement.class)).close();
+        cache.get("SELECT 3", owner, () -> mock(PreparedStatement.class)).close();
+
+        verify(evicted).close();
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void testClosedLease_ShouldRejectFurtherUse() throws Exception {
+        PreparedStatement lease = cache.get("SELECT 1", owner, () -> mock(PreparedStatement.class));
+        lease.close();
+
+        assertTrue(lease.isClosed());
+        assertThrows(SQLException.class, lease::executeQuery);
+    }
+}
@@ -0,0 +1,88 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.infra.monitoring.QueryRecord;
+import com.mycompany.booknova.infra.monitoring.QueryScope;
+import com.mycompany.booknova.infra.monitoring.QueryTracker;
+import com.mycompany.booknova.repository.jdbc.BookRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
+import com.mycompany.booknova.service.LoanService;
+import com.mycompany.booknova.service.impl.LoanServiceImpl;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query count guards for the JDBC repositories, run against the embedded H2
+ * backend. A failing guard means an N+1 query pattern was introduced.
+ */
+public class QueryCountingTest {
+
+    private static final String DESIGN_PATTERNS_ISBN = "978-0-201-63361-0";
+    private static final long MEMBER_WITHOUT_LOANS = 8L;
+
+    private final QueryTracker tracker = QueryTracker.getInstance();
+
+    @Test
+    void testFindAllLoans_ShouldRunOneQuery() throws Exception {
+        try (QueryScope scope = tracker.begin("findAll loans")) {
+            List<Loan> loans = new LoanRepositoryJdbc().findAll();
+
+            assertTrue(loans.size() > 1);
+            scope.assertAtMost(1);
+            QueryRecord query = scope.getStatements().get(0);
+            assertTrue(query.getSql().toUpperCase().contains("JOIN"), query.getSql());
+            assertEquals(loans.size(), query.getRowCount());
+            assertTrue(query.getExecuteNanos() > 0);
+            assertTrue(query.getFetchNanos() > 0);
+        }
+    }
+
+    @Test
+    void testFindOverdueLoans_ShouldRunOneQuery() throws Exception {
+        try (QueryScope scope = tracker.begin("findOverdueLoans")) {
+            List<Loan> loans = new LoanRepositoryJdbc().findOverdueLoans();
+
+            assertFalse(loans.isEmpty());
+            scope.assertAtMost(1);
+        }
+    }
+
+    @Test
+    void testAssertAtMost_NPlusOne_ShouldFailListingStatements() throws Exception {
+        LoanRepositoryJdbc loanRepository = new LoanRepositoryJdbc();
+        List<Loan> loans = loanRepository.findAll();
+        try (QueryScope scope = tracker.begin("findById per loan")) {
+            for (Loan loan : loans) {
+                loanRepository.findById(loan.getId());
+            }
+
+            assertEquals(loans.size(), scope.getQueryCount());
+            AssertionError error = assertThrows(AssertionError.class, () -> scope.assertAtMost(1));
+            assertTrue(error.getMessage().contains("findById per loan"));
+            assertTrue(error.getMessage().contains(scope.getStatements().get(1).getSql()));
+        }
+    }
+
+    @Test
+    void testCreateAndReturnLoan_ShouldRunBoundedQueries() throws Exception {
+        Book book = new BookRepositoryJdbc().findByIsbn(DESIGN_PATTERNS_ISBN).orElseThrow();
+        LoanService loanService = new LoanServiceImpl();
+        long before = tracker.getStatementCount();
+
+        try (QueryScope outer = tracker.begin("loan round trip")) {
+            Loan loan;
+            try (QueryScope create = tracker.begin("createLoan")) {
+                loan = loanService.createLoan(MEMBER_WITHOUT_LOANS, book.getId(), 1L);
+                create.assertAtMost(6);
+            }
+            try (QueryScope returnBook = tracker.begin("returnBook")) {
+                loanService.returnBook(loan.getId());
+                returnBook.assertAtMost(3);
+            }
+            assertTrue(outer.getQueryCount() > 2);
+            assertEquals(outer.getQueryCount(), tracker.getStatementCount() - before);
+        }
+    }
+}
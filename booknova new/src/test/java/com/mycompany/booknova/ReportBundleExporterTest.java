@@ -0,0 +1,130 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.service.reports.MockReportServiceImpl;
+import com.mycompany.booknova.service.reports.ReportBundleExporter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the concurrent report bundle export.
+ * Uses the mock report service, so no database connectivity is required.
+ */
+public class ReportBundleExporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testExport_ShouldWriteAllReportsAndNotifyProgress() throws Exception {
+        List<Integer> progress = new ArrayList<>();
+
+        List<Path> files = new ReportBundleExporter(new MockReportServiceImpl())
+                .export(directory, false, (name, completed, total) -> progress.add(completed));
+
+        assertEquals(4, files.size());
+        for (Path file : files) {
+            assertTrue(Files.size(file) > 0, file + " should not be empty");
+        }
+        assertEquals(List.of(1, 2, 3, 4), progress);
+    }
+
+    @Test
+    void testExportZipped_ShouldLeaveOnlyTheZipFile() throws Exception {
+        List<Path> files = new ReportBundleExporter(new MockReportServiceImpl())
+                .export(directory, true, null);
+
+        assertEquals(1, files.size());
+        assertEquals(files, listDirectory());
+
+        List<String> entries = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(Files.newInputStream(files.get(0)))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+            }
+        }
+        assertEquals(4, entries.size());
+        assertTrue(entries.stream().allMatch(name -> name.endsWith(".csv")));
+    }
+
+    @Test
+    void testFailingReport_ShouldDeleteEveryFileAndRethrow() throws Exception {
+        MockReportServiceImpl failingService = new MockReportServiceImpl() {
+            @Override
+            public boolean exportMembersToCSv(String filePath) throws IOException {
+                Files.writeString(Path.of(filePath), "partial");
+                throw new IOException("Disk full");
+            }
+        };
+
+        IOException error = assertThrows(IOException.class,
+                () -> new ReportBundleExporter(failingService).export(directory, true, null));
+
+        assertEquals("Disk full", error.getMessage());
+        assertTrue(listDirectory().isEmpty());
+    }
+
+    @Test
+    void testFailingReport_ShouldWaitForSlowReportBeforeDeleting() throws Exception {
+        CountDownLatch slowStarted = new CountDownLatch(1);
+        AtomicBoolean slowStopped = new AtomicBoolean();
+        MockReportServiceImpl service = new MockReportServiceImpl() {
+            @Override
+            public boolean exportBookCatalogToCsv(String filePath) throws IOException {
+                slowStarted.countDown();
+                try {
+                    Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+                } catch (InterruptedException e) {
+                    // Still flushing its file after the interrupt, like a report mid-row
+                    sleepUninterruptibly(200);
+                    Files.writeString(Path.of(filePath), "late rows");
+                }
+                slowStopped.set(true);
+                return true;
+            }
+
+            @Override
+            public boolean exportMembersToCSv(String filePath) throws IOException {
+                try {
+                    assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Disk full");
+            }
+        };
+
+        assertThrows(IOException.class, () -> new ReportBundleExporter(service).export(directory, false, null));
+
+        assertTrue(slowStopped.get(), "export returned while a report was still running");
+        assertTrue(listDirectory().isEmpty());
+    }
+
+    private static void sleepUninterruptibly(long millis) {
+        long end = System.currentTimeMillis() + millis;
+        while (System.currentTimeMillis() < end) {
+            try {
+                Thread.sleep(Math.max(1, end - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                // Keep sleeping
+            }
+        }
+    }
+
+    private List<Path> listDirectory() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.toList();
+        }
+    }
+}
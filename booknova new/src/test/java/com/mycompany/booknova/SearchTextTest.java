@@ -0,0 +1,34 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.ui.SearchText;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the search key matching used by the list views.
+ */
+public class SearchTextTest {
+
+    @Test
+    void testMatches_IgnoresCaseAndSurroundingSpaces() {
+        String key = SearchText.key("Cien Años de Soledad", "Gabriel García Márquez", "978-0307474728");
+
+        assertTrue(SearchText.matches(key, SearchText.normalize("  SOLEDAD ")));
+        assertTrue(SearchText.matches(key, SearchText.normalize("garcía")));
+        assertTrue(SearchText.matches(key, SearchText.normalize("0307474728")));
+        assertFalse(SearchText.matches(key, SearchText.normalize("borges")));
+    }
+
+    @Test
+    void testMatches_ShouldNotSpanFields() {
+        String key = SearchText.key("Dune", "Frank Herbert");
+
+        assertFalse(SearchText.matches(key, SearchText.normalize("dune frank")));
+    }
+
+    @Test
+    void testEmptyQuery_ShouldMatchEverything() {
+        assertTrue(SearchText.matches(SearchText.key("Any", null), SearchText.normalize(null)));
+        assertTrue(SearchText.matches(SearchText.key(), SearchText.normalize("")));
+    }
+}
@@ -0,0 +1,100 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.infra.monitoring.QueryStatistics;
+import com.mycompany.booknova.infra.monitoring.QueryTracker;
+import com.mycompany.booknova.infra.monitoring.SlowQueryLog;
+import com.mycompany.booknova.repository.jdbc.LoanRepositoryJdbc;
+import com.mycompany.booknova.repository.jdbc.UserRepositoryJdbc;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of SlowQueryLog against the embedded H2 backend.
+ */
+public class SlowQueryLogTest {
+
+    private final LoanRepositoryJdbc loanRepository = new LoanRepositoryJdbc();
+    private final List<String> slow = new ArrayList<>();
+    private final List<String> sampled = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        QueryTracker.getInstance().setSlowQueryLog(null);
+    }
+
+    @Test
+    void testRecord_AboveThreshold_ShouldLogSqlParametersCallerAndRows() throws Exception {
+        install(0, 0);
+        Loan loan = loanRepository.findAll().get(0);
+
+        loanRepository.findById(loan.getId());
+
+        String entry = slow.get(slow.size() - 1);
+        assertTrue(entry.contains("LoanRepositoryJdbc.findById:"), entry);
+        assertTrue(entry.contains("WHERE l.id = ?"), entry);
+        assertTrue(entry.contains("parameters [" + loan.getId() + "]"), entry);
+        assertTrue(entry.contains(", 1 rows"), entry);
+        assertTrue(entry.contains("p99="), entry);
+        assertTrue(sampled.isEmpty());
+    }
+
+    @Test
+    void testRecord_ValidateCredentials_ShouldMaskPassword() throws Exception {
+        install(0, 0);
+
+        new UserRepositoryJdbc().validateCredentials("admin", "not-the-password-42");
+
+        String entry = slow.get(slow.size() - 1);
+        assertTrue(entry.contains("UserRepositoryJdbc.validateCredentials:"), entry);
+        assertTrue(entry.contains("parameters ['***', '***']"), entry);
+        assertFalse(entry.contains("not-the-password-42"), entry);
+    }
+
+    @Test
+    void testRecord_BelowThreshold_ShouldOnlySample() throws Exception {
+        SlowQueryLog log = install(60_000, 2);
+        Loan loan = loanRepository.findAll().get(0);
+
+        for (int i = 0; i < 5; i++) {
+            loanRepository.findById(loan.getId());
+        }
+
+        assertTrue(slow.isEmpty());
+        assertEquals(0, log.getSlowCount());
+        assertEquals(3, sampled.size());
+    }
+
+    @Test
+    void testGetStatistics_ShouldAggregatePerStatement() throws Exception {
+        SlowQueryLog log = install(60_000, 0);
+        Loan loan = loanRepository.findAll().get(0);
+
+        for (int i = 0; i < 20; i++) {
+            loanRepository.findById(loan.getId());
+        }
+
+        QueryStatistics findById = log.getStatistics().stream()
+                .filter(stats -> stats.getSql().contains("WHERE l.id = ?"))
+                .findFirst().orElseThrow();
+        assertEquals(20, findById.getCount());
+        assertTrue(findById.getPercentileNanos(50) > 0);
+        assertTrue(findById.getPercentileNanos(50) <= findById.getPercentileNanos(99));
+        assertTrue(findById.getPercentileNanos(99) <= findById.getMaxNanos());
+        assertEquals(2, log.getStatistics().size());
+    }
+
+    private SlowQueryLog install(long thresholdMs, int sampleRate) {
+        SlowQueryLog log = new SlowQueryLog(thresholdMs, sampleRate) {
+            @Override
+            protected void write(boolean isSlow, String message) {
+                (isSlow ? slow : sampled).add(message);
+            }
+        };
+        QueryTracker.getInstance().setSlowQueryLog(log);
+        return log;
+    }
+}
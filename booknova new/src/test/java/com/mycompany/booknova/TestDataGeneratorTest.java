@@ -0,0 +1,113 @@
+package com.mycompany.booknova;
+
+import com.mycompany.booknova.domain.Book;
+import com.mycompany.booknova.domain.Loan;
+import com.mycompany.booknova.domain.Loan.LoanStatus;
+import com.mycompany.booknova.domain.Member;
+import com.mycompany.booknova.infra.datagen.BulkLoadWriter;
+import com.mycompany.booknova.infra.datagen.TestDataGenerator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TestDataGenerator and BulkLoadWriter.
+ */
+public class TestDataGeneratorTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+    private static final int BOOKS = 2_000;
+    private static final int MEMBERS = 500;
+    private static final int LOANS = 40_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testGenerate_SameSeed_ShouldGiveSameRows() throws Exception {
+        assertEquals(describe(new TestDataGenerator(7, BOOKS, MEMBERS, LOANS, TODAY)),
+                describe(new TestDataGenerator(7, BOOKS, MEMBERS, LOANS, TODAY)));
+        assertNotEquals(describe(new TestDataGenerator(7, BOOKS, MEMBERS, LOANS, TODAY)),
+                describe(new TestDataGenerator(8, BOOKS, MEMBERS, LOANS, TODAY)));
+    }
+
+    @Test
+    void testGenerateLoans_ShouldBeConsistentWithStock() throws Exception {
+        TestDataGenerator generator = new TestDataGenerator(42, BOOKS, MEMBERS, LOANS, TODAY);
+        int[] activeByBook = new int[BOOKS];
+        int[] loansByBook = new int[BOOKS];
+        int[] overdue = {0};
+        generator.generateLoans(loan -> {
+            int book = (int) (loan.getBook().getId() - 1);
+            loansByBook[book]++;
+            if (loan.getStatus() == LoanStatus.ACTIVE) {
+                activeByBook[book]++;
+                if (loan.getExpectedReturnDate().isBefore(TODAY)) {
+                    overdue[0]++;
+                }
+            } else {
+                assertNotNull(loan.getActualReturnDate());
+            }
+        });
+
+        int[] index = {0};
+        generator.generateBooks(book -> {
+            int i = index[0]++;
+            assertEquals(book.getTotalStock() - activeByBook[i], book.getAvailableStock());
+            assertTrue(book.getAvailableStock() >= 0);
+        });
+        assertTrue(overdue[0] > 0);
+
+        // Zipf: the most borrowed 1% of books take a large share of the loans
+        Arrays.sort(loansByBook);
+        long top = 0;
+        for (int i = BOOKS - BOOKS / 100; i < BOOKS; i++) {
+            top += loansByBook[i];
+        }
+        assertTrue(top > LOANS / 4, "Top 1% of books had " + top + " loans");
+    }
+
+    @Test
+    void testGenerateMembers_ShouldUseAccentedSpanishNames() throws Exception {
+        List<Member> members = new ArrayList<>();
+        new TestDataGenerator(42, 10, 200, 0, TODAY).generateMembers(members::add);
+
+        assertEquals(200, members.stream().map(Member::getDocumentId).distinct().count());
+        assertTrue(members.stream().anyMatch(m -> !m.getFirstName().chars().allMatch(c -> c < 128)));
+        assertTrue(members.stream().allMatch(m -> m.getEmail().chars().allMatch(c -> c < 128)));
+    }
+
+    @Test
+    void testBulkLoadWriter_ShouldWriteCsvFilesAndScript() throws Exception {
+        TestDataGenerator generator = new TestDataGenerator(42, 100, 50, 1_000, TODAY);
+
+        long rows = new BulkLoadWriter().write(generator, tempDir);
+
+        assertEquals(1_150, rows);
+        List<String> books = Files.readAllLines(tempDir.resolve(BulkLoadWriter.BOOKS_FILE), StandardCharsets.UTF_8);
+        assertEquals(101, books.size());
+        assertTrue(books.get(1).startsWith("1,978-84-0000001-"));
+        assertEquals(1_001, Files.readAllLines(tempDir.resolve(BulkLoadWriter.LOANS_FILE)).size());
+        String script = Files.readString(tempDir.resolve(BulkLoadWriter.SCRIPT_FILE));
+        assertTrue(script.contains("LOAD DATA LOCAL INFILE"));
+        assertTrue(script.contains("NULLIF(@actual_return_date, '')"));
+    }
+
+    private static String describe(TestDataGenerator generator) throws Exception {
+        StringBuilder rows = new StringBuilder();
+        generator.generateBooks((Book book) -> rows.append(book.getIsbn()).append(book.getTitle())
+                .append(book.getAvailableStock()).append('\n'));
+        generator.generateMembers((Member member) -> rows.append(member.getFirstName())
+                .append(member.getLastName()).append(member.getMembershipType()).append('\n'));
+        generator.generateLoans((Loan loan) -> rows.append(loan.getBook().getId()).append(loan.getMember().getId())
+                .append(loan.getStatus()).append(loan.getPenalty()).append('\n'));
+        return rows.toString();
+    }
+}